@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,41 +53,40 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
         /**
          * 특정 행정구역의 상위 관리자 찾기
          * 예: 역삼동(1168010100)의 상위 관리자 = 강남구(11680000) 관리자
+         * 행정구역의 sido_code/sigungu_code 인덱스(idx_adm_region)로 조회
          */
-        @Query(value = """
-                        SELECT a.* FROM admin a
-                        JOIN users u ON a.user_id = u.user_id
-                        JOIN administrative_division ad ON a.adm_code = ad.adm_code
-                        WHERE a.adm_code IN (
-                            -- 시/도 레벨 (앞 2자리)
-                            CAST(SUBSTRING(LPAD(:targetCode, 10, '0'), 1, 2) * 100000000 AS UNSIGNED),
-                            -- 시/군/구 레벨 (앞 4자리)
-                            CAST(SUBSTRING(LPAD(:targetCode, 10, '0'), 1, 4) * 1000000 AS UNSIGNED),
-                            -- 읍/면/동 레벨 (앞 7자리)
-                            CAST(SUBSTRING(LPAD(:targetCode, 10, '0'), 1, 7) * 1000 AS UNSIGNED)
-                        )
-                        AND a.admin_level != 'DISTRICT'
-                        ORDER BY a.admin_level ASC
-                        """, nativeQuery = true)
+        @Query("""
+                        SELECT a FROM Admin a
+                        JOIN FETCH a.user
+                        JOIN FETCH a.administrativeDivision ad
+                        JOIN AdministrativeDivision t ON t.admCode = :targetCode
+                        WHERE a.adminLevel <> com.aicc.silverlink.domain.admin.entity.Admin.AdminLevel.DISTRICT
+                        AND ad.sidoCode = t.sidoCode
+                        AND (ad.level = com.aicc.silverlink.domain.system.entity.AdministrativeDivision.DivisionLevel.SIDO
+                             OR (ad.level = com.aicc.silverlink.domain.system.entity.AdministrativeDivision.DivisionLevel.SIGUNGU
+                                 AND ad.sigunguCode = t.sigunguCode))
+                        ORDER BY a.adminLevel ASC
+                        """)
         List<Admin> findSupervisors(@Param("targetCode") Long targetCode);
 
         /**
          * 특정 관리자의 하위 관리자들 조회
          * 예: 강남구 관리자의 하위 = 역삼동, 삼성동 등의 관리자들
+         * sidoCode/sigunguCode 가 null 이면 해당 조건을 적용하지 않음 (전국/시도 관리자)
          */
         @Query("""
                         SELECT a FROM Admin a
                         JOIN FETCH a.user
                         JOIN FETCH a.administrativeDivision ad
-                        WHERE a.adminLevel > :level
-                        AND FUNCTION('SUBSTRING', FUNCTION('LPAD', CAST(ad.admCode AS string), 10, '0'), 1, :codeLength)
-                            = FUNCTION('SUBSTRING', FUNCTION('LPAD', CAST(:baseCode AS string), 10, '0'), 1, :codeLength)
+                        WHERE a.adminLevel IN :levels
+                        AND (:sidoCode IS NULL OR ad.sidoCode = :sidoCode)
+                        AND (:sigunguCode IS NULL OR ad.sigunguCode = :sigunguCode)
                         ORDER BY a.adminLevel ASC, ad.admCode ASC
                         """)
         List<Admin> findSubordinates(
-                        @Param("level") AdminLevel level,
-                        @Param("baseCode") Long baseCode,
-                        @Param("codeLength") int codeLength);
+                        @Param("levels") Collection<AdminLevel> levels,
+                        @Param("sidoCode") String sidoCode,
+                        @Param("sigunguCode") String sigunguCode);
 
         /**
          * 관리자 존재 여부 확인
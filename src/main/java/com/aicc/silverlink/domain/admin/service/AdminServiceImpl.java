@@ -6,6 +6,7 @@ import com.aicc.silverlink.domain.admin.dto.response.AdminResponse;
 import com.aicc.silverlink.domain.admin.entity.Admin;
 import com.aicc.silverlink.domain.admin.entity.Admin.AdminLevel;
 import com.aicc.silverlink.domain.admin.repository.AdminRepository;
+import com.aicc.silverlink.domain.notification.service.AdminRecipientCache;
 import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
 import com.aicc.silverlink.domain.system.repository.AdministrativeDivisionRepository;
 import com.aicc.silverlink.domain.user.entity.User;
@@ -15,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,7 @@ public class AdminServiceImpl implements AdminService {
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
     private final AdministrativeDivisionRepository divisionRepository;
+    private final AdminRecipientCache adminRecipientCache;
 
     /**
      * 관리자 생성
@@ -61,6 +64,7 @@ public class AdminServiceImpl implements AdminService {
                 .build();
 
         Admin savedAdmin = adminRepository.save(admin);
+        adminRecipientCache.evict();
         log.info("관리자 생성 완료 - userId: {}, level: {}",
                 savedAdmin.getUserId(), savedAdmin.getAdminLevel());
 
@@ -138,11 +142,19 @@ public class AdminServiceImpl implements AdminService {
         Admin admin = adminRepository.findByIdWithUser(adminUserId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관리자입니다."));
 
-        return adminRepository.findSubordinates(
-                        admin.getAdminLevel(),
-                        admin.getAdmCode(),
-                        admin.getAdminLevel().getCodeLength()
-                ).stream()
+        AdminLevel level = admin.getAdminLevel();
+        List<AdminLevel> lowerLevels = Arrays.stream(AdminLevel.values())
+                .filter(l -> l.ordinal() > level.ordinal())
+                .toList();
+        if (lowerLevels.isEmpty()) {
+            return List.of();
+        }
+
+        AdministrativeDivision division = admin.getAdministrativeDivision();
+        String sidoCode = level == AdminLevel.NATIONAL ? null : division.getSidoCode();
+        String sigunguCode = level == AdminLevel.CITY ? division.getSigunguCode() : null;
+
+        return adminRepository.findSubordinates(lowerLevels, sidoCode, sigunguCode).stream()
                 .map(AdminResponse::from)
                 .collect(Collectors.toList());
     }
@@ -201,6 +213,7 @@ public class AdminServiceImpl implements AdminService {
         }
 
         adminRepository.deleteById(userId);
+        adminRecipientCache.evict();
         log.info("관리자 삭제 완료 - userId: {}", userId);
     }
 }
\ No newline at end of file
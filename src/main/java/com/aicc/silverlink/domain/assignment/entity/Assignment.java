@@ -9,7 +9,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "assignments")
+@Table(name = "assignments",
+        indexes = {
+                // 통화 목록의 담당 여부 EXISTS (어르신 + 상담사 + 상태)
+                @Index(name = "idx_assignments_elderly_counselor_status",
+                        columnList = "elderly_user_id, counselor_user_id, status")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
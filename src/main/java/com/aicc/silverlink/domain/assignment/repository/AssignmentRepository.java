@@ -47,6 +47,10 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
             "AND a.status = 'ACTIVE'")
     Optional<Assignment> findActiveByElderlyId(@Param("elderlyId") Long elderlyId);
 
+    // 어르신을 담당 중인 상담사 ID (통화 건수 캐시 무효화용 - 엔티티 로딩 없이 ID만)
+    @Query("SELECT a.counselor.id FROM Assignment a WHERE a.elderly.id = :elderlyId AND a.status = 'ACTIVE'")
+    List<Long> findActiveCounselorIdsByElderlyId(@Param("elderlyId") Long elderlyId);
+
     // ===== AssignmentRepository.java에 추가 =====
     // 파일 위치: com.aicc.silverlink.domain.assignment.repository.AssignmentRepository
 
@@ -70,12 +74,6 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     @Query("SELECT COUNT(a) FROM Assignment a WHERE a.counselor.id = :counselorId AND a.status = 'ACTIVE'")
     int countActiveByCounselorId(@Param("counselorId") Long counselorId);
 
-    /**
-     * ✅ 전체 활성 배정 조회 (Fetch Join)
-     */
-    @Query("SELECT a FROM Assignment a JOIN FETCH a.counselor c JOIN FETCH c.user JOIN FETCH a.elderly e WHERE a.status = com.aicc.silverlink.domain.assignment.entity.AssignmentStatus.ACTIVE")
-    List<Assignment> findAllActiveWithDetails();
-
     /**
      * ✅ 회원 탈퇴 시 호출: 상담사 기준 배정 데이터 삭제
      */
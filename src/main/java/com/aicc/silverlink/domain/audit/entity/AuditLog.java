@@ -1,6 +1,7 @@
 package com.aicc.silverlink.domain.audit.entity;
 
 import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.common.entity.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class AuditLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "audit_logs")
+    @TableGenerator(name = "audit_logs", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "audit_logs", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "audit_log_id")
     private Long id;
 
@@ -6,6 +6,7 @@ import com.aicc.silverlink.domain.auth.service.WebAuthnService;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
 import com.aicc.silverlink.global.config.auth.AuthPolicyProperties;
+import com.aicc.silverlink.global.security.ratelimit.ClientIpResolver;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -32,6 +33,7 @@ public class PasskeyController {
     private final AuthService authService;
     private final AuthPolicyProperties props;
     private final UserRepository userRepository;
+    private final ClientIpResolver clientIpResolver;
 
     // ✅ 보안 강화: userId를 요청에서 받지 않고 인증 정보에서 추출
     public record StartRegReq() {
@@ -68,6 +70,20 @@ public class PasskeyController {
         webAuthnService.finishRegistration(userId, req.requestId(), req.credentialJson(), userId);
     }
 
+    @DeleteMapping("/credentials/{credentialId}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+        summary = "Passkey 폐기 (인증 필요)",
+        description = "본인 계정에 등록된 Passkey를 폐기합니다. 폐기된 Passkey로는 로그인할 수 없습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public void revoke(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String credentialId
+    ) {
+        webAuthnService.revokeCredential(userId, credentialId);
+    }
+
     public record StartLoginReq(String loginId) {
     }
 
@@ -75,8 +91,9 @@ public class PasskeyController {
     }
 
     @PostMapping("/login/options")
-    public WebAuthnService.StartAuthResponse startLogin(@RequestBody StartLoginReq req) throws JsonProcessingException {
-        return webAuthnService.startAssertion(req.loginId());
+    public WebAuthnService.StartAuthResponse startLogin(@RequestBody StartLoginReq req, HttpServletRequest http)
+            throws JsonProcessingException {
+        return webAuthnService.startAssertion(req.loginId(), clientIpResolver.resolve(http));
     }
 
     /**
@@ -87,7 +104,8 @@ public class PasskeyController {
             @Valid @RequestBody FinishLoginReq req,
             HttpServletRequest http,
             HttpServletResponse res) {
-        Long userId = webAuthnService.finishAssertion(req.requestId(), req.credentialJson());
+        Long userId = webAuthnService.finishAssertion(req.requestId(), req.credentialJson(),
+                clientIpResolver.resolve(http));
         AuthService.AuthResult result = authService.issueForUser(userId, http);
 
         // 사용자 정보 조회
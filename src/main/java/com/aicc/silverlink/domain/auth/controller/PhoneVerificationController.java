@@ -2,6 +2,7 @@ package com.aicc.silverlink.domain.auth.controller;
 
 import com.aicc.silverlink.domain.auth.dto.PhoneVerificationDtos;
 import com.aicc.silverlink.domain.auth.service.PhoneVerificationService;
+import com.aicc.silverlink.global.security.ratelimit.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -20,23 +21,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class PhoneVerificationController {
 
     private final PhoneVerificationService service;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/request")
     public PhoneVerificationDtos.RequestCodeResponse request(
             @Valid @RequestBody PhoneVerificationDtos.RequestCodeRequest req,
             HttpServletRequest http) {
-        return service.requestCode(req, ip(http));
+        return service.requestCode(req, clientIpResolver.resolve(http));
     }
 
     @PostMapping("/verify")
     public PhoneVerificationDtos.VerifyCodeResponse verify(
             @Valid @RequestBody PhoneVerificationDtos.VerifyCodeRequest req,
             HttpServletRequest http) {
-        return service.verifyCode(req, ip(http));
-    }
-
-    private String ip(HttpServletRequest r) {
-        String xff = r.getHeader("X-Forwarded-For");
-        return (xff != null && !xff.isBlank() ? xff.split(",")[0].trim() : r.getRemoteAddr());
+        return service.verifyCode(req, clientIpResolver.resolve(http));
     }
 }
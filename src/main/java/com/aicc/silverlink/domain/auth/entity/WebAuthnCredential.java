@@ -72,4 +72,10 @@ public class WebAuthnCredential {
         this.signCount = newSignCount;
         this.lastUsedAt = LocalDateTime.now();
     }
+
+    public void revoke() {
+        if (this.revokedAt == null) {
+            this.revokedAt = LocalDateTime.now();
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.aicc.silverlink.domain.auth.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Passkey 로그인에 필요한 사용자-자격증명 매핑 스냅샷
+ */
+public record PasskeyAccount(Long userId, String loginId, List<Credential> credentials) {
+
+    public record Credential(String credentialId, byte[] publicKey, long signCount) {
+    }
+
+    public Optional<Credential> findCredential(String credentialId) {
+        return credentials.stream()
+                .filter(c -> c.credentialId().equals(credentialId))
+                .findFirst();
+    }
+
+    /**
+     * 서명 카운터만 바뀐 사본
+     */
+    public PasskeyAccount withSignCount(String credentialId, long signCount) {
+        List<Credential> updated = credentials.stream()
+                .map(c -> c.credentialId().equals(credentialId)
+                        ? new Credential(c.credentialId(), c.publicKey(), signCount)
+                        : c)
+                .toList();
+        return new PasskeyAccount(userId, loginId, updated);
+    }
+}
@@ -0,0 +1,162 @@
+package com.aicc.silverlink.domain.auth.repository;
+
+import com.aicc.silverlink.domain.auth.entity.WebAuthnCredential;
+import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Passkey 사용자-자격증명 매핑 캐시
+ * Yubico 라이브러리는 한 번의 로그인 중에도 CredentialRepository 콜백을 여러 번 호출하므로
+ * - 요청 단위 memo: 같은 요청 안에서는 DB를 한 번만 조회
+ * - 공유 캐시(TTL): 로그인 옵션 요청 → 검증 요청 사이의 재조회를 생략
+ * 등록/폐기 시 evict, 로그인 성공 시 서명 카운터를 캐시에도 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PasskeyCredentialCache {
+
+    /**
+     * 공유 캐시 유효 시간. 다른 인스턴스에서 폐기된 Passkey는 최대 이 시간만큼 늦게 반영됨
+     */
+    static final long TTL_MILLIS = 30_000;
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final String MEMO_ATTRIBUTE = PasskeyCredentialCache.class.getName() + ".memo";
+
+    private final UserRepository userRepo;
+    private final WebAuthnCredentialRepository credRepo;
+
+    private final Map<Long, CachedAccount> byUserId = new ConcurrentHashMap<>();
+    private final Map<String, Long> userIdByLoginId = new ConcurrentHashMap<>();
+
+    private record CachedAccount(PasskeyAccount account, long loadedAt) {
+        boolean isFresh(long now) {
+            return now - loadedAt < TTL_MILLIS;
+        }
+    }
+
+    public Optional<PasskeyAccount> findByLoginId(String loginId) {
+        return memoize("login:" + loginId, () -> {
+            Long userId = userIdByLoginId.get(loginId);
+            PasskeyAccount cached = userId == null ? null : getFresh(userId);
+            if (cached != null && cached.loginId().equals(loginId)) {
+                return Optional.of(cached);
+            }
+            return load(credRepo.findActiveWithUserByLoginId(loginId),
+                    () -> userRepo.findByLoginId(loginId));
+        });
+    }
+
+    public Optional<PasskeyAccount> findByUserId(Long userId) {
+        return memoize("user:" + userId, () -> {
+            PasskeyAccount cached = getFresh(userId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            return load(credRepo.findActiveWithUserByUserId(userId),
+                    () -> userRepo.findById(userId));
+        });
+    }
+
+    /**
+     * 로그인 성공 후 서명 카운터 반영 (다음 로그인의 복제 인증기 검출이 최신 값 기준으로 동작하도록)
+     */
+    public void recordUsage(Long userId, String credentialId, long signCount) {
+        byUserId.computeIfPresent(userId, (id, entry) -> new CachedAccount(
+                entry.account().withSignCount(credentialId, signCount), entry.loadedAt()));
+        clearMemo();
+    }
+
+    /**
+     * Passkey 등록/폐기 시 호출
+     */
+    public void evict(Long userId) {
+        CachedAccount removed = byUserId.remove(userId);
+        if (removed != null) {
+            userIdByLoginId.remove(removed.account().loginId(), userId);
+        }
+        clearMemo();
+    }
+
+    private PasskeyAccount getFresh(Long userId) {
+        CachedAccount entry = byUserId.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isFresh(System.currentTimeMillis())) {
+            byUserId.remove(userId, entry);
+            return null;
+        }
+        return entry.account();
+    }
+
+    /**
+     * 자격증명이 없으면 사용자만 조회 (Passkey 미등록 사용자 – 로그인 불가지만 옵션 생성에는 필요)
+     */
+    private Optional<PasskeyAccount> load(List<WebAuthnCredential> credentials, Supplier<Optional<User>> userLoader) {
+        PasskeyAccount account;
+        if (!credentials.isEmpty()) {
+            User user = credentials.get(0).getUser();
+            account = new PasskeyAccount(user.getId(), user.getLoginId(), credentials.stream()
+                    .map(c -> new PasskeyAccount.Credential(c.getCredentialId(), c.getPublicKey(), c.getSignCount()))
+                    .toList());
+        } else {
+            Optional<User> user = userLoader.get();
+            if (user.isEmpty()) {
+                return Optional.empty();
+            }
+            account = new PasskeyAccount(user.get().getId(), user.get().getLoginId(), List.of());
+        }
+
+        if (byUserId.size() >= MAX_ENTRIES) {
+            byUserId.clear();
+            userIdByLoginId.clear();
+        }
+        byUserId.put(account.userId(), new CachedAccount(account, System.currentTimeMillis()));
+        userIdByLoginId.put(account.loginId(), account.userId());
+        return Optional.of(account);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<PasskeyAccount> memoize(String key, Supplier<Optional<PasskeyAccount>> loader) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
+            return loader.get();
+        }
+        Map<String, Optional<PasskeyAccount>> memo =
+                (Map<String, Optional<PasskeyAccount>>) attrs.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attrs.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        Optional<PasskeyAccount> hit = memo.get(key);
+        if (hit != null) {
+            return hit;
+        }
+        Optional<PasskeyAccount> loaded = loader.get();
+        memo.put(key, loaded);
+        loaded.ifPresent(a -> {
+            memo.put("login:" + a.loginId(), loaded);
+            memo.put("user:" + a.userId(), loaded);
+        });
+        return loaded;
+    }
+
+    private void clearMemo() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null) {
+            attrs.removeAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.aicc.silverlink.domain.auth.repository;
 
 import com.aicc.silverlink.domain.auth.entity.WebAuthnCredential;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,4 +16,31 @@ public interface WebAuthnCredentialRepository extends JpaRepository<WebAuthnCred
     Optional<WebAuthnCredential> findByCredentialId(String credentialId);
     Optional<WebAuthnCredential> findByCredentialIdAndUser_Id(String credentialId, Long userId);
 
+    /**
+     * 로그인 ID로 사용자 + 유효한 Passkey 목록을 한 번에 조회 (Passkey 로그인용)
+     */
+    @Query("SELECT c FROM WebAuthnCredential c JOIN FETCH c.user u " +
+            "WHERE u.loginId = :loginId AND c.revokedAt IS NULL")
+    List<WebAuthnCredential> findActiveWithUserByLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 사용자 ID로 사용자 + 유효한 Passkey 목록을 한 번에 조회 (user handle 기반 로그인용)
+     */
+    @Query("SELECT c FROM WebAuthnCredential c JOIN FETCH c.user u " +
+            "WHERE u.id = :userId AND c.revokedAt IS NULL")
+    List<WebAuthnCredential> findActiveWithUserByUserId(@Param("userId") Long userId);
+
+    /**
+     * 로그인 성공 시 서명 카운터/사용 시각 갱신 (엔티티 조회 없이 UPDATE 1회)
+     *
+     * @return 갱신된 행 수 (0이면 해당 사용자의 유효한 Passkey가 아님)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebAuthnCredential c SET c.signCount = :signCount, c.lastUsedAt = :usedAt " +
+            "WHERE c.credentialId = :credentialId AND c.user.id = :userId AND c.revokedAt IS NULL")
+    int updateUsage(@Param("credentialId") String credentialId,
+            @Param("userId") Long userId,
+            @Param("signCount") long signCount,
+            @Param("usedAt") LocalDateTime usedAt);
 }
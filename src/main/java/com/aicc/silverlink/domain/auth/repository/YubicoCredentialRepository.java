@@ -1,14 +1,11 @@
 package com.aicc.silverlink.domain.auth.repository;
 
-import com.aicc.silverlink.domain.user.entity.User;
-import com.aicc.silverlink.domain.user.repository.UserRepository;
 import com.yubico.webauthn.CredentialRepository;
 import com.yubico.webauthn.RegisteredCredential;
 import com.yubico.webauthn.data.ByteArray;
 import com.yubico.webauthn.data.PublicKeyCredentialDescriptor;
 import com.yubico.webauthn.data.PublicKeyCredentialType;
 import com.yubico.webauthn.data.exception.Base64UrlException;
-import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,32 +18,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class YubicoCredentialRepository implements CredentialRepository {
 
-    private final UserRepository userRepo;
     private final WebAuthnCredentialRepository credRepo;
+    private final PasskeyCredentialCache credentialCache;
+
+    // 아래 콜백들은 한 번의 로그인에서 여러 번 호출되므로 PasskeyCredentialCache를 통해 조회
 
     @Override
     public Set<PublicKeyCredentialDescriptor> getCredentialIdsForUsername(String username) {
-        User user = userRepo.findByLoginId(username).orElse(null);
-        if (user == null) return Set.of();
-
-        return credRepo.findAllByUser_IdAndRevokedAtIsNull(user.getId()).stream()
-                .map(c -> PublicKeyCredentialDescriptor.builder()
-                        .id(ByteArray.fromBase64(c.getCredentialId()))
-                        .type(PublicKeyCredentialType.PUBLIC_KEY)
-                        .build()
-                )
-                .collect(Collectors.toSet());
+        return credentialCache.findByLoginId(username)
+                .map(account -> account.credentials().stream()
+                        .map(c -> PublicKeyCredentialDescriptor.builder()
+                                .id(ByteArray.fromBase64(c.credentialId()))
+                                .type(PublicKeyCredentialType.PUBLIC_KEY)
+                                .build()
+                        )
+                        .collect(Collectors.toSet()))
+                .orElse(Set.of());
     }
 
     @Override
     public Optional<ByteArray> getUserHandleForUsername(String username) {
-        return userRepo.findByLoginId(username).map(u-> toUserHandle(u.getId()));
+        return credentialCache.findByLoginId(username).map(a -> toUserHandle(a.userId()));
     }
 
     @Override
     public Optional<String> getUsernameForUserHandle(ByteArray userHandle) {
         Long userId = fromUserHandle(userHandle);
-        return userRepo.findById(userId).map(User::getLoginId);
+        return credentialCache.findByUserId(userId).map(PasskeyAccount::loginId);
     }
 
     @Override
@@ -54,14 +52,15 @@ public class YubicoCredentialRepository implements CredentialRepository {
         Long userId = fromUserHandle(userHandle);
         String credIdB64 = credentialId.getBase64Url();
 
-        return credRepo.findByCredentialIdAndUser_Id(credIdB64,userId)
+        return credentialCache.findByUserId(userId)
+                .flatMap(account -> account.findCredential(credIdB64))
                 .map(c-> {
                     try {
                         return RegisteredCredential.builder()
-                                .credentialId(ByteArray.fromBase64Url(c.getCredentialId()))
+                                .credentialId(ByteArray.fromBase64Url(c.credentialId()))
                                 .userHandle(toUserHandle(userId))
-                                .publicKeyCose(new ByteArray(c.getPublicKey()))
-                                .signatureCount((long) c.getSignCount())
+                                .publicKeyCose(new ByteArray(c.publicKey()))
+                                .signatureCount(c.signCount())
                                 .build();
                     } catch (Base64UrlException e) {
                         throw new RuntimeException(e);
@@ -6,6 +6,8 @@ import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
 import com.aicc.silverlink.global.config.auth.AuthPolicyProperties;
+import com.aicc.silverlink.global.config.auth.RateLimitProperties;
+import com.aicc.silverlink.global.security.ratelimit.RateLimiter;
 import com.aicc.silverlink.global.security.jwt.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +16,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
+import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +29,21 @@ public class AuthService {
     private final SessionService sessionService;
     private final AuthPolicyProperties props;
     private final StringRedisTemplate redis;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProps;
 
-    private String failKey(String loginId) {
-        return "loginfail: " + loginId;
+    private String loginLimitKey(String loginId) {
+        return "rl:login:" + loginId;
+    }
+
+    /**
+     * Brute-force 방어: 시도 자체를 원자적으로 기록하고 한도를 넘으면 거절 (성공 시 초기화)
+     */
+    private void acquireLoginAttempt(String limitKey) {
+        RateLimitProperties.Window rule = rateLimitProps.getLogin();
+        if (!rateLimiter.tryAcquireWindow(limitKey, rule.getLimit(), Duration.ofSeconds(rule.getWindowSeconds()))
+                .allowed())
+            throw new IllegalStateException("TOO_MANY_ATTEMPS");
     }
 
     // 서비스 내부용 DTO ( Access 토큰 + Refresh 토큰 반환용)
@@ -40,11 +53,8 @@ public class AuthService {
     @Transactional
     public AuthResult login(AuthDtos.LoginRequest req) {
         // Brute-force 방어
-        String fk = failKey(req.loginId());
-        String failCntStr = redis.opsForValue().get(fk);
-        int failCnt = failCntStr == null ? 0 : Integer.parseInt(failCntStr);
-        if (failCnt >= 10)
-            throw new IllegalStateException("TOO_MANY_ATTEMPS");
+        String limitKey = loginLimitKey(req.loginId());
+        acquireLoginAttempt(limitKey);
 
         User user = userRepository.findByLoginId(req.loginId())
                 .orElseThrow(() -> new IllegalStateException("LOGIN_FAIL"));
@@ -52,13 +62,10 @@ public class AuthService {
         if (!user.isActive())
             throw new IllegalStateException("USER_INACTIVE");
 
-        if (!passwordEncoder.matches(req.password(), user.getPasswordHash())) {
-            redis.opsForValue().increment(fk);
-            redis.expire(fk, 15, TimeUnit.MINUTES);
+        if (!passwordEncoder.matches(req.password(), user.getPasswordHash()))
             throw new IllegalArgumentException("LOGIN_FAIL");
-        }
 
-        redis.delete(fk);
+        rateLimiter.reset(limitKey);
 
         // 세션 발급 ( Redis에 저장 )
         var issued = sessionService.issueSession(user.getId(), user.getRole());
@@ -257,11 +264,8 @@ public class AuthService {
     @Transactional
     public LoginCheckResult checkLogin(AuthDtos.LoginRequest req) {
         // Brute-force 방어
-        String fk = failKey(req.loginId());
-        String failCntStr = redis.opsForValue().get(fk);
-        int failCnt = failCntStr == null ? 0 : Integer.parseInt(failCntStr);
-        if (failCnt >= 10)
-            throw new IllegalStateException("TOO_MANY_ATTEMPS");
+        String limitKey = loginLimitKey(req.loginId());
+        acquireLoginAttempt(limitKey);
 
         User user = userRepository.findByLoginId(req.loginId())
                 .orElseThrow(() -> new IllegalStateException("LOGIN_FAIL"));
@@ -269,13 +273,10 @@ public class AuthService {
         if (!user.isActive())
             throw new IllegalStateException("USER_INACTIVE");
 
-        if (!passwordEncoder.matches(req.password(), user.getPasswordHash())) {
-            redis.opsForValue().increment(fk);
-            redis.expire(fk, 15, TimeUnit.MINUTES);
+        if (!passwordEncoder.matches(req.password(), user.getPasswordHash()))
             throw new IllegalArgumentException("LOGIN_FAIL");
-        }
 
-        redis.delete(fk);
+        rateLimiter.reset(limitKey);
 
         // 기존 세션 확인
         String existingSid = sessionService.hasExistingSession(user.getId());
@@ -6,12 +6,15 @@ import com.aicc.silverlink.domain.auth.repository.PhoneVerificationRepository;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
 import com.aicc.silverlink.global.config.auth.AuthPhoneProperties;
+import com.aicc.silverlink.global.config.auth.RateLimitProperties;
+import com.aicc.silverlink.global.security.ratelimit.RateLimiter;
 import com.aicc.silverlink.infra.external.sms.TwilioSmsSender;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +28,8 @@ public class PhoneVerificationService {
     private final StringRedisTemplate redis;
     private final TwilioSmsSender twilioSmsSender;
     private final AuthPhoneProperties props;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProps;
 
     /**
      * 인증번호 요청 (Twilio Verify API가 자동 생성/발송)
@@ -34,25 +39,20 @@ public class PhoneVerificationService {
             String ip) {
         String phoneE164 = toE164Kr(req.phone());
 
-        // 쿨다운 체크 (동일 번호로 연속 요청 방지)
-        String cooldownKey = "pv:cooldown:" + phoneE164 + ":" + req.purpose();
-        if (Boolean.TRUE.equals(redis.hasKey(cooldownKey))) {
+        // 쿨다운 (동일 번호로 연속 요청 방지: 용량 1, cooldownSeconds마다 1회 충전)
+        String cooldownKey = "rl:pv:cooldown:" + phoneE164 + ":" + req.purpose();
+        if (!rateLimiter.tryAcquireBucket(cooldownKey, 1, Duration.ofSeconds(props.getCooldownSeconds())).allowed()) {
             throw new IllegalArgumentException("PHONE_COOLDOWN");
         }
 
-        // 일일 횟수 제한
-        String dailyKey = "pv:daily:" + phoneE164 + ":" + req.purpose() + ":" + LocalDateTime.now().toLocalDate();
-        Long dailyCount = redis.opsForValue().increment(dailyKey);
-        if (dailyCount != null && dailyCount == 1) {
-            redis.expire(dailyKey, 2, TimeUnit.DAYS);
-        }
-        if (dailyCount != null && dailyCount > props.getDailyLimit()) {
+        // 일일 횟수 제한 (최근 24시간)
+        String dailyKey = "rl:pv:daily:" + phoneE164 + ":" + req.purpose();
+        if (!rateLimiter.tryAcquireWindow(dailyKey, props.getDailyLimit(), Duration.ofDays(1)).allowed()) {
+            // 발송하지 않은 요청이 쿨다운까지 소모하지 않도록 버킷 토큰 반환
+            rateLimiter.refundBucket(cooldownKey, 1);
             throw new IllegalArgumentException("PHONE_DAILY_LIMIT");
         }
 
-        // 쿨다운 설정
-        redis.opsForValue().set(cooldownKey, "1", props.getCooldownSeconds(), TimeUnit.SECONDS);
-
         // 사용자 조회 (선택적)
         User user = null;
         if (req.userId() != null) {
@@ -94,6 +94,13 @@ public class PhoneVerificationService {
      */
     @Transactional
     public PhoneVerificationDtos.VerifyCodeResponse verifyCode(PhoneVerificationDtos.VerifyCodeRequest req, String ip) {
+        // IP 기준 시도 제한 (여러 인증 요청에 걸친 대입 공격 방지)
+        RateLimitProperties.Window rule = rateLimitProps.getOtpVerify();
+        if (!rateLimiter.tryAcquireWindow("rl:pv:verify:" + ip, rule.getLimit(),
+                Duration.ofSeconds(rule.getWindowSeconds())).allowed()) {
+            throw new IllegalArgumentException("PV_TOO_MANY_ATTEMPTS");
+        }
+
         PhoneVerification pv = repo.findById(req.verificationId())
                 .orElseThrow(() -> new IllegalArgumentException("PV_NOT_FOUND"));
 
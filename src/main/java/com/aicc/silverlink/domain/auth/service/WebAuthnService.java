@@ -1,9 +1,14 @@
 package com.aicc.silverlink.domain.auth.service;
 
 import com.aicc.silverlink.domain.auth.entity.WebAuthnCredential;
+import com.aicc.silverlink.domain.auth.repository.PasskeyAccount;
+import com.aicc.silverlink.domain.auth.repository.PasskeyCredentialCache;
 import com.aicc.silverlink.domain.auth.repository.WebAuthnCredentialRepository;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
+import com.aicc.silverlink.global.config.auth.RateLimitProperties;
+import com.aicc.silverlink.global.security.ratelimit.RateLimiter;
+import com.aicc.silverlink.global.util.TransactionUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.yubico.webauthn.*;
 import com.yubico.webauthn.data.*;
@@ -16,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +34,9 @@ public class WebAuthnService {
     private final StringRedisTemplate redis;
     private final UserRepository userRepo;
     private final WebAuthnCredentialRepository credRepo;
+    private final PasskeyCredentialCache credentialCache;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProps;
 
     private static final long REQUEST_TTL_MIN = 5;
 
@@ -92,6 +102,8 @@ public class WebAuthnService {
             );
 
             credRepo.save(credential);
+            // 커밋 전에 비우면 그 사이 다른 요청이 이전 상태를 다시 캐시할 수 있으므로 커밋 후 제거
+            TransactionUtils.afterCommit(() -> credentialCache.evict(userId));
 
             redis.delete(regKey(requestId));
 
@@ -101,7 +113,9 @@ public class WebAuthnService {
 
     }
 
-    public StartAuthResponse startAssertion(String loginIdOrNull) throws JsonProcessingException {
+    public StartAuthResponse startAssertion(String loginIdOrNull, String ip) throws JsonProcessingException {
+        acquirePasskeyAttempt(ip);
+
         var builder = StartAssertionOptions.builder();
 
         if(loginIdOrNull != null && !loginIdOrNull.isBlank()) {
@@ -119,7 +133,9 @@ public class WebAuthnService {
 
 
     @Transactional
-    public Long finishAssertion(String requestId, String responseJson) {
+    public Long finishAssertion(String requestId, String responseJson, String ip) {
+        acquirePasskeyAttempt(ip);
+
         String optionJson = redis.opsForValue().get(authKey(requestId));
         if (optionJson == null) throw new IllegalArgumentException("WEBAUTHN_AUTH_REQUEST_EXPIRED");
 
@@ -134,18 +150,18 @@ public class WebAuthnService {
 
             if (!result.isSuccess()) throw new IllegalArgumentException("WEBAUTHN_ASSERTION_FAILED");
 
+            // 검증 과정에서 이미 캐시된 매핑 사용 (사용자/자격증명 재조회 없음)
             String username = result.getUsername();
-            User user = userRepo.findByLoginId(username)
+            PasskeyAccount account = credentialCache.findByLoginId(username)
                     .orElseThrow(()->new IllegalArgumentException("USER_NOT_FOUND"));
 
             String credId = result.getCredential().getCredentialId().getBase64Url();
-            WebAuthnCredential cred = credRepo.findByCredentialIdAndUser_Id(credId, user.getId())
-                            .orElseThrow(()-> new IllegalArgumentException("WEBAUTHN_CRED_NOT_FOUND"));
-
-            cred.updateUsage(result.getSignatureCount());
+            if (credRepo.updateUsage(credId, account.userId(), result.getSignatureCount(), LocalDateTime.now()) == 0)
+                throw new IllegalArgumentException("WEBAUTHN_CRED_NOT_FOUND");
+            credentialCache.recordUsage(account.userId(), credId, result.getSignatureCount());
 
             redis.delete(authKey(requestId));
-            return user.getId();
+            return account.userId();
 
         } catch (Exception e) {
             throw new IllegalArgumentException("WEBAUTHN_LOGIN_FAILED: " + e.getMessage());
@@ -153,6 +169,28 @@ public class WebAuthnService {
     }
 
 
+    /**
+     * Passkey 폐기 (본인 자격증명만 가능)
+     */
+    @Transactional
+    public void revokeCredential(Long userId, String credentialId) {
+        WebAuthnCredential cred = credRepo.findByCredentialIdAndUser_Id(credentialId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("WEBAUTHN_CRED_NOT_FOUND"));
+        cred.revoke();
+        TransactionUtils.afterCommit(() -> credentialCache.evict(userId));
+    }
+
+    /**
+     * IP 기준 Passkey 로그인 시도 제한 (옵션 요청/검증 모두 1회로 계산)
+     */
+    private void acquirePasskeyAttempt(String ip) {
+        RateLimitProperties.Window rule = rateLimitProps.getPasskey();
+        if (!rateLimiter.tryAcquireWindow("rl:passkey:" + ip, rule.getLimit(),
+                Duration.ofSeconds(rule.getWindowSeconds())).allowed()) {
+            throw new IllegalStateException("TOO_MANY_ATTEMPS");
+        }
+    }
+
     private String regKey(String requestId) { return "webauthn:reg:" + requestId; }
     private String authKey(String requestId) { return "webauthn:auth:" + requestId; }
 
@@ -1,8 +1,11 @@
 package com.aicc.silverlink.domain.call.controller;
 
 import com.aicc.silverlink.domain.call.dto.CallDetailDto.*;
+import com.aicc.silverlink.domain.call.dto.CallReviewDto.CallRecordSummaryResponse;
 import com.aicc.silverlink.domain.call.service.CallDetailService;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
 import com.aicc.silverlink.global.common.response.ApiResponse;
+import com.aicc.silverlink.global.common.response.CursorResponse;
 import com.aicc.silverlink.global.security.principal.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -122,6 +125,18 @@ public class CallDetailController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "관리자 - 어르신 통화 타임라인", description = "어르신의 통화 목록을 최신순으로 조회합니다. 응답의 nextKey를 key로 넘기면 다음 목록을 조회합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/elderly/{elderlyId}/calls")
+    public ResponseEntity<ApiResponse<CursorResponse<CallRecordSummaryResponse>>> getCallTimelineForAdmin(
+            @Parameter(description = "어르신 ID") @PathVariable Long elderlyId,
+            @ModelAttribute CursorRequest cursorRequest) {
+
+        CursorResponse<CallRecordSummaryResponse> response = callDetailService.getCallTimelineForAdmin(
+                elderlyId, cursorRequest);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "관리자 - 대화 내용만 조회")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/admin/calls/{callId}/conversations")
@@ -2,7 +2,9 @@ package com.aicc.silverlink.domain.call.controller;
 
 import com.aicc.silverlink.domain.call.dto.CallReviewDto.*;
 import com.aicc.silverlink.domain.call.service.CallReviewService;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
 import com.aicc.silverlink.global.common.response.ApiResponse;
+import com.aicc.silverlink.global.common.response.CursorResponse;
 import com.aicc.silverlink.global.common.response.PageResponse;
 import com.aicc.silverlink.global.security.principal.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +50,19 @@ public class CallReviewController {
                 return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
         }
 
+        @Operation(summary = "담당 어르신 통화 타임라인 (커서)", description = "통화 목록을 최신순으로 조회합니다. 전체 건수 없이 응답의 nextKey를 key로 넘겨 다음 목록을 조회합니다.")
+        @GetMapping("/counselor/calls/timeline")
+        @PreAuthorize("hasRole('COUNSELOR')")
+        public ResponseEntity<ApiResponse<CursorResponse<CallRecordSummaryResponse>>> getCallTimelineForCounselor(
+                        @AuthenticationPrincipal Long userId,
+                        @ModelAttribute CursorRequest cursorRequest) {
+
+                CursorResponse<CallRecordSummaryResponse> response = callReviewService.getCallTimelineForCounselor(
+                                userId, cursorRequest);
+
+                return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         @Operation(summary = "통화 상세 조회", description = "특정 통화 기록의 상세 내용을 조회합니다. (대화 내용, 요약, 감정 분석, 리뷰 포함)")
         @GetMapping("/counselor/calls/{callId}")
         @PreAuthorize("hasRole('COUNSELOR')")
@@ -125,6 +140,20 @@ public class CallReviewController {
                 return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
         }
 
+        @Operation(summary = "어르신 통화 타임라인 (보호자, 커서)", description = "보호자가 연결된 어르신의 통화 기록을 최신순으로 조회합니다. 응답의 nextKey를 key로 넘겨 다음 목록을 조회합니다.")
+        @GetMapping("/guardian/elderly/{elderlyId}/timeline")
+        @PreAuthorize("hasRole('GUARDIAN')")
+        public ResponseEntity<ApiResponse<CursorResponse<GuardianCallReviewResponse>>> getCallTimelineForGuardian(
+                        @AuthenticationPrincipal Long userId,
+                        @Parameter(description = "어르신 ID") @PathVariable Long elderlyId,
+                        @ModelAttribute CursorRequest cursorRequest) {
+
+                CursorResponse<GuardianCallReviewResponse> response = callReviewService.getCallTimelineForGuardian(
+                                userId, elderlyId, cursorRequest);
+
+                return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         @Operation(summary = "통화 상세 조회 (보호자)", description = "보호자가 어르신의 특정 통화 상세 내용과 상담사 코멘트를 조회합니다.")
         @GetMapping("/guardian/calls/{callId}")
         @PreAuthorize("hasRole('GUARDIAN')")
@@ -79,6 +79,26 @@ public class CallDetailDto {
                     .build();
         }
 
+        /**
+         * 열람 권한이 없는 보호자용 사본 (요약만 공개)
+         */
+        public CallDetailResponse summaryOnly() {
+            return CallDetailResponse.builder()
+                    .callId(callId)
+                    .callAt(callAt)
+                    .duration(duration)
+                    .durationSeconds(durationSeconds)
+                    .state(state)
+                    .stateKorean(stateKorean)
+                    .elderlyId(elderlyId)
+                    .elderlyName(elderlyName)
+                    .summary(summary)
+                    .recordingUrl(recordingUrl)
+                    .conversations(List.of()) // 대화 내용 숨김
+                    .isAccessGranted(false)
+                    .build();
+        }
+
         // 기존 코드 호환용 (기본값 true)
         public static CallDetailResponse from(CallRecord callRecord,
                 String summary,
@@ -1,6 +1,7 @@
 package com.aicc.silverlink.domain.call.dto;
 
 import com.aicc.silverlink.domain.call.entity.*;
+import com.aicc.silverlink.domain.call.repository.CounselorCallRow;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -69,30 +70,28 @@ public class CallReviewDto {
         private boolean hasDangerResponse;
         private boolean reviewed; // 상담사 확인 여부
         private String summaryPreview; // 요약 미리보기 (최대 100자)
+        private DailyStatusInfo dailyStatus; // 오늘의 상태 (식사, 건강, 수면)
 
-        public static CallRecordSummaryResponse from(CallRecord callRecord, boolean reviewed) {
-            // 최신 감정 상태
-            CallEmotion latestEmotion = callRecord.getEmotions().isEmpty() ? null
-                    : callRecord.getEmotions().get(callRecord.getEmotions().size() - 1);
-
-            // 요약 미리보기
-            String summary = callRecord.getSummaries().isEmpty() ? null : callRecord.getSummaries().get(0).getContent();
+        public static CallRecordSummaryResponse from(CounselorCallRow row) {
+            String summary = row.summaryPreview();
             String summaryPreview = summary != null && summary.length() > 100 ? summary.substring(0, 100) + "..."
                     : summary;
+            EmotionLevel latestEmotion = row.latestEmotion();
 
             return CallRecordSummaryResponse.builder()
-                    .callId(callRecord.getId())
-                    .elderlyId(callRecord.getElderly().getId())
-                    .elderlyName(callRecord.getElderly().getUser().getName())
-                    .callAt(callRecord.getCallAt())
-                    .duration(callRecord.getFormattedDuration())
-                    .state(callRecord.getState().name())
-                    .stateKorean(callRecord.getState().getKorean())
-                    .emotionLevel(latestEmotion != null ? latestEmotion.getEmotionLevel().name() : null)
-                    .emotionLevelKorean(latestEmotion != null ? latestEmotion.getEmotionLevelKorean() : null)
-                    .hasDangerResponse(callRecord.hasDangerResponse())
-                    .reviewed(reviewed)
+                    .callId(row.callId())
+                    .elderlyId(row.elderlyId())
+                    .elderlyName(row.elderlyName())
+                    .callAt(row.callAt())
+                    .duration(CallRecord.formatDuration(row.callTimeSec()))
+                    .state(row.state().name())
+                    .stateKorean(row.state().getKorean())
+                    .emotionLevel(latestEmotion != null ? latestEmotion.name() : null)
+                    .emotionLevelKorean(latestEmotion != null ? latestEmotion.getKorean() : null)
+                    .hasDangerResponse(Boolean.TRUE.equals(row.hasDangerResponse()))
+                    .reviewed(Boolean.TRUE.equals(row.reviewed()))
                     .summaryPreview(summaryPreview)
+                    .dailyStatus(DailyStatusInfo.from(row.toDailyStatus()))
                     .build();
         }
     }
@@ -309,8 +308,8 @@ public class CallReviewDto {
         private DailyStatusInfo dailyStatus;
 
         public static GuardianCallReviewResponse from(CallRecord callRecord, CounselorCallReview review, CallDailyStatus dailyStatus) {
-            CallEmotion latestEmotion = callRecord.getEmotions().isEmpty() ? null
-                    : callRecord.getEmotions().get(callRecord.getEmotions().size() - 1);
+            // emotions는 createdAt DESC 정렬이므로 첫 번째가 최신
+            CallEmotion latestEmotion = callRecord.getLatestEmotion();
             String summary = callRecord.getSummaries().isEmpty() ? null : callRecord.getSummaries().get(0).getContent();
 
             List<CallRecordDetailResponse.PromptItem> promptItems = callRecord.getLlmModels().stream()
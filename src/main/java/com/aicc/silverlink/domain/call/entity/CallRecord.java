@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,7 +18,9 @@ import java.util.List;
 @Entity
 @Table(name = "call_records",
         indexes = {
-                @Index(name = "idx_call_records_elderly_time", columnList = "elderly_user_id, call_at"),
+                // 타임라인 키셋 조회 (callAt DESC, id DESC) 순서와 맞춤
+                @Index(name = "idx_call_records_elderly_time_id", columnList = "elderly_user_id, call_at, call_id"),
+                @Index(name = "idx_call_records_time_id", columnList = "call_at, call_id"),
                 @Index(name = "idx_call_records_state_time", columnList = "state, call_at")
         })
 @Getter
@@ -56,20 +59,25 @@ public class CallRecord {
     private LocalDateTime updatedAt;
 
     // ===== 연관 관계 =====
+    // 컬렉션은 @BatchSize로 목록 화면에서 여러 통화분을 IN 쿼리 한 번에 초기화 (통화마다 조회 방지)
 
     @OneToMany(mappedBy = "callRecord", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("createdAt ASC")
     private List<LlmModel> llmModels = new ArrayList<>();
 
     @OneToMany(mappedBy = "callRecord", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("respondedAt ASC")
     private List<ElderlyResponse> elderlyResponses = new ArrayList<>();
 
     @OneToMany(mappedBy = "callRecord", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("createdAt DESC")
     private List<CallSummary> summaries = new ArrayList<>();
 
     @OneToMany(mappedBy = "callRecord", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("createdAt DESC")
     private List<CallEmotion> emotions = new ArrayList<>();
 
@@ -107,6 +115,13 @@ public class CallRecord {
      * 통화 시간을 "MM분 SS초" 형식으로 반환
      */
     public String getFormattedDuration() {
+        return formatDuration(callTimeSec);
+    }
+
+    /**
+     * 통화 시간(초)을 "MM분 SS초" 형식으로 변환 (프로젝션 조회 결과용)
+     */
+    public static String formatDuration(Integer callTimeSec) {
         if (callTimeSec == null || callTimeSec <= 0) {
             return "0분 0초";
         }
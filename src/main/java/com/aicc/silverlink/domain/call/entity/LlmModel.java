@@ -1,5 +1,6 @@
 package com.aicc.silverlink.domain.call.entity;
 
+import com.aicc.silverlink.global.common.entity.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -22,7 +23,9 @@ import java.time.LocalDateTime;
 public class LlmModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "llm_models")
+    @TableGenerator(name = "llm_models", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "llm_models", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "model_id")
     private Long id;
 
@@ -0,0 +1,17 @@
+package com.aicc.silverlink.domain.call.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 타임라인 키셋 커서 (callAt DESC, id DESC 정렬 기준 마지막 행)
+ * 조회 조건: callAt < :callAt OR (callAt = :callAt AND id < :id)
+ */
+public record CallCursor(LocalDateTime callAt, Long id) {
+
+    /**
+     * 첫 페이지: 모든 통화보다 뒤에 있는 가상의 위치
+     */
+    public static CallCursor first() {
+        return new CallCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    }
+}
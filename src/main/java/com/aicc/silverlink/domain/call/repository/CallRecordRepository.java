@@ -3,6 +3,7 @@ package com.aicc.silverlink.domain.call.repository;
 import com.aicc.silverlink.domain.call.entity.CallRecord;
 import com.aicc.silverlink.domain.call.entity.CallState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,11 +17,6 @@ import java.util.Optional;
 @Repository
 public interface CallRecordRepository extends JpaRepository<CallRecord, Long> {
 
-        /**
-         * 어르신 ID로 통화 기록 조회 (최신순)
-         */
-        Page<CallRecord> findByElderlyIdOrderByCallAtDesc(Long elderlyId, Pageable pageable);
-
         /**
          * 어르신 ID와 기간으로 통화 기록 조회
          */
@@ -32,24 +28,117 @@ public interface CallRecordRepository extends JpaRepository<CallRecord, Long> {
                         @Param("endDate") LocalDateTime endDate);
 
         /**
-         * 특정 상담사가 담당하는 어르신들의 통화 기록 조회 (미확인 건 우선)
+         * 통화 목록 행 프로젝션 (CounselorCallRow) - 확인 여부 식 앞부분
+         * 확인 여부 식(REVIEWED_BY_*) → CALL_ROW_COLUMNS 순으로 이어 붙여 사용
          */
-        @Query("SELECT DISTINCT c FROM CallRecord c " +
-                        "JOIN Assignment a ON c.elderly.id = a.elderly.id " +
-                        "LEFT JOIN CounselorCallReview r ON c.id = r.callRecord.id AND r.counselor.id = :counselorId " +
-                        "WHERE a.counselor.id = :counselorId AND a.status = 'ACTIVE' " +
-                        "ORDER BY c.callAt DESC")
-        Page<CallRecord> findCallRecordsForCounselor(@Param("counselorId") Long counselorId, Pageable pageable);
+        String CALL_ROW_SELECT = """
+                        SELECT new com.aicc.silverlink.domain.call.repository.CounselorCallRow(
+                            c.id, e.id, u.name, c.callAt, c.callTimeSec, c.state,
+                        """;
 
         /**
-         * 상담사가 확인하지 않은 통화 기록 개수
+         * 상담사 본인이 리뷰를 남겼는지
          */
-        @Query("SELECT COUNT(c) FROM CallRecord c " +
-                        "JOIN Assignment a ON c.elderly.id = a.elderly.id " +
-                        "LEFT JOIN CounselorCallReview r ON c.id = r.callRecord.id AND r.counselor.id = :counselorId " +
-                        "WHERE a.counselor.id = :counselorId AND a.status = 'ACTIVE' AND r.id IS NULL " +
-                        "AND c.state = 'COMPLETED'")
-        long countUnreviewedCallsForCounselor(@Param("counselorId") Long counselorId);
+        String REVIEWED_BY_COUNSELOR = """
+                            CASE WHEN EXISTS (SELECT 1 FROM CounselorCallReview r
+                                              WHERE r.callRecord.id = c.id AND r.counselor.id = :counselorId)
+                                 THEN true ELSE false END,
+                        """;
+
+        /**
+         * 담당 상담사 중 누구라도 리뷰를 남겼는지
+         */
+        String REVIEWED_BY_ANYONE = """
+                            CASE WHEN EXISTS (SELECT 1 FROM CounselorCallReview r WHERE r.callRecord.id = c.id)
+                                 THEN true ELSE false END,
+                        """;
+
+        /**
+         * 최신 감정/요약, 위험 응답, 오늘의 상태 컬럼과 FROM 절
+         */
+        String CALL_ROW_COLUMNS = """
+                            (SELECT em.emotionLevel FROM CallEmotion em
+                             WHERE em.id = (SELECT MAX(em2.id) FROM CallEmotion em2 WHERE em2.callRecord.id = c.id)),
+                            CASE WHEN EXISTS (SELECT 1 FROM ElderlyResponse er
+                                              WHERE er.callRecord.id = c.id AND er.danger = true)
+                                 THEN true ELSE false END,
+                            (SELECT SUBSTRING(s.content, 1, 101) FROM CallSummary s
+                             WHERE s.id = (SELECT MAX(s2.id) FROM CallSummary s2 WHERE s2.callRecord.id = c.id)),
+                            ds.id, ds.mealTaken, ds.healthStatus, ds.healthDetail, ds.sleepStatus, ds.sleepDetail)
+                        FROM CallRecord c
+                        JOIN c.elderly e
+                        JOIN e.user u
+                        LEFT JOIN CallDailyStatus ds ON ds.callRecord.id = c.id
+                        """;
+
+        /**
+         * 상담사 담당 어르신의 통화 행
+         */
+        String COUNSELOR_CALL_ROW_QUERY = CALL_ROW_SELECT + REVIEWED_BY_COUNSELOR + CALL_ROW_COLUMNS + """
+                        WHERE EXISTS (SELECT 1 FROM Assignment a
+                                      WHERE a.elderly.id = e.id AND a.counselor.id = :counselorId AND a.status = 'ACTIVE')
+                        """;
+
+        /**
+         * (callAt, id) 커서 이후 행 - 같은 callAt은 id로 구분
+         */
+        String CALL_ROW_SEEK = """
+                        AND (c.callAt < :cursorAt OR (c.callAt = :cursorAt AND c.id < :cursorId))
+                        ORDER BY c.callAt DESC, c.id DESC
+                        """;
+
+        /**
+         * 상담사 통화 목록 (프로젝션)
+         * 확인 여부, 최신 감정/요약, 위험 응답, 오늘의 상태를 행마다 추가 조회하지 않고 한 번에 가져옴
+         */
+        @Query(value = COUNSELOR_CALL_ROW_QUERY,
+                        countQuery = """
+                        SELECT COUNT(c) FROM CallRecord c
+                        WHERE EXISTS (SELECT 1 FROM Assignment a
+                                      WHERE a.elderly.id = c.elderly.id AND a.counselor.id = :counselorId AND a.status = 'ACTIVE')
+                        """)
+        Page<CounselorCallRow> findCallRowsForCounselor(@Param("counselorId") Long counselorId, Pageable pageable);
+
+        /**
+         * 상담사 통화 타임라인 (키셋)
+         * findCallRowsForCounselor와 같은 프로젝션을 (callAt, id) 커서 이후부터 limit건 조회 (COUNT 없음)
+         */
+        @Query(COUNSELOR_CALL_ROW_QUERY + CALL_ROW_SEEK)
+        List<CounselorCallRow> findCallRowsForCounselorAfter(@Param("counselorId") Long counselorId,
+                        @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                        Limit limit);
+
+        /**
+         * 어르신 통화 타임라인 (관리자용, 키셋)
+         * 확인 여부는 담당 상담사 중 누구라도 리뷰를 남겼는지 기준
+         */
+        @Query(CALL_ROW_SELECT + REVIEWED_BY_ANYONE + CALL_ROW_COLUMNS + "WHERE e.id = :elderlyId\n" + CALL_ROW_SEEK)
+        List<CounselorCallRow> findCallRowsForElderlyAfter(@Param("elderlyId") Long elderlyId,
+                        @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                        Limit limit);
+
+        /**
+         * 커서 key(마지막 통화 ID)의 통화 시각
+         */
+        @Query("SELECT new com.aicc.silverlink.domain.call.repository.CallCursor(c.callAt, c.id) " +
+                        "FROM CallRecord c WHERE c.id = :callId")
+        Optional<CallCursor> findCursorById(@Param("callId") Long callId);
+
+        /**
+         * 상담사 담당 통화의 전체/미확인 건수를 한 번에 집계 (미확인 배지용)
+         */
+        @Query("""
+                        SELECT new com.aicc.silverlink.domain.call.repository.CounselorCallCounts(
+                            COUNT(c),
+                            COALESCE(SUM(CASE WHEN c.state = 'COMPLETED'
+                                              AND NOT EXISTS (SELECT 1 FROM CounselorCallReview r
+                                                              WHERE r.callRecord.id = c.id AND r.counselor.id = :counselorId)
+                                         THEN 1 ELSE 0 END), 0L))
+                        FROM CallRecord c
+                        WHERE EXISTS (SELECT 1 FROM Assignment a
+                                      WHERE a.elderly.id = c.elderly.id AND a.counselor.id = :counselorId AND a.status = 'ACTIVE')
+                        """)
+        CounselorCallCounts countCallsForCounselor(@Param("counselorId") Long counselorId);
 
         /**
          * 위험 응답이 있는 통화 기록 조회
@@ -89,14 +178,31 @@ public interface CallRecordRepository extends JpaRepository<CallRecord, Long> {
         /**
          * 어르신 ID로 모든 통화 기록 조회 (보호자 통화 목록용 - 진행중 포함)
          * 리뷰 여부와 관계없이 모든 상태의 통화를 반환 (ANSWERED, COMPLETED, FAILED)
+         * 오늘의 상태(1:1)도 함께 fetch (mappedBy 1:1은 지연 로딩이 안 되어 행마다 조회되므로)
          */
-        @Query("SELECT c FROM CallRecord c " +
+        @Query(value = "SELECT c FROM CallRecord c " +
                         "LEFT JOIN FETCH c.elderly e " +
                         "LEFT JOIN FETCH e.user " +
+                        "LEFT JOIN FETCH c.dailyStatus " +
                         "WHERE c.elderly.id = :elderlyId " +
-                        "ORDER BY c.callAt DESC")
+                        "ORDER BY c.callAt DESC",
+                        countQuery = "SELECT COUNT(c) FROM CallRecord c WHERE c.elderly.id = :elderlyId")
         Page<CallRecord> findAllByElderlyId(@Param("elderlyId") Long elderlyId, Pageable pageable);
 
+        /**
+         * 어르신 통화 타임라인 (보호자용, 키셋) - findAllByElderlyId의 COUNT 없는 버전
+         */
+        @Query("SELECT c FROM CallRecord c " +
+                        "LEFT JOIN FETCH c.elderly e " +
+                        "LEFT JOIN FETCH e.user " +
+                        "LEFT JOIN FETCH c.dailyStatus " +
+                        "WHERE c.elderly.id = :elderlyId " +
+                        "AND (c.callAt < :cursorAt OR (c.callAt = :cursorAt AND c.id < :cursorId)) " +
+                        "ORDER BY c.callAt DESC, c.id DESC")
+        List<CallRecord> findAllByElderlyIdAfter(@Param("elderlyId") Long elderlyId,
+                        @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                        Limit limit);
+
         /**
          * 상담사의 기간별 통화 수 조회 (오늘 통화 수 계산용)
          */
@@ -0,0 +1,10 @@
+package com.aicc.silverlink.domain.call.repository;
+
+/**
+ * 상담사 담당 어르신들의 통화 건수 집계 (CallRecordRepository.countCallsForCounselor 프로젝션)
+ *
+ * @param total      전체 통화 수
+ * @param unreviewed 완료됐지만 상담사가 확인하지 않은 통화 수
+ */
+public record CounselorCallCounts(Long total, Long unreviewed) {
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,16 @@ public interface CounselorCallReviewRepository extends JpaRepository<CounselorCa
      */
     List<CounselorCallReview> findByCallRecordIdOrderByReviewedAtDesc(Long callId);
 
+    /**
+     * 여러 통화의 리뷰를 상담사 정보와 함께 한 번에 조회 (최신순, 통화 목록 화면용)
+     */
+    @Query("SELECT r FROM CounselorCallReview r " +
+            "JOIN FETCH r.counselor co " +
+            "JOIN FETCH co.user " +
+            "WHERE r.callRecord.id IN :callIds " +
+            "ORDER BY r.reviewedAt DESC")
+    List<CounselorCallReview> findWithCounselorByCallRecordIdIn(@Param("callIds") Collection<Long> callIds);
+
     /**
      * 상담사의 리뷰 목록 조회
      */
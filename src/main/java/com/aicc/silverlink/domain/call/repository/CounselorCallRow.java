@@ -0,0 +1,50 @@
+package com.aicc.silverlink.domain.call.repository;
+
+import com.aicc.silverlink.domain.call.entity.CallDailyStatus;
+import com.aicc.silverlink.domain.call.entity.CallDailyStatus.StatusLevel;
+import com.aicc.silverlink.domain.call.entity.CallState;
+import com.aicc.silverlink.domain.call.entity.EmotionLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담사 통화 목록 한 행 (CallRecordRepository.findCallRowsForCounselor 프로젝션)
+ * 통화·어르신 이름·확인 여부·최신 감정·요약 미리보기·오늘의 상태를 한 번의 쿼리로 조회
+ *
+ * @param summaryPreview 최신 요약 앞 101자 (100자 초과 여부 판단용)
+ * @param dailyStatusId  오늘의 상태가 없으면 null
+ */
+public record CounselorCallRow(
+        Long callId,
+        Long elderlyId,
+        String elderlyName,
+        LocalDateTime callAt,
+        Integer callTimeSec,
+        CallState state,
+        Boolean reviewed,
+        EmotionLevel latestEmotion,
+        Boolean hasDangerResponse,
+        String summaryPreview,
+        Long dailyStatusId,
+        Boolean mealTaken,
+        StatusLevel healthStatus,
+        String healthDetail,
+        StatusLevel sleepStatus,
+        String sleepDetail) {
+
+    /**
+     * 응답 변환용 (저장하지 않는 임시 객체)
+     */
+    public CallDailyStatus toDailyStatus() {
+        if (dailyStatusId == null) {
+            return null;
+        }
+        return CallDailyStatus.builder()
+                .mealTaken(mealTaken)
+                .healthStatus(healthStatus)
+                .healthDetail(healthDetail)
+                .sleepStatus(sleepStatus)
+                .sleepDetail(sleepDetail)
+                .build();
+    }
+}
@@ -39,6 +39,8 @@ public class CallBotInternalService {
     private final com.aicc.silverlink.global.sse.CallBotSseService sseService;
     private final EmergencyAlertService emergencyAlertService;
     private final EmergencyAlertRepository emergencyAlertRepository;
+    private final CounselorCallCountCache counselorCallCountCache;
+    private final CallDetailCache callDetailCache;
 
     // ========== 통화 시작 ==========
 
@@ -54,6 +56,7 @@ public class CallBotInternalService {
                 .build();
 
         callRecordRepository.save(callRecord);
+        counselorCallCountCache.evictForElderly(elderly.getId());
         log.info("✅ [DB 저장] 통화 기록 생성 성공: callId={}, elderlyId={}, name={}",
                 callRecord.getId(), elderly.getId(), elderly.getUser().getName());
 
@@ -180,6 +183,7 @@ public class CallBotInternalService {
                 .build();
 
         callSummaryRepository.save(summary);
+        callDetailCache.evict(callId);
         log.info("✅ [DB 저장] 통화 요약 저장 완료: callId={}, summaryId={}", callId, summary.getId());
 
         return SimpleResponse.builder().success(true).message("요약 저장 완료").id(summary.getId()).build();
@@ -198,6 +202,7 @@ public class CallBotInternalService {
                 .build();
 
         callEmotionRepository.save(emotion);
+        callDetailCache.evict(callId);
         log.info("✅ [DB 저장] 감정 분석 저장 완료: callId={}, level={}", callId, emotionLevel);
 
         return SimpleResponse.builder().success(true).message("감정 저장 완료").id(emotion.getId()).build();
@@ -220,6 +225,7 @@ public class CallBotInternalService {
 
         callDailyStatusRepository.save(dailyStatus);
         callRecord.setDailyStatus(dailyStatus);
+        callDetailCache.evict(callId);
         log.info("✅ [DB 저장] 일일 상태 저장 완료: callId={}, meal={}, health={}, sleep={}",
                 callId, request.getMealTaken(), request.getHealthStatus(), request.getSleepStatus());
 
@@ -254,6 +260,8 @@ public class CallBotInternalService {
         sseService.broadcast(callId, "callEnded", "ended");
 
         callRecordRepository.save(callRecord);
+        counselorCallCountCache.evictForElderly(callRecord.getElderly().getId());
+        callDetailCache.evict(callId);
         log.info("🚀 [DB 최종확정] 통화 종료 처리 완료: callId={}, state={}, duration={}sec",
                 callId, callRecord.getState(), request.getCallTimeSec());
 
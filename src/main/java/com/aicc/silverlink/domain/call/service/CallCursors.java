@@ -0,0 +1,29 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.call.repository.CallCursor;
+import com.aicc.silverlink.domain.call.repository.CallRecordRepository;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.exception.BusinessException;
+import com.aicc.silverlink.global.exception.ErrorCode;
+
+/**
+ * 통화 타임라인 커서 해석 (상담사/보호자/관리자 타임라인 공통)
+ */
+final class CallCursors {
+
+    private CallCursors() {
+    }
+
+    /**
+     * 요청의 key(마지막 통화 ID)를 (callAt, id) 커서로 변환 (key가 없으면 첫 페이지)
+     *
+     * @throws BusinessException key에 해당하는 통화가 없는 경우 (CALL_RECORD_NOT_FOUND)
+     */
+    static CallCursor resolve(CallRecordRepository callRecordRepository, CursorRequest cursorRequest) {
+        if (!cursorRequest.hasKey()) {
+            return CallCursor.first();
+        }
+        return callRecordRepository.findCursorById(cursorRequest.key())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CALL_RECORD_NOT_FOUND));
+    }
+}
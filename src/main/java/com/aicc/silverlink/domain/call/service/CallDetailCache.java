@@ -0,0 +1,113 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.call.entity.CallRecord;
+import com.aicc.silverlink.domain.call.entity.CallState;
+import com.aicc.silverlink.global.util.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통화 상세 응답 캐시 (callId 기준)
+ * 종료된 통화(COMPLETED/FAILED)의 대화·요약·감정·상태는 더 이상 바뀌지 않으므로
+ * 화면별로 조립한 응답을 보관하고, 권한 확인(담당/보호 관계/열람 동의)만 매 요청 수행
+ * - 리뷰 작성/수정, CallBot 후처리 저장 시 해당 통화 항목 전체를 커밋 후에 비움
+ * - 조회 시작 시점의 무효화 세대(generation)를 put에 넘겨, 커밋 전에 조립된 응답이 무효화 뒤에 다시 보관되지 않게 함
+ * - 녹음 Pre-signed URL(1시간 유효)이 응답에 포함되므로 TTL은 그보다 짧게 유지
+ */
+@Component
+public class CallDetailCache {
+
+    static final long TTL_MILLIS = 50 * 60_000;
+
+    private static final int MAX_ENTRIES = 2_000;
+
+    private static final Set<CallState> CACHEABLE_STATES = EnumSet.of(CallState.COMPLETED, CallState.FAILED);
+
+    /** 보호자 통화 상세 (최신 리뷰 포함) */
+    public static final String GUARDIAN_VIEW = "guardian";
+
+    /** 통화 상세 전체 (CallDetailService) */
+    public static final String DETAIL_VIEW = "detail";
+
+    /** 상담사 통화 상세 (상담사 본인 리뷰 포함) */
+    public static String counselorView(Long counselorId) {
+        return "counselor:" + counselorId;
+    }
+
+    private final Map<Long, CachedCall> byCallId = new ConcurrentHashMap<>();
+
+    /** 무효화 횟수 - 조회 도중 무효화가 있었으면 조립한 응답을 보관하지 않음 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param elderlyId 권한 확인용 어르신 ID
+     */
+    public record Entry<T>(Long elderlyId, T payload) {
+    }
+
+    private record CachedCall(Long elderlyId, long loadedAt, Map<String, Object> views) {
+        boolean isFresh(long now) {
+            return now - loadedAt < TTL_MILLIS;
+        }
+    }
+
+    /**
+     * 통화 조회 전에 읽어 두고 put에 그대로 넘김
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public <T> Optional<Entry<T>> find(Long callId, String view, Class<T> type) {
+        CachedCall cached = byCallId.get(callId);
+        if (cached == null || !cached.isFresh(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        Object payload = cached.views().get(view);
+        if (!type.isInstance(payload)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Entry<>(cached.elderlyId(), type.cast(payload)));
+    }
+
+    /**
+     * 진행 중인 통화는 대화가 계속 쌓이므로 보관하지 않음
+     *
+     * @param loadedGeneration 통화 조회 전에 읽은 {@link #generation()}
+     */
+    public void put(CallRecord callRecord, String view, Object payload, long loadedGeneration) {
+        if (!CACHEABLE_STATES.contains(callRecord.getState()) || generation.get() != loadedGeneration) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (byCallId.size() >= MAX_ENTRIES) {
+            byCallId.clear();
+        }
+        CachedCall stored = byCallId.compute(callRecord.getId(), (callId, cached) -> {
+            CachedCall target = cached != null && cached.isFresh(now) ? cached
+                    : new CachedCall(callRecord.getElderly().getId(), now, new ConcurrentHashMap<>());
+            target.views().put(view, payload);
+            return target;
+        });
+        // 확인과 보관 사이에 무효화가 끼어들었으면 되돌림 (무효화는 세대 증가 → 제거 순서)
+        if (generation.get() != loadedGeneration) {
+            byCallId.remove(callRecord.getId(), stored);
+        }
+    }
+
+    /**
+     * 리뷰 작성/수정, 요약·감정·상태 재저장
+     */
+    public void evict(Long callId) {
+        TransactionUtils.afterCommit(() -> {
+            generation.incrementAndGet();
+            byCallId.remove(callId);
+        });
+    }
+}
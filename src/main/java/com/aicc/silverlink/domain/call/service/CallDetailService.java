@@ -2,17 +2,22 @@ package com.aicc.silverlink.domain.call.service;
 
 import com.aicc.silverlink.domain.assignment.repository.AssignmentRepository;
 import com.aicc.silverlink.domain.call.dto.CallDetailDto.*;
+import com.aicc.silverlink.domain.call.dto.CallReviewDto.CallRecordSummaryResponse;
 import com.aicc.silverlink.domain.call.entity.*;
 import com.aicc.silverlink.domain.call.repository.*;
 import com.aicc.silverlink.domain.guardian.repository.GuardianElderlyRepository;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
 import com.aicc.silverlink.global.exception.BusinessException;
 import com.aicc.silverlink.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.aicc.silverlink.domain.call.dto.CallDetailDto.*;
 
@@ -31,6 +36,7 @@ public class CallDetailService {
     private final AssignmentRepository assignmentRepository;
     private final GuardianElderlyRepository guardianElderlyRepository;
     private final com.aicc.silverlink.domain.consent.service.AccessRequestService accessRequestService;
+    private final CallDetailCache callDetailCache;
 
     /**
      * 상담사용 - 통화 상세 조회
@@ -38,15 +44,15 @@ public class CallDetailService {
     public CallDetailResponse getCallDetailForCounselor(Long counselorId, Long callId) {
         log.info("상담사 통화 상세 조회: counselorId={}, callId={}", counselorId, callId);
 
-        CallRecord callRecord = findCallRecordById(callId);
+        CallDetailResponse detail = loadCallDetail(callId);
 
         // 담당 어르신인지 확인
-        Long elderlyId = callRecord.getElderly().getId();
+        Long elderlyId = detail.getElderlyId();
         if (!assignmentRepository.existsByCounselorIdAndElderlyIdAndStatusActive(counselorId, elderlyId)) {
             throw new BusinessException(ErrorCode.NOT_ASSIGNED_ELDERLY);
         }
 
-        return buildCallDetailResponse(callRecord, true);
+        return detail;
     }
 
     /**
@@ -55,10 +61,10 @@ public class CallDetailService {
     public CallDetailResponse getCallDetailForGuardian(Long guardianId, Long callId) {
         log.info("보호자 통화 상세 조회: guardianId={}, callId={}", guardianId, callId);
 
-        CallRecord callRecord = findCallRecordById(callId);
+        CallDetailResponse detail = loadCallDetail(callId);
 
         // 보호 관계인지 확인
-        Long elderlyId = callRecord.getElderly().getId();
+        Long elderlyId = detail.getElderlyId();
         if (!guardianElderlyRepository.existsByGuardianIdAndElderlyId(guardianId, elderlyId)) {
             throw new BusinessException(ErrorCode.NOT_RELATED_ELDERLY);
         }
@@ -69,7 +75,7 @@ public class CallDetailService {
                 elderlyId,
                 com.aicc.silverlink.domain.consent.entity.AccessRequest.AccessScope.CALL_RECORDS);
 
-        return buildCallDetailResponse(callRecord, hasAccess);
+        return hasAccess ? detail : detail.summaryOnly();
     }
 
     /**
@@ -78,8 +84,21 @@ public class CallDetailService {
     public CallDetailResponse getCallDetailForAdmin(Long callId) {
         log.info("관리자 통화 상세 조회: callId={}", callId);
 
-        CallRecord callRecord = findCallRecordById(callId);
-        return buildCallDetailResponse(callRecord, true);
+        return loadCallDetail(callId);
+    }
+
+    /**
+     * 관리자용 - 어르신 통화 타임라인 (커서 기반, COUNT 없음)
+     */
+    public CursorResponse<CallRecordSummaryResponse> getCallTimelineForAdmin(Long elderlyId,
+            CursorRequest cursorRequest) {
+        CallCursor cursor = CallCursors.resolve(callRecordRepository, cursorRequest);
+
+        List<CounselorCallRow> rows = callRecordRepository.findCallRowsForElderlyAfter(
+                elderlyId, cursor.callAt(), cursor.id(), Limit.of(cursorRequest.size() + 1));
+
+        return CursorResponse.of(rows, cursorRequest.size(), CounselorCallRow::callId)
+                .map(CallRecordSummaryResponse::from);
     }
 
     /**
@@ -110,30 +129,37 @@ public class CallDetailService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CALL_RECORD_NOT_FOUND));
     }
 
-    private CallDetailResponse buildCallDetailResponse(CallRecord callRecord, boolean hasAccess) {
+    /**
+     * 종료된 통화는 캐시된 응답을 사용 (권한 확인은 호출 측에서 매번 수행)
+     */
+    private CallDetailResponse loadCallDetail(Long callId) {
+        long cacheGeneration = callDetailCache.generation();
+        Optional<CallDetailCache.Entry<CallDetailResponse>> cached = callDetailCache.find(
+                callId, CallDetailCache.DETAIL_VIEW, CallDetailResponse.class);
+        if (cached.isPresent()) {
+            return cached.get().payload();
+        }
+
+        CallRecord callRecord = findCallRecordById(callId);
+        CallDetailResponse detail = buildCallDetailResponse(callRecord);
+        callDetailCache.put(callRecord, CallDetailCache.DETAIL_VIEW, detail, cacheGeneration);
+        return detail;
+    }
+
+    private CallDetailResponse buildCallDetailResponse(CallRecord callRecord) {
         Long callId = callRecord.getId();
 
-        // 1. 통화 요약 (항상 제공)
+        // 1. 통화 요약
         String summary = summaryRepository.findLatestByCallId(callId)
                 .map(CallSummary::getContent)
                 .orElse(null);
 
-        if (!hasAccess) {
-            return CallDetailResponse.from(
-                    callRecord,
-                    summary,
-                    List.of(), // 대화 내용 숨김
-                    null, // 상태 정보 숨김
-                    null, // AI 분석 숨김
-                    false);
-        }
-
         // 2. 대화 내용
         List<LlmModel> llmModels = llmModelRepository.findByCallIdOrderByCreatedAtAsc(callId);
         List<ElderlyResponse> elderlyResponses = elderlyResponseRepository
                 .findByCallRecordIdOrderByRespondedAtAsc(callId);
-        List<ConversationMessage> conversations = mergeConversations(
-                llmModels, elderlyResponses, callRecord.getCallAt());
+        List<ConversationMessage> conversations = List.copyOf(mergeConversations(
+                llmModels, elderlyResponses, callRecord.getCallAt()));
 
         // 3. 오늘의 상태
         DailyStatusResponse dailyStatus = buildDailyStatus(callId);
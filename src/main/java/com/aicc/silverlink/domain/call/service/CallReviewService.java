@@ -9,18 +9,23 @@ import com.aicc.silverlink.domain.call.repository.*;
 import com.aicc.silverlink.domain.counselor.entity.Counselor;
 import com.aicc.silverlink.domain.counselor.repository.CounselorRepository;
 import com.aicc.silverlink.domain.guardian.repository.GuardianElderlyRepository;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
 import com.aicc.silverlink.global.exception.BusinessException;
 import com.aicc.silverlink.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -40,6 +45,8 @@ public class CallReviewService {
     private final GuardianElderlyRepository guardianElderlyRepository;
     private final com.aicc.silverlink.domain.file.service.FileService fileService;
     private final com.aicc.silverlink.domain.notification.service.NotificationService notificationService;
+    private final CounselorCallCountCache counselorCallCountCache;
+    private final CallDetailCache callDetailCache;
 
     // ===== 상담사용 메서드 =====
 
@@ -49,16 +56,25 @@ public class CallReviewService {
     public Page<CallRecordSummaryResponse> getCallRecordsForCounselor(Long counselorId, Pageable pageable) {
         validateCounselor(counselorId);
 
-        Page<CallRecord> callRecords = callRecordRepository.findCallRecordsForCounselor(counselorId, pageable);
+        // 확인 여부·최신 감정·오늘의 상태까지 한 쿼리로 조회 (행마다 추가 조회 없음)
+        return callRecordRepository.findCallRowsForCounselor(counselorId, pageable)
+                .map(CallRecordSummaryResponse::from);
+    }
+
+    /**
+     * 상담사 통화 타임라인 (커서 기반)
+     * (callAt, id) 이후 행만 조회하므로 깊은 페이지도 비용이 같고 COUNT 쿼리가 없음
+     */
+    public CursorResponse<CallRecordSummaryResponse> getCallTimelineForCounselor(Long counselorId,
+            CursorRequest cursorRequest) {
+        validateCounselor(counselorId);
 
-        List<CallRecordSummaryResponse> responses = callRecords.getContent().stream()
-                .map(cr -> {
-                    boolean reviewed = reviewRepository.existsByCallRecordIdAndCounselorId(cr.getId(), counselorId);
-                    return CallRecordSummaryResponse.from(cr, reviewed);
-                })
-                .toList();
+        CallCursor cursor = CallCursors.resolve(callRecordRepository, cursorRequest);
+        List<CounselorCallRow> rows = callRecordRepository.findCallRowsForCounselorAfter(
+                counselorId, cursor.callAt(), cursor.id(), Limit.of(cursorRequest.size() + 1));
 
-        return new PageImpl<>(responses, pageable, callRecords.getTotalElements());
+        return CursorResponse.of(rows, cursorRequest.size(), CounselorCallRow::callId)
+                .map(CallRecordSummaryResponse::from);
     }
 
     /**
@@ -67,6 +83,16 @@ public class CallReviewService {
     public CallRecordDetailResponse getCallRecordDetail(Long callId, Long counselorId) {
         validateCounselor(counselorId);
 
+        // 종료된 통화는 조립된 응답(Pre-signed URL 포함)을 재사용, 담당 여부는 매번 확인
+        String view = CallDetailCache.counselorView(counselorId);
+        long cacheGeneration = callDetailCache.generation();
+        Optional<CallDetailCache.Entry<CallRecordDetailResponse>> cached = callDetailCache.find(
+                callId, view, CallRecordDetailResponse.class);
+        if (cached.isPresent()) {
+            validateCounselorAssignment(counselorId, cached.get().elderlyId());
+            return cached.get().payload();
+        }
+
         CallRecord callRecord = callRecordRepository.findByIdWithDetails(callId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CALL_RECORD_NOT_FOUND));
 
@@ -111,7 +137,10 @@ public class CallReviewService {
         // 오늘의 상태 (식사, 건강, 수면) 조회
         CallDailyStatus dailyStatus = dailyStatusRepository.findByCallRecordId(callId).orElse(null);
 
-        return CallRecordDetailResponse.from(callRecord, review, presignedRecordingUrl, dailyStatus);
+        CallRecordDetailResponse response = CallRecordDetailResponse.from(
+                callRecord, review, presignedRecordingUrl, dailyStatus);
+        callDetailCache.put(callRecord, view, response, cacheGeneration);
+        return response;
     }
 
     /**
@@ -136,6 +165,8 @@ public class CallReviewService {
                 callRecord, counselor, request.getComment(), request.isUrgent());
 
         CounselorCallReview savedReview = reviewRepository.save(review);
+        counselorCallCountCache.evict(counselorId);
+        callDetailCache.evict(request.getCallId());
         log.info("상담사 통화 리뷰 생성: counselorId={}, callId={}, urgent={}",
                 counselorId, request.getCallId(), request.isUrgent());
 
@@ -175,6 +206,7 @@ public class CallReviewService {
         }
 
         review.updateComment(request.getComment(), request.isUrgent());
+        callDetailCache.evict(review.getCallRecord().getId());
         log.info("상담사 통화 리뷰 수정: reviewId={}, counselorId={}", reviewId, counselorId);
 
         return ReviewResponse.from(review);
@@ -186,13 +218,12 @@ public class CallReviewService {
     public UnreviewedCountResponse getUnreviewedCount(Long counselorId) {
         validateCounselor(counselorId);
 
-        long unreviewedCount = callRecordRepository.countUnreviewedCallsForCounselor(counselorId);
-        long totalCount = callRecordRepository.findCallRecordsForCounselor(counselorId, Pageable.unpaged())
-                .getTotalElements();
+        // 전체/미확인 건수를 한 번의 집계로 (상담사별 캐시, 통화 종료·리뷰 작성 시 무효화)
+        CounselorCallCounts counts = counselorCallCountCache.get(counselorId);
 
         return UnreviewedCountResponse.builder()
-                .unreviewedCount(unreviewedCount)
-                .totalCount(totalCount)
+                .unreviewedCount(counts.unreviewed())
+                .totalCount(counts.total())
                 .build();
     }
 
@@ -221,28 +252,45 @@ public class CallReviewService {
         validateGuardianElderlyRelation(guardianId, elderlyId);
 
         // CallRecord를 직접 조회 (리뷰 여부와 무관하게 모든 통화 포함 - 진행중인 통화 포함)
+        // 오늘의 상태는 fetch join, 대화/감정/요약 컬렉션은 배치 로딩
         Page<CallRecord> callRecords = callRecordRepository.findAllByElderlyId(elderlyId, pageable);
 
-        List<GuardianCallReviewResponse> responses = callRecords.getContent().stream()
-                .map(callRecord -> {
-                    // 리뷰가 있으면 최신 리뷰를 가져옴 (없으면 null)
-                    List<CounselorCallReview> reviews = reviewRepository
-                            .findByCallRecordIdOrderByReviewedAtDesc(callRecord.getId());
-                    CounselorCallReview latestReview = reviews.isEmpty() ? null : reviews.get(0);
+        Map<Long, CounselorCallReview> latestReviews = findLatestReviews(callRecords.getContent());
+
+        return callRecords.map(callRecord -> GuardianCallReviewResponse.from(
+                callRecord, latestReviews.get(callRecord.getId()), callRecord.getDailyStatus()));
+    }
+
+    /**
+     * 보호자 통화 타임라인 (커서 기반, COUNT 없음)
+     */
+    public CursorResponse<GuardianCallReviewResponse> getCallTimelineForGuardian(Long guardianId, Long elderlyId,
+            CursorRequest cursorRequest) {
+        validateGuardianElderlyRelation(guardianId, elderlyId);
+
+        CallCursor cursor = CallCursors.resolve(callRecordRepository, cursorRequest);
+        List<CallRecord> fetched = callRecordRepository.findAllByElderlyIdAfter(
+                elderlyId, cursor.callAt(), cursor.id(), Limit.of(cursorRequest.size() + 1));
+        CursorResponse<CallRecord> callRecords = CursorResponse.of(fetched, cursorRequest.size(), CallRecord::getId);
 
-                    CallDailyStatus dailyStatus = dailyStatusRepository
-                            .findByCallRecordId(callRecord.getId()).orElse(null);
-                    return GuardianCallReviewResponse.from(callRecord, latestReview, dailyStatus);
-                })
-                .toList();
+        Map<Long, CounselorCallReview> latestReviews = findLatestReviews(callRecords.content());
 
-        return new PageImpl<>(responses, pageable, callRecords.getTotalElements());
+        return callRecords.map(callRecord -> GuardianCallReviewResponse.from(
+                callRecord, latestReviews.get(callRecord.getId()), callRecord.getDailyStatus()));
     }
 
     /**
      * 보호자가 통화 상세 조회 (상담사 코멘트 포함)
      */
     public GuardianCallReviewResponse getCallDetailForGuardian(Long guardianId, Long callId) {
+        long cacheGeneration = callDetailCache.generation();
+        Optional<CallDetailCache.Entry<GuardianCallReviewResponse>> cached = callDetailCache.find(
+                callId, CallDetailCache.GUARDIAN_VIEW, GuardianCallReviewResponse.class);
+        if (cached.isPresent()) {
+            validateGuardianElderlyRelation(guardianId, cached.get().elderlyId());
+            return cached.get().payload();
+        }
+
         CallRecord callRecord = callRecordRepository.findByIdWithDetails(callId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CALL_RECORD_NOT_FOUND));
 
@@ -266,11 +314,28 @@ public class CallReviewService {
         // 오늘의 상태 (식사, 건강, 수면) 조회
         CallDailyStatus dailyStatus = dailyStatusRepository.findByCallRecordId(callId).orElse(null);
 
-        return GuardianCallReviewResponse.from(callRecord, latestReview, dailyStatus);
+        GuardianCallReviewResponse response = GuardianCallReviewResponse.from(callRecord, latestReview, dailyStatus);
+        callDetailCache.put(callRecord, CallDetailCache.GUARDIAN_VIEW, response, cacheGeneration);
+        return response;
     }
 
     // ===== Private Helper Methods =====
 
+    /**
+     * 목록 내 통화들의 리뷰를 IN 쿼리 한 번으로 조회 후 통화별 최신 리뷰만 사용
+     */
+    private Map<Long, CounselorCallReview> findLatestReviews(List<CallRecord> callRecords) {
+        Map<Long, CounselorCallReview> latestReviews = new HashMap<>();
+        if (callRecords.isEmpty()) {
+            return latestReviews;
+        }
+        List<Long> callIds = callRecords.stream().map(CallRecord::getId).toList();
+        for (CounselorCallReview review : reviewRepository.findWithCounselorByCallRecordIdIn(callIds)) {
+            latestReviews.putIfAbsent(review.getCallRecord().getId(), review);
+        }
+        return latestReviews;
+    }
+
     private Counselor validateCounselor(Long counselorId) {
         return counselorRepository.findById(counselorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
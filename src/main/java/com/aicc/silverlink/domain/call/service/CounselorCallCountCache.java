@@ -0,0 +1,93 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.assignment.repository.AssignmentRepository;
+import com.aicc.silverlink.domain.call.repository.CallRecordRepository;
+import com.aicc.silverlink.domain.call.repository.CounselorCallCounts;
+import com.aicc.silverlink.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상담사별 통화 건수(전체/미확인) 캐시
+ * 미확인 배지는 화면마다 주기적으로 조회되므로 집계 결과를 보관하고
+ * 통화 생성/종료(CallBotInternalService), 리뷰 작성(CallReviewService) 시 해당 상담사 항목을 비움
+ * - 무효화는 커밋 후 수행 (커밋 전 다른 요청이 이전 값을 다시 채우는 것 방지)
+ * - 커밋 전에 시작된 집계가 무효화 뒤에 이전 값을 보관하지 않도록 무효화 세대를 비교
+ * - 배정 변경 등 그 밖의 변경과 다른 인스턴스의 변경은 TTL 안에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounselorCallCountCache {
+
+    static final long TTL_MILLIS = 60_000;
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final CallRecordRepository callRecordRepository;
+    private final AssignmentRepository assignmentRepository;
+
+    private final Map<Long, CachedCounts> byCounselorId = new ConcurrentHashMap<>();
+
+    /** 무효화 횟수 - 집계 도중 무효화가 있었으면 집계 결과를 보관하지 않음 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private record CachedCounts(CounselorCallCounts counts, long loadedAt) {
+        boolean isFresh(long now) {
+            return now - loadedAt < TTL_MILLIS;
+        }
+    }
+
+    public CounselorCallCounts get(Long counselorId) {
+        long now = System.currentTimeMillis();
+        CachedCounts cached = byCounselorId.get(counselorId);
+        if (cached != null && cached.isFresh(now)) {
+            return cached.counts();
+        }
+
+        long loadedGeneration = generation.get();
+        CounselorCallCounts counts = callRecordRepository.countCallsForCounselor(counselorId);
+        if (generation.get() != loadedGeneration) {
+            return counts;
+        }
+        if (byCounselorId.size() >= MAX_ENTRIES) {
+            byCounselorId.clear();
+        }
+        CachedCounts entry = new CachedCounts(counts, now);
+        byCounselorId.put(counselorId, entry);
+        // 확인과 보관 사이에 무효화가 끼어들었으면 되돌림 (무효화는 세대 증가 → 제거 순서)
+        if (generation.get() != loadedGeneration) {
+            byCounselorId.remove(counselorId, entry);
+        }
+        return counts;
+    }
+
+    /**
+     * 리뷰 작성 등 상담사가 확정된 변경
+     */
+    public void evict(Long counselorId) {
+        TransactionUtils.afterCommit(() -> {
+            generation.incrementAndGet();
+            byCounselorId.remove(counselorId);
+        });
+    }
+
+    /**
+     * 통화 생성/종료: 어르신을 담당 중인 상담사 항목을 비움
+     */
+    public void evictForElderly(Long elderlyId) {
+        var counselorIds = assignmentRepository.findActiveCounselorIdsByElderlyId(elderlyId);
+        if (counselorIds.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            generation.incrementAndGet();
+            counselorIds.forEach(byCounselorId::remove);
+        });
+    }
+}
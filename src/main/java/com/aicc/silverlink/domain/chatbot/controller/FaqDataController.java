@@ -1,6 +1,7 @@
 package com.aicc.silverlink.domain.chatbot.controller;
 
 import com.aicc.silverlink.domain.chatbot.dto.FaqDataDto;
+import com.aicc.silverlink.domain.chatbot.dto.SyncCursor;
 import com.aicc.silverlink.domain.chatbot.service.FaqDataService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -8,11 +9,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -51,4 +54,16 @@ public class FaqDataController {
         log.info("Returning {} updated FAQs since {}", faqs.size(), since);
         return ResponseEntity.ok(faqs);
     }
+
+    @GetMapping(value = "/feed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "FAQ 증분 동기화 피드 (NDJSON)", description = "(updatedAt, faqId) 워터마크 이후 변경된 FAQ를 updatedAt, faqId 순으로 한 줄에 한 건씩 스트리밍합니다. 비활성화된 FAQ는 deleted=true로 포함됩니다.")
+    public ResponseEntity<StreamingResponseBody> getFaqFeed(
+            @Parameter(description = "마지막으로 받은 행의 updatedAt (없으면 전체, ISO 8601 형식)", example = "2024-01-21T10:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "마지막으로 받은 행의 faqId (같은 updatedAt 내 이어받기)") @RequestParam(required = false) Long afterId) {
+        log.info("API called: GET /api/data/faqs/feed?since={}&afterId={}", since, afterId);
+
+        SyncCursor cursor = new SyncCursor(since, afterId);
+        StreamingResponseBody body = out -> faqDataService.streamChangedFaqs(cursor, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -1,18 +1,24 @@
 package com.aicc.silverlink.domain.chatbot.controller;
 
 import com.aicc.silverlink.domain.chatbot.dto.InquiryDataDto;
+import com.aicc.silverlink.domain.chatbot.dto.SyncCursor;
 import com.aicc.silverlink.domain.chatbot.service.InquiryDataService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -53,4 +59,16 @@ public class InquiryDataController {
                 inquiries.size(), guardianId, elderlyId);
         return ResponseEntity.ok(inquiries);
     }
+
+    @GetMapping(value = "/feed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "문의 증분 동기화 피드 (NDJSON)", description = "(updatedAt, inquiryId) 워터마크 이후 변경된 답변 완료 문의를 updatedAt, inquiryId 순으로 한 줄에 한 건씩 스트리밍합니다. 삭제된 문의는 deleted=true로 포함됩니다.")
+    public ResponseEntity<StreamingResponseBody> getInquiryFeed(
+            @Parameter(description = "마지막으로 받은 행의 updatedAt (없으면 전체, ISO 8601 형식)", example = "2024-01-21T10:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "마지막으로 받은 행의 inquiryId (같은 updatedAt 내 이어받기)") @RequestParam(required = false) Long afterId) {
+        log.info("API called: GET /api/data/inquiries/feed?since={}&afterId={}", since, afterId);
+
+        SyncCursor cursor = new SyncCursor(since, afterId);
+        StreamingResponseBody body = out -> inquiryDataService.streamChangedInquiries(cursor, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -22,6 +22,11 @@ public class FaqDataDto {
     private String answerText;
     private LocalDateTime updatedAt;
 
+    /**
+     * 비활성화된 FAQ (증분 피드에서 챗봇 인덱스 제거용)
+     */
+    private boolean deleted;
+
     /**
      * Faq 엔티티를 FaqDataDto로 변환
      */
@@ -32,6 +37,7 @@ public class FaqDataDto {
                 .question(faq.getQuestion())
                 .answerText(faq.getAnswerText())
                 .updatedAt(faq.getUpdatedAt())
+                .deleted(!faq.isActive())
                 .build();
     }
 }
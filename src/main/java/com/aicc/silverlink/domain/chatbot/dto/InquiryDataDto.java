@@ -1,7 +1,6 @@
 package com.aicc.silverlink.domain.chatbot.dto;
 
-import com.aicc.silverlink.domain.inquiry.entity.Inquiry;
-import com.aicc.silverlink.domain.inquiry.entity.InquiryAnswer;
+import com.aicc.silverlink.domain.inquiry.repository.InquiryDataRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,18 +22,26 @@ public class InquiryDataDto {
     private String question;
     private String answer;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 
     /**
-     * Inquiry와 InquiryAnswer를 결합하여 InquiryDataDto로 변환
+     * 삭제된 문의 (증분 피드에서 챗봇 인덱스 제거용)
      */
-    public static InquiryDataDto from(Inquiry inquiry, InquiryAnswer inquiryAnswer) {
+    private boolean deleted;
+
+    /**
+     * 문의 + 최신 답변 프로젝션을 InquiryDataDto로 변환
+     */
+    public static InquiryDataDto from(InquiryDataRow row) {
         return InquiryDataDto.builder()
-                .inquiryId(inquiry.getId())
-                .elderlyUserId(inquiry.getElderly().getId())
-                .guardianUserId(inquiry.getCreatedBy().getId())
-                .question(inquiry.getQuestionText())
-                .answer(inquiryAnswer != null ? inquiryAnswer.getAnswerText() : null)
-                .createdAt(inquiry.getCreatedAt())
+                .inquiryId(row.inquiryId())
+                .elderlyUserId(row.elderlyUserId())
+                .guardianUserId(row.guardianUserId())
+                .question(row.question())
+                .answer(row.answer())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .deleted(row.deleted())
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.aicc.silverlink.domain.chatbot.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 챗봇 증분 동기화 워터마크 (updatedAt, id)
+ * 응답의 마지막 행의 (updatedAt, id)를 다음 요청에 그대로 넘기면 이후 변경분만 받음
+ * - 같은 시각에 여러 건이 바뀌어도 id로 이어받으므로 누락/중복 없음
+ */
+public record SyncCursor(LocalDateTime since, Long afterId) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public SyncCursor {
+        since = since != null ? since : EPOCH;
+        afterId = afterId != null ? afterId : 0L;
+    }
+}
@@ -1,15 +1,21 @@
 package com.aicc.silverlink.domain.chatbot.service;
 
 import com.aicc.silverlink.domain.chatbot.dto.FaqDataDto;
+import com.aicc.silverlink.domain.chatbot.dto.SyncCursor;
+import com.aicc.silverlink.domain.inquiry.entity.Faq;
 import com.aicc.silverlink.domain.inquiry.repository.FaqRepository;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Python 챗봇 서비스에 FAQ 데이터를 제공하는 서비스
@@ -21,6 +27,7 @@ import java.util.stream.Collectors;
 public class FaqDataService {
 
     private final FaqRepository faqRepository;
+    private final JsonStreamWriter jsonStreamWriter;
 
     /**
      * 모든 활성 FAQ 데이터 조회
@@ -52,4 +59,18 @@ public class FaqDataService {
                 .map(FaqDataDto::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 워터마크 이후 변경된 FAQ를 NDJSON으로 스트리밍
+     * Python 챗봇의 증분 동기화 시 사용 (InquiryDataService#streamChangedInquiries와 같은 계약)
+     * 비활성화된 FAQ는 deleted=true로 내려 챗봇이 인덱스에서 제거하도록 함
+     *
+     * @param cursor 마지막으로 받은 행의 (updatedAt, faqId)
+     */
+    public void streamChangedFaqs(SyncCursor cursor, OutputStream out) throws IOException {
+        try (Stream<Faq> faqs = faqRepository.streamChangedAfter(cursor.since(), cursor.afterId())) {
+            int count = jsonStreamWriter.write(out, faqs, FaqDataDto::from, JsonStreamWriter.Format.NDJSON);
+            log.info("Streamed {} changed FAQs after {}", count, cursor);
+        }
+    }
 }
@@ -1,17 +1,20 @@
 package com.aicc.silverlink.domain.chatbot.service;
 
 import com.aicc.silverlink.domain.chatbot.dto.InquiryDataDto;
-import com.aicc.silverlink.domain.inquiry.entity.Inquiry;
-import com.aicc.silverlink.domain.inquiry.entity.Inquiry.InquiryStatus;
-import com.aicc.silverlink.domain.inquiry.repository.InquiryAnswerRepository;
+import com.aicc.silverlink.domain.chatbot.dto.SyncCursor;
+import com.aicc.silverlink.domain.inquiry.repository.InquiryDataRow;
 import com.aicc.silverlink.domain.inquiry.repository.InquiryRepository;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Python 챗봇 서비스에 Inquiry 데이터를 제공하는 서비스
@@ -23,7 +26,7 @@ import java.util.stream.Collectors;
 public class InquiryDataService {
 
     private final InquiryRepository inquiryRepository;
-    private final InquiryAnswerRepository inquiryAnswerRepository;
+    private final JsonStreamWriter jsonStreamWriter;
 
     /**
      * 답변 완료된 모든 문의 데이터 조회
@@ -34,16 +37,9 @@ public class InquiryDataService {
     public List<InquiryDataDto> getAllAnsweredInquiries() {
         log.info("Retrieving all answered inquiries for chatbot sync");
 
-        List<Inquiry> inquiries = inquiryRepository
-                .findAllByStatusAndIsDeletedFalseOrderByCreatedAtDesc(InquiryStatus.ANSWERED);
-
-        return inquiries.stream()
-                .map(inquiry -> {
-                    var answer = inquiryAnswerRepository
-                            .findByInquiryIdAndIsDeletedFalse(inquiry.getId())
-                            .orElse(null);
-                    return InquiryDataDto.from(inquiry, answer);
-                })
+        return inquiryRepository.findAnsweredDataRows()
+                .stream()
+                .map(InquiryDataDto::from)
                 .collect(Collectors.toList());
     }
 
@@ -59,16 +55,24 @@ public class InquiryDataService {
         log.info("Retrieving answered inquiries for guardian: {} and elderly: {}",
                 guardianId, elderlyId);
 
-        List<Inquiry> inquiries = inquiryRepository
-                .findAnsweredInquiriesByRelation(guardianId, elderlyId);
-
-        return inquiries.stream()
-                .map(inquiry -> {
-                    var answer = inquiryAnswerRepository
-                            .findByInquiryIdAndIsDeletedFalse(inquiry.getId())
-                            .orElse(null);
-                    return InquiryDataDto.from(inquiry, answer);
-                })
+        return inquiryRepository.findAnsweredDataRowsByRelation(guardianId, elderlyId)
+                .stream()
+                .map(InquiryDataDto::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 워터마크 이후 변경된 답변 완료 문의를 NDJSON으로 스트리밍
+     * Python 챗봇의 증분 동기화 시 사용 (FaqDataService#streamChangedFaqs와 같은 계약)
+     * 삭제된 문의는 본문·작성자 없이 deleted=true 툼스톤으로 내려 챗봇이 인덱스에서 제거하도록 함
+     *
+     * @param cursor 마지막으로 받은 행의 (updatedAt, inquiryId)
+     */
+    public void streamChangedInquiries(SyncCursor cursor, OutputStream out) throws IOException {
+        try (Stream<InquiryDataRow> rows = inquiryRepository
+                .streamAnsweredDataRowsAfter(cursor.since(), cursor.afterId())) {
+            int count = jsonStreamWriter.write(out, rows, InquiryDataDto::from, JsonStreamWriter.Format.NDJSON);
+            log.info("Streamed {} changed inquiries after {}", count, cursor);
+        }
+    }
 }
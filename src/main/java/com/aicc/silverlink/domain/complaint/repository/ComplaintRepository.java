@@ -5,6 +5,8 @@ import com.aicc.silverlink.domain.complaint.entity.Complaint.ComplaintStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,9 +23,9 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     // 상태별 민원 조회
     Page<Complaint> findByStatus(ComplaintStatus status, Pageable pageable);
 
-    // 상태별 민원 수 카운트
-    long countByWriterIdAndStatus(Long writerId, ComplaintStatus status);
-
-    // 전체 민원 수 카운트 (작성자별)
-    long countByWriterId(Long writerId);
+    // 작성자별 상태별 민원 수 (한 번의 집계)
+    @Query("SELECT c.status, COUNT(c) FROM Complaint c " +
+            "WHERE c.writer.id = :writerId " +
+            "GROUP BY c.status")
+    List<Object[]> countByStatusForWriter(@Param("writerId") Long writerId);
 }
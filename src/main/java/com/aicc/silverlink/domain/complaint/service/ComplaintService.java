@@ -1,12 +1,12 @@
 package com.aicc.silverlink.domain.complaint.service;
 
 import com.aicc.silverlink.domain.admin.entity.Admin;
-import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.complaint.dto.ComplaintRequest;
 import com.aicc.silverlink.domain.complaint.dto.ComplaintResponse;
 import com.aicc.silverlink.domain.complaint.entity.Complaint;
 import com.aicc.silverlink.domain.complaint.entity.Complaint.ComplaintStatus;
 import com.aicc.silverlink.domain.complaint.repository.ComplaintRepository;
+import com.aicc.silverlink.domain.notification.service.AdminRecipientCache;
 import com.aicc.silverlink.domain.notification.service.NotificationService;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@ public class ComplaintService {
     private final ComplaintRepository complaintRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final AdminRecipientCache adminRecipientCache;
 
     /**
      * 민원 등록 (보호자)
@@ -45,15 +47,12 @@ public class ComplaintService {
 
         Complaint saved = complaintRepository.save(complaint);
 
-        // 모든 관리자에게 알림 발송
-        List<User> admins = userRepository.findByRoleIn(List.of(Role.ADMIN));
-        for (User admin : admins) {
-            notificationService.createComplaintNewNotification(
-                    admin.getId(),
-                    saved.getId(),
-                    writer.getName(),
-                    saved.getTitle());
-        }
+        // 모든 관리자에게 알림 발송 (캐시된 수신자 ID로 일괄 저장)
+        notificationService.createComplaintNewNotifications(
+                adminRecipientCache.getAdminUserIds(),
+                saved.getId(),
+                writer.getName(),
+                saved.getTitle());
 
         return ComplaintResponse.from(saved);
     }
@@ -87,10 +86,15 @@ public class ComplaintService {
      * 민원 통계 조회 (보호자)
      */
     public Map<String, Long> getMyComplaintStats(Long userId) {
-        long pending = complaintRepository.countByWriterIdAndStatus(userId, ComplaintStatus.WAITING);
-        long processing = complaintRepository.countByWriterIdAndStatus(userId, ComplaintStatus.PROCESSING);
-        long resolved = complaintRepository.countByWriterIdAndStatus(userId, ComplaintStatus.RESOLVED);
-        long total = complaintRepository.countByWriterId(userId);
+        Map<ComplaintStatus, Long> counts = new EnumMap<>(ComplaintStatus.class);
+        for (Object[] row : complaintRepository.countByStatusForWriter(userId)) {
+            counts.put((ComplaintStatus) row[0], (Long) row[1]);
+        }
+
+        long pending = counts.getOrDefault(ComplaintStatus.WAITING, 0L);
+        long processing = counts.getOrDefault(ComplaintStatus.PROCESSING, 0L);
+        long resolved = counts.getOrDefault(ComplaintStatus.RESOLVED, 0L);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
 
         return Map.of(
                 "pending", pending,
@@ -6,11 +6,16 @@ import com.aicc.silverlink.domain.elderly.dto.response.ElderlyAdminDetailRespons
 import com.aicc.silverlink.domain.elderly.dto.response.ElderlySummaryResponse;
 import com.aicc.silverlink.domain.elderly.dto.response.HealthInfoResponse;
 import com.aicc.silverlink.domain.elderly.service.ElderlyService;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
 import com.aicc.silverlink.global.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
@@ -31,6 +36,20 @@ public class AdminElderlyController {
         return elderlyService.getAllElderlyForAdmin();
     }
 
+    // 관리자: 어르신 목록 (커서 기반, 응답의 nextKey를 key로 넘겨 다음 목록 조회)
+    @GetMapping("/directory")
+    public CursorResponse<ElderlySummaryResponse> directory(@ModelAttribute CursorRequest cursorRequest) {
+        return elderlyService.getElderlyDirectoryForAdmin(cursorRequest);
+    }
+
+    // 관리자: 어르신 전체 내보내기 (NDJSON 기본, format=JSON이면 배열) - 조회하면서 바로 전송
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") JsonStreamWriter.Format format) {
+        StreamingResponseBody body = out -> elderlyService.exportElderlyDirectory(out, format);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
     // 관리자: 어르신 상세 통합 정보 조회 (보호자/상담사 포함)
     @GetMapping("/{elderlyUserId}/detail")
     public ElderlyAdminDetailResponse detail(@PathVariable Long elderlyUserId) {
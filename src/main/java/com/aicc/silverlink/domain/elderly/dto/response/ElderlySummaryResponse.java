@@ -1,6 +1,7 @@
 package com.aicc.silverlink.domain.elderly.dto.response;
 
 import com.aicc.silverlink.domain.elderly.entity.Elderly;
+import com.aicc.silverlink.domain.elderly.repository.ElderlyDirectoryRow;
 import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
 
 import java.time.LocalDate;
@@ -32,6 +33,26 @@ public record ElderlySummaryResponse(
         return from(e, guardianName, null);
     }
 
+    public static ElderlySummaryResponse from(ElderlyDirectoryRow row) {
+        return new ElderlySummaryResponse(
+                row.userId(),
+                row.name(),
+                row.phone(),
+                row.admCode(),
+                row.sidoName(),
+                row.sigunguName(),
+                row.dongName(),
+                AdministrativeDivision.fullAddress(row.sidoName(), row.sigunguName(), row.dongName()),
+                row.birthDate(),
+                Elderly.ageOf(row.birthDate()),
+                row.gender(),
+                row.addressLine1(),
+                row.addressLine2(),
+                row.zipcode(),
+                row.guardianName(),
+                row.counselorName());
+    }
+
     public static ElderlySummaryResponse from(Elderly e, String guardianName, String counselorName) {
         AdministrativeDivision division = e.getAdministrativeDivision();
 
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 import java.time.Period;
 
 @Entity
-@Table(name = "elderly")
+@Table(name = "elderly",
+        indexes = {
+                @Index(name = "idx_elderly_region", columnList = "sido_code, sigungu_code")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -31,6 +34,13 @@ public class Elderly {
     @JoinColumn(name = "adm_code", nullable = false)
     private AdministrativeDivision administrativeDivision;
 
+    // 지역 범위 조회용 비정규화 컬럼 (administrativeDivision 과 동기화)
+    @Column(name = "sido_code", length = 2)
+    private String sidoCode;
+
+    @Column(name = "sigungu_code", length = 3)
+    private String sigunguCode;
+
     @Column(name = "birth_date", nullable = false)
     private LocalDate birthDate;
 
@@ -73,6 +83,9 @@ public class Elderly {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        if (this.sidoCode == null) {
+            syncRegionCodes();
+        }
     }
 
     @PreUpdate
@@ -99,6 +112,7 @@ public class Elderly {
 
         this.user = user;
         this.administrativeDivision = administrativeDivision;
+        syncRegionCodes();
         this.birthDate = birthDate;
         this.gender = gender;
         this.callScheduleEnabled = false;
@@ -119,10 +133,25 @@ public class Elderly {
         if (administrativeDivision == null)
             throw new IllegalArgumentException("ADM_DIVISION_REQUIRED");
         this.administrativeDivision = administrativeDivision;
+        syncRegionCodes();
+    }
+
+    /**
+     * 행정구역의 시/도, 시/군/구 코드를 비정규화 컬럼에 복사
+     */
+    private void syncRegionCodes() {
+        if (this.administrativeDivision == null)
+            return;
+        this.sidoCode = this.administrativeDivision.getSidoCode();
+        this.sigunguCode = this.administrativeDivision.getSigunguCode();
     }
 
     public int age() {
-        return Period.between(this.birthDate, LocalDate.now()).getYears();
+        return ageOf(this.birthDate);
+    }
+
+    public static int ageOf(LocalDate birthDate) {
+        return Period.between(birthDate, LocalDate.now()).getYears();
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.aicc.silverlink.domain.elderly.repository;
+
+import com.aicc.silverlink.domain.elderly.entity.Elderly;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 어르신 목록 한 행 (ElderlyRepository 디렉터리 프로젝션)
+ * 어르신·행정구역·보호자·담당 상담사 이름을 조인 한 번으로 가져옴
+ */
+public record ElderlyDirectoryRow(
+        Long userId,
+        String name,
+        String phone,
+        Long admCode,
+        String sidoName,
+        String sigunguName,
+        String dongName,
+        LocalDate birthDate,
+        Elderly.Gender gender,
+        String addressLine1,
+        String addressLine2,
+        String zipcode,
+        String guardianName,
+        String counselorName) {
+}
@@ -1,13 +1,19 @@
 package com.aicc.silverlink.domain.elderly.repository;
 
 import com.aicc.silverlink.domain.elderly.entity.Elderly;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ElderlyRepository extends JpaRepository<Elderly, Long> {
@@ -30,22 +36,74 @@ public interface ElderlyRepository extends JpaRepository<Elderly, Long> {
     List<Elderly> findByAdmCode(@Param("admCode") Long admCode);
 
     /**
-     * ✅ 전체 어르신 목록 조회 (관리자용: User 및 행정구역 정보 포함)
+     * 관리자 어르신 목록 프로젝션 (보호자 1:1, 담당 상담사는 최신 활성 배정 기준)
      */
-    @Query("SELECT e FROM Elderly e " +
-            "JOIN FETCH e.user " +
-            "JOIN FETCH e.administrativeDivision")
-    List<Elderly> findAllWithUserAndDivision();
+    String DIRECTORY_ROW_QUERY = """
+            SELECT new com.aicc.silverlink.domain.elderly.repository.ElderlyDirectoryRow(
+                e.id, u.name, u.phone, ad.admCode, ad.sidoName, ad.sigunguName, ad.dongName,
+                e.birthDate, e.gender, e.addressLine1, e.addressLine2, e.zipcode,
+                gu.name,
+                (SELECT cu.name FROM Assignment a JOIN a.counselor c JOIN c.user cu
+                 WHERE a.id = (SELECT MAX(a2.id) FROM Assignment a2
+                               WHERE a2.elderly.id = e.id AND a2.status = 'ACTIVE')))
+            FROM Elderly e
+            JOIN e.user u
+            JOIN e.administrativeDivision ad
+            LEFT JOIN GuardianElderly ge ON ge.elderly.id = e.id
+            LEFT JOIN ge.guardian g
+            LEFT JOIN g.user gu
+            """;
+
+    /**
+     * 전체 어르신 목록 (관리자용)
+     */
+    @Query(DIRECTORY_ROW_QUERY + "ORDER BY e.id")
+    List<ElderlyDirectoryRow> findDirectoryRows();
+
+    /**
+     * 어르신 목록 (관리자용, 키셋: id 오름차순으로 afterId 다음부터 limit건)
+     */
+    @Query(DIRECTORY_ROW_QUERY + "WHERE e.id > :afterId ORDER BY e.id")
+    List<ElderlyDirectoryRow> findDirectoryRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 어르신 목록 내보내기용 스트림 (JDBC 커서로 읽는 대로 전달, 트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DIRECTORY_ROW_QUERY + "ORDER BY e.id")
+    Stream<ElderlyDirectoryRow> streamDirectoryRows();
 
     /**
      * ✅ 특정 시/도에 속한 어르신 목록 조회
      */
     @Query("SELECT e FROM Elderly e " +
             "JOIN FETCH e.user " +
-            "JOIN FETCH e.administrativeDivision ad " +
-            "WHERE ad.sidoCode = :sidoCode")
+            "JOIN FETCH e.administrativeDivision " +
+            "WHERE e.sidoCode = :sidoCode")
     List<Elderly> findBySidoCode(@Param("sidoCode") String sidoCode);
 
+    /**
+     * 특정 시/군/구에 속한 어르신 목록 조회
+     */
+    @Query("SELECT e FROM Elderly e " +
+            "JOIN FETCH e.user " +
+            "JOIN FETCH e.administrativeDivision " +
+            "WHERE e.sidoCode = :sidoCode AND e.sigunguCode = :sigunguCode")
+    List<Elderly> findBySigungu(@Param("sidoCode") String sidoCode, @Param("sigunguCode") String sigunguCode);
+
+    /**
+     * 지역 코드가 비어 있는 기존 어르신 보정 (행정구역 기준)
+     */
+    @Modifying
+    @Query("UPDATE Elderly e SET " +
+            "e.sidoCode = (SELECT ad.sidoCode FROM AdministrativeDivision ad WHERE ad = e.administrativeDivision), " +
+            "e.sigunguCode = (SELECT ad.sigunguCode FROM AdministrativeDivision ad WHERE ad = e.administrativeDivision) " +
+            "WHERE e.sidoCode IS NULL")
+    int backfillRegionCodes();
+
     /**
      * 현재 시간/요일에 통화 예정인 어르신 목록 (CallBot용)
      */
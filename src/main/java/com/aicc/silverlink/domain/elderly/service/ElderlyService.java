@@ -15,6 +15,7 @@ import com.aicc.silverlink.domain.elderly.dto.response.ElderlySummaryResponse;
 import com.aicc.silverlink.domain.elderly.dto.response.HealthInfoResponse;
 import com.aicc.silverlink.domain.elderly.entity.Elderly;
 import com.aicc.silverlink.domain.elderly.entity.ElderlyHealthInfo;
+import com.aicc.silverlink.domain.elderly.repository.ElderlyDirectoryRow;
 import com.aicc.silverlink.domain.elderly.repository.ElderlyRepository;
 import com.aicc.silverlink.domain.elderly.repository.HealthInfoRepository;
 import com.aicc.silverlink.domain.guardian.dto.GuardianResponse;
@@ -25,16 +26,22 @@ import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.entity.UserStatus;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 어르신 서비스
@@ -60,6 +67,7 @@ public class ElderlyService {
     private final GuardianElderlyRepository guardianElderlyRepo;
     private final AssignmentRepository assignmentRepo;
     private final CounselorService counselorService;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @Transactional
     public ElderlySummaryResponse createElderly(ElderlyCreateRequest req) {
@@ -97,32 +105,36 @@ public class ElderlyService {
 
     @Transactional(readOnly = true)
     public List<ElderlySummaryResponse> getAllElderlyForAdmin() {
-        // 1. 전체 어르신 조회
-        List<Elderly> elderlyList = elderlyRepo.findAllWithUserAndDivision();
-
-        // 2. 보호자 매핑 (어르신 ID -> 보호자 이름)
-        Map<Long, String> guardianMap = guardianElderlyRepo.findAllWithDetails().stream()
-                .collect(Collectors.toMap(
-                        ge -> ge.getElderly().getId(),
-                        ge -> ge.getGuardian().getUser().getName(),
-                        (existing, replacement) -> existing));
-
-        // 3. 상담사 매핑 (어르신 ID -> 상담사 이름)
-        Map<Long, String> counselorMap = assignmentRepo.findAllActiveWithDetails().stream()
-                .collect(Collectors.toMap(
-                        a -> a.getElderly().getId(),
-                        a -> a.getCounselor().getUser().getName(),
-                        (existing, replacement) -> existing));
-
-        // 4. 조합
-        return elderlyList.stream()
-                .map(e -> ElderlySummaryResponse.from(
-                        e,
-                        guardianMap.get(e.getId()),
-                        counselorMap.get(e.getId())))
+        // 보호자/상담사 이름까지 조인 한 번으로 조회 (전체 매핑을 메모리에 올리지 않음)
+        return elderlyRepo.findDirectoryRows().stream()
+                .map(ElderlySummaryResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 관리자 어르신 목록 (커서 기반, id 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ElderlySummaryResponse> getElderlyDirectoryForAdmin(CursorRequest cursorRequest) {
+        Long afterId = cursorRequest.hasKey() ? cursorRequest.key() : 0L;
+        List<ElderlyDirectoryRow> rows = elderlyRepo.findDirectoryRowsAfter(
+                afterId, Limit.of(cursorRequest.size() + 1));
+
+        return CursorResponse.of(rows, cursorRequest.size(), ElderlyDirectoryRow::userId)
+                .map(ElderlySummaryResponse::from);
+    }
+
+    /**
+     * 관리자 어르신 목록 내보내기
+     * JDBC 커서로 읽는 행을 바로 출력 스트림에 기록 (전체 목록을 메모리에 모으지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void exportElderlyDirectory(OutputStream out, JsonStreamWriter.Format format) throws IOException {
+        try (Stream<ElderlyDirectoryRow> rows = elderlyRepo.streamDirectoryRows()) {
+            jsonStreamWriter.write(out, rows, ElderlySummaryResponse::from, format);
+        }
+    }
+
     @Transactional(readOnly = true)
     public ElderlyAdminDetailResponse getElderlyDetailForAdmin(Long elderlyUserId) {
         Elderly elderly = elderlyRepo.findWithUserById(elderlyUserId)
@@ -144,6 +144,19 @@ public class EmergencyAlertController {
         return ResponseEntity.ok(ApiResponse.success(alerts));
     }
 
+    @GetMapping("/admin/jurisdiction")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "관리자 관할 구역 알림 목록", description = "로그인한 관리자의 관할 구역 긴급 알림 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<SummaryResponse>>> getAlertsForAdminJurisdiction(
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        Long adminId = SecurityUtils.currentUserId();
+        log.info("GET /api/emergency-alerts/admin/jurisdiction - 관할 구역 목록 (adminId: {})", adminId);
+
+        Page<SummaryResponse> alerts = alertService.getAlertsForAdminJurisdiction(adminId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+
     @GetMapping("/admin/stats")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "관리자용 통계", description = "전체 긴급 알림 통계를 조회합니다.")
@@ -0,0 +1,14 @@
+package com.aicc.silverlink.domain.emergency.dto;
+
+/**
+ * 긴급 SMS 팬아웃 지표 (관리자 메트릭 조회용)
+ * timeToLastSms: 알림 생성(에스컬레이션) 시각부터 마지막 수신자 발송 완료까지 걸린 시간
+ */
+public record EmergencySmsFanOutStats(
+        long fanOutCount,
+        Long lastAlertId,
+        int lastRecipientCount,
+        int lastDeferredCount,
+        long lastTimeToLastSmsMillis,
+        long maxTimeToLastSmsMillis) {
+}
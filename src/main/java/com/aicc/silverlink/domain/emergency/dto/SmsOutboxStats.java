@@ -0,0 +1,17 @@
+package com.aicc.silverlink.domain.emergency.dto;
+
+/**
+ * SMS 아웃박스 상태 스냅샷 (관리자 메트릭 조회용)
+ * 누적 카운터는 애플리케이션 기동 이후 값
+ */
+public record SmsOutboxStats(
+        long pendingCount,
+        long deadLetterCount,
+        long sentTotal,
+        long retryScheduledTotal,
+        long failedTotal,
+        long deadLetteredTotal,
+        double availableTokens,
+        long grantedPermits,
+        long throttledCount) {
+}
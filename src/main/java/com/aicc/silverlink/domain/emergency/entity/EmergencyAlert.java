@@ -20,7 +20,11 @@ import java.util.List;
         indexes = {
                 @Index(name = "idx_ea_elderly_time", columnList = "elderly_user_id, created_at DESC"),
                 @Index(name = "idx_ea_status_severity", columnList = "status, severity, created_at DESC"),
-                @Index(name = "idx_ea_counselor_status", columnList = "assigned_counselor_id, status")
+                @Index(name = "idx_ea_counselor_status", columnList = "assigned_counselor_id, status"),
+                @Index(name = "idx_ea_rank_time", columnList = "status_rank, created_at DESC"),
+                @Index(name = "idx_ea_sido_rank_time", columnList = "sido_code, status_rank, created_at DESC"),
+                @Index(name = "idx_ea_sigungu_rank_time",
+                        columnList = "sido_code, sigungu_code, status_rank, created_at DESC")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,6 +44,18 @@ public class EmergencyAlert {
     @JoinColumn(name = "elderly_user_id", nullable = false)
     private Elderly elderly;
 
+    /**
+     * 어르신 관할 시/도 코드 (지역 범위 조회용 비정규화 컬럼)
+     */
+    @Column(name = "sido_code", length = 2)
+    private String sidoCode;
+
+    /**
+     * 어르신 관할 시/군/구 코드 (지역 범위 조회용 비정규화 컬럼)
+     */
+    @Column(name = "sigungu_code", length = 3)
+    private String sigunguCode;
+
     /**
      * 관련 통화 기록 (미응답의 경우 null 가능)
      */
@@ -93,6 +109,13 @@ public class EmergencyAlert {
     @Builder.Default
     private AlertStatus status = AlertStatus.PENDING;
 
+    /**
+     * 목록 정렬 순위 (status에서 파생, 미처리 0 → 처리 중 1 → 완료 2)
+     * CASE 정렬은 인덱스를 탈 수 없으므로 저장해 두고 (지역, 순위, 생성 시각) 인덱스 순서로 조회
+     */
+    @Column(name = "status_rank")
+    private Integer statusRank;
+
     /**
      * 담당 상담사
      */
@@ -119,6 +142,19 @@ public class EmergencyAlert {
     @Column(name = "resolution_note", columnDefinition = "TEXT")
     private String resolutionNote;
 
+    /**
+     * 자동 에스컬레이션 단계 (0: 최초 수신자, 1: 시/군/구, 2: 시/도, 3: 전국)
+     */
+    @Column(name = "escalation_level", nullable = false)
+    @Builder.Default
+    private int escalationLevel = 0;
+
+    /**
+     * 마지막 자동 에스컬레이션 일시
+     */
+    @Column(name = "escalated_at")
+    private LocalDateTime escalatedAt;
+
     /**
      * 생성 일시
      */
@@ -145,11 +181,21 @@ public class EmergencyAlert {
         if (this.status == null) {
             this.status = AlertStatus.PENDING;
         }
+        this.statusRank = this.status.getListRank();
+        if (this.sidoCode == null && this.elderly != null) {
+            this.sidoCode = this.elderly.getSidoCode();
+            this.sigunguCode = this.elderly.getSigunguCode();
+            if (this.sidoCode == null && this.elderly.getAdministrativeDivision() != null) {
+                this.sidoCode = this.elderly.getAdministrativeDivision().getSidoCode();
+                this.sigunguCode = this.elderly.getAdministrativeDivision().getSigunguCode();
+            }
+        }
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.statusRank = this.status.getListRank();
     }
 
     // ========== Enum 정의 ==========
@@ -195,20 +241,29 @@ public class EmergencyAlert {
      * 처리 상태
      */
     public enum AlertStatus {
-        PENDING("미처리"),
-        IN_PROGRESS("처리중"),
-        RESOLVED("처리완료"),
-        ESCALATED("상위보고");
+        PENDING("미처리", 0),
+        IN_PROGRESS("처리중", 1),
+        RESOLVED("처리완료", 2),
+        ESCALATED("상위보고", 2);
 
         private final String description;
+        private final int listRank;
 
-        AlertStatus(String description) {
+        AlertStatus(String description, int listRank) {
             this.description = description;
+            this.listRank = listRank;
         }
 
         public String getDescription() {
             return description;
         }
+
+        /**
+         * 목록 정렬 순위 (같은 순위는 최신순)
+         */
+        public int getListRank() {
+            return listRank;
+        }
     }
 
     // ========== 비즈니스 메서드 ==========
@@ -244,6 +299,21 @@ public class EmergencyAlert {
         this.resolutionNote = note;
     }
 
+    /**
+     * 자동 에스컬레이션 단계 기록 (처리 상태는 PENDING 유지)
+     */
+    public void escalateTo(int level) {
+        this.escalationLevel = level;
+        this.escalatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 다음 에스컬레이션 타이머의 기준 시각
+     */
+    public LocalDateTime getEscalationBaseTime() {
+        return this.escalatedAt != null ? this.escalatedAt : this.createdAt;
+    }
+
     /**
      * 수신자 추가
      */
@@ -1,6 +1,7 @@
 package com.aicc.silverlink.domain.emergency.entity;
 
 import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.common.entity.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -26,7 +27,9 @@ import java.time.LocalDateTime;
 public class EmergencyAlertRecipient {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "emergency_alert_recipients")
+    @TableGenerator(name = "emergency_alert_recipients", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "emergency_alert_recipients", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "recipient_id")
     private Long id;
 
@@ -1,10 +1,12 @@
 package com.aicc.silverlink.domain.emergency.entity;
 
 import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.common.entity.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * SMS 발송 이력 엔티티
@@ -15,7 +17,9 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_sms_receiver_time", columnList = "receiver_user_id, created_at DESC"),
                 @Index(name = "idx_sms_type_ref", columnList = "message_type, reference_id"),
-                @Index(name = "idx_sms_status", columnList = "status, created_at")
+                @Index(name = "idx_sms_status", columnList = "status, created_at"),
+                @Index(name = "idx_sms_outbox", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_sms_reference", columnList = "reference_type, reference_id, receiver_user_id")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,7 +28,9 @@ import java.time.LocalDateTime;
 public class SmsLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "sms_logs")
+    @TableGenerator(name = "sms_logs", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "sms_logs", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "sms_log_id")
     private Long id;
 
@@ -104,6 +110,32 @@ public class SmsLog {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    /**
+     * 발송 시도 횟수 (아웃박스 재시도)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private int attemptCount = 0;
+
+    /**
+     * 다음 발송 시도 가능 시각 (PENDING 상태에서만 의미 있음)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 분할 발송 시 두 번째 세그먼트 시작 위치 (null이면 단건 발송)
+     */
+    @Column(name = "segment_break")
+    private Integer segmentBreak;
+
+    /**
+     * 발송 완료된 세그먼트 수 (재시도 시 중복 발송 방지)
+     */
+    @Column(name = "sent_segments", nullable = false)
+    @Builder.Default
+    private int sentSegments = 0;
+
     /**
      * 생성 일시
      */
@@ -116,6 +148,9 @@ public class SmsLog {
         if (this.status == null) {
             this.status = SmsStatus.PENDING;
         }
+        if (this.nextAttemptAt == null && this.status == SmsStatus.PENDING) {
+            this.nextAttemptAt = this.createdAt;
+        }
     }
 
     // ========== Enum 정의 ==========
@@ -150,7 +185,8 @@ public class SmsLog {
         PENDING("대기"),
         SENT("발송"),
         DELIVERED("전달완료"),
-        FAILED("실패");
+        FAILED("실패"),
+        DEAD("재시도 한도 초과");
 
         private final String description;
 
@@ -172,6 +208,7 @@ public class SmsLog {
         this.status = SmsStatus.SENT;
         this.sentAt = LocalDateTime.now();
         this.externalMsgId = externalMsgId;
+        this.nextAttemptAt = null;
     }
 
     /**
@@ -188,6 +225,65 @@ public class SmsLog {
     public void markFailed(String errorMessage) {
         this.status = SmsStatus.FAILED;
         this.errorMessage = errorMessage;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * 발송 시도 시작 (점유 만료 시각까지 다른 워커가 가져가지 않음)
+     */
+    public void beginAttempt(LocalDateTime leaseUntil) {
+        this.attemptCount++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 세그먼트 1건 발송 완료
+     */
+    public void markSegmentSent() {
+        this.sentSegments++;
+    }
+
+    /**
+     * 일시적 실패 - 아웃박스에 남겨 다음 시각에 재시도
+     */
+    public void scheduleRetry(String errorMessage, LocalDateTime nextAttemptAt) {
+        this.status = SmsStatus.PENDING;
+        this.errorMessage = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 재시도 한도 초과 (dead letter)
+     */
+    public void markDead(String errorMessage) {
+        this.status = SmsStatus.DEAD;
+        this.errorMessage = errorMessage;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * 실제 발송 단위로 나눈 메시지
+     * 한글(UCS-2) 긴급 알림은 본문과 URL을 2건으로 나눠 보냄
+     */
+    public List<String> segments() {
+        if (segmentBreak == null || segmentBreak <= 0 || segmentBreak >= messageContent.length()) {
+            return List.of(messageContent);
+        }
+        return List.of(messageContent.substring(0, segmentBreak - 1), messageContent.substring(segmentBreak));
+    }
+
+    /**
+     * 아직 발송하지 않은 세그먼트 수
+     */
+    public int remainingSegments() {
+        return Math.max(segments().size() - sentSegments, 0);
+    }
+
+    /**
+     * 긴급 알림 SMS 여부
+     */
+    public boolean isEmergency() {
+        return messageType == MessageType.EMERGENCY_CRITICAL || messageType == MessageType.EMERGENCY_WARNING;
     }
 
     /**
@@ -216,6 +312,25 @@ public class SmsLog {
                 .build();
     }
 
+    /**
+     * 팩토리 메서드: 긴급 알림 SMS 로그 생성 (본문/URL 2건 분할 발송)
+     * 이력에는 "본문\nURL" 형태로 합쳐 기록
+     */
+    public static SmsLog createForEmergencyAlert(
+            User receiver,
+            String receiverPhone,
+            EmergencyAlert.Severity severity,
+            Long alertId,
+            String bodyMessage,
+            String urlMessage,
+            String shortUrl) {
+
+        SmsLog smsLog = createForEmergencyAlert(receiver, receiverPhone, severity, alertId,
+                bodyMessage + "\n" + urlMessage, shortUrl);
+        smsLog.segmentBreak = bodyMessage.length() + 1;
+        return smsLog;
+    }
+
     /**
      * 팩토리 메서드: 문의 답변 SMS 로그 생성
      */
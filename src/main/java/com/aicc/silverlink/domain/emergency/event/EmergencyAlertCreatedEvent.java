@@ -8,17 +8,24 @@ import java.util.List;
 
 /**
  * 긴급 알림 생성 이벤트
- * 트랜잭션 커밋 후 SSE 실시간 알림을 발송하기 위해 사용
+ * 트랜잭션 커밋 후 SSE 실시간 알림 및 SMS를 발송하기 위해 사용
  */
 @Getter
 public class EmergencyAlertCreatedEvent extends ApplicationEvent {
 
     private final EmergencyAlert alert;
     private final List<Long> recipientUserIds;
+    private final List<Long> smsRecipientIds; // SMS 발송 대상 EmergencyAlertRecipient ID
 
     public EmergencyAlertCreatedEvent(Object source, EmergencyAlert alert, List<Long> recipientUserIds) {
+        this(source, alert, recipientUserIds, List.of());
+    }
+
+    public EmergencyAlertCreatedEvent(Object source, EmergencyAlert alert, List<Long> recipientUserIds,
+            List<Long> smsRecipientIds) {
         super(source);
         this.alert = alert;
         this.recipientUserIds = recipientUserIds;
+        this.smsRecipientIds = smsRecipientIds;
     }
 }
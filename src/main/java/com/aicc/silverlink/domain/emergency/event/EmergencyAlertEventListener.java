@@ -1,12 +1,18 @@
 package com.aicc.silverlink.domain.emergency.event;
 
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.service.EmergencySmsFanOutService;
 import com.aicc.silverlink.domain.notification.service.UnifiedSseService;
+import com.aicc.silverlink.global.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
 /**
  * 긴급 알림 이벤트 리스너
  * 트랜잭션 커밋 후 SSE 알림을 발송하여, 프론트엔드가 DB 조회 시 데이터를 확인할 수 있도록 보장
@@ -18,6 +24,29 @@ public class EmergencyAlertEventListener {
 
     private final UnifiedSseService unifiedSseService;
     private final com.aicc.silverlink.domain.notification.service.NotificationService notificationService; // 주입 추가
+    private final EmergencySmsFanOutService smsFanOutService;
+
+    /**
+     * 알림 트랜잭션 안에서 SMS 로그(PENDING)를 함께 저장하고, 커밋 후 긴급 SMS 전용 풀로 발송을 위임.
+     * 풀이 가득 차 거절되면 요청 스레드에서 발송하지 않고 아웃박스 워커가 이어서 발송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void dispatchEmergencySms(EmergencyAlertCreatedEvent event) {
+        if (event.getSmsRecipientIds().isEmpty()) {
+            return;
+        }
+
+        EmergencyAlert alert = event.getAlert();
+        List<Long> smsLogIds = smsFanOutService.enqueue(alert.getId(), event.getSmsRecipientIds());
+        TransactionUtils.afterCommit(() -> {
+            try {
+                smsFanOutService.fanOut(alert, smsLogIds);
+            } catch (TaskRejectedException e) {
+                log.warn("[EmergencyAlertEventListener] 긴급 SMS 풀 포화로 아웃박스 워커에 위임. alertId={}, smsLogs={}",
+                        alert.getId(), smsLogIds.size());
+            }
+        });
+    }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleEmergencyAlertCreated(EmergencyAlertCreatedEvent event) {
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +67,17 @@ public interface EmergencyAlertRecipientRepository extends JpaRepository<Emergen
 
     // ========== SMS 관련 ==========
 
+    /**
+     * SMS 팬아웃용 수신자 일괄 조회 (알림/어르신 정보 포함)
+     */
+    @Query("SELECT r FROM EmergencyAlertRecipient r " +
+            "JOIN FETCH r.receiver " +
+            "JOIN FETCH r.emergencyAlert ea " +
+            "JOIN FETCH ea.elderly e " +
+            "JOIN FETCH e.user " +
+            "WHERE r.id IN :recipientIds")
+    List<EmergencyAlertRecipient> findAllByIdInWithAlertDetails(@Param("recipientIds") Collection<Long> recipientIds);
+
     /**
      * SMS 발송이 필요한 수신자 목록
      */
@@ -7,6 +7,7 @@ import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.Severity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,21 +38,26 @@ public interface EmergencyAlertRepository extends JpaRepository<EmergencyAlert,
         /**
          * 상담사 담당 어르신의 긴급 알림 목록 (미처리 우선, 최신순)
          */
-        @Query("SELECT ea FROM EmergencyAlert ea " +
-                        "JOIN ea.elderly e " +
+        @Query(value = "SELECT ea FROM EmergencyAlert ea " +
+                        "JOIN FETCH ea.elderly e " +
+                        "JOIN FETCH e.user " +
                         "JOIN Assignment a ON a.elderly.id = e.id " +
                         "WHERE a.counselor.id = :counselorId " +
                         "AND a.status = com.aicc.silverlink.domain.assignment.entity.AssignmentStatus.ACTIVE " +
-                        "ORDER BY " +
-                        "CASE ea.status WHEN 'PENDING' THEN 0 WHEN 'IN_PROGRESS' THEN 1 ELSE 2 END, " +
-                        "ea.createdAt DESC")
+                        "ORDER BY ea.statusRank, ea.createdAt DESC",
+                        countQuery = "SELECT COUNT(ea) FROM EmergencyAlert ea " +
+                                        "JOIN ea.elderly e " +
+                                        "JOIN Assignment a ON a.elderly.id = e.id " +
+                                        "WHERE a.counselor.id = :counselorId " +
+                                        "AND a.status = com.aicc.silverlink.domain.assignment.entity.AssignmentStatus.ACTIVE")
         Page<EmergencyAlert> findByCounselorId(@Param("counselorId") Long counselorId, Pageable pageable);
 
         /**
          * 상담사 담당 어르신의 미처리 긴급 알림 목록
          */
         @Query("SELECT ea FROM EmergencyAlert ea " +
-                        "JOIN ea.elderly e " +
+                        "JOIN FETCH ea.elderly e " +
+                        "JOIN FETCH e.user " +
                         "JOIN Assignment a ON a.elderly.id = e.id " +
                         "WHERE a.counselor.id = :counselorId " +
                         "AND a.status = com.aicc.silverlink.domain.assignment.entity.AssignmentStatus.ACTIVE " +
@@ -73,27 +79,76 @@ public interface EmergencyAlertRepository extends JpaRepository<EmergencyAlert,
         // ========== 관리자용 조회 ==========
 
         /**
-         * 관리자 관할 구역의 긴급 알림 목록
+         * 관리자 알림 목록 공통 정렬 (미처리 → 처리 중 → 완료, 같은 상태는 최신순)
+         * 전국/시도/시군구/읍면동 관할 모두 같은 순서로 보이도록 모든 관리자 조회에서 사용.
+         * 저장된 statusRank로 정렬하므로 (지역, status_rank, created_at) 인덱스 순서 그대로 읽고 filesort 없음
          */
-        @Query("SELECT ea FROM EmergencyAlert ea " +
-                        "JOIN ea.elderly e " +
-                        "WHERE CAST(e.administrativeDivision.admCode AS string) LIKE :admCodePattern " +
-                        "ORDER BY " +
-                        "CASE ea.status WHEN 'PENDING' THEN 0 WHEN 'IN_PROGRESS' THEN 1 ELSE 2 END, " +
-                        "ea.createdAt DESC")
-        Page<EmergencyAlert> findByAdmCodePattern(
-                        @Param("admCodePattern") String admCodePattern,
+        String ADMIN_LIST_ORDER = "ORDER BY ea.statusRank, ea.createdAt DESC";
+
+        /**
+         * 시/도 관할 긴급 알림 목록 (idx_ea_sido_rank_time 인덱스 순서로 조회)
+         */
+        @Query(value = "SELECT ea FROM EmergencyAlert ea " +
+                        "JOIN FETCH ea.elderly e " +
+                        "JOIN FETCH e.user " +
+                        "WHERE ea.sidoCode = :sidoCode " +
+                        ADMIN_LIST_ORDER,
+                        countQuery = "SELECT COUNT(ea) FROM EmergencyAlert ea WHERE ea.sidoCode = :sidoCode")
+        Page<EmergencyAlert> findBySidoCode(@Param("sidoCode") String sidoCode, Pageable pageable);
+
+        /**
+         * 시/군/구 관할 긴급 알림 목록 (idx_ea_sigungu_rank_time 인덱스 순서로 조회)
+         */
+        @Query(value = "SELECT ea FROM EmergencyAlert ea " +
+                        "JOIN FETCH ea.elderly e " +
+                        "JOIN FETCH e.user " +
+                        "WHERE ea.sidoCode = :sidoCode AND ea.sigunguCode = :sigunguCode " +
+                        ADMIN_LIST_ORDER,
+                        countQuery = "SELECT COUNT(ea) FROM EmergencyAlert ea " +
+                                        "WHERE ea.sidoCode = :sidoCode AND ea.sigunguCode = :sigunguCode")
+        Page<EmergencyAlert> findBySigungu(
+                        @Param("sidoCode") String sidoCode,
+                        @Param("sigunguCode") String sigunguCode,
                         Pageable pageable);
 
+        /**
+         * 읍/면/동 관할 긴급 알림 목록 (어르신 행정구역 FK 기준)
+         */
+        @Query(value = "SELECT ea FROM EmergencyAlert ea " +
+                        "JOIN FETCH ea.elderly e " +
+                        "JOIN FETCH e.user " +
+                        "WHERE e.administrativeDivision.admCode = :admCode " +
+                        ADMIN_LIST_ORDER,
+                        countQuery = "SELECT COUNT(ea) FROM EmergencyAlert ea " +
+                                        "WHERE ea.elderly.administrativeDivision.admCode = :admCode")
+        Page<EmergencyAlert> findByElderlyAdmCode(@Param("admCode") Long admCode, Pageable pageable);
+
+        /**
+         * 지역 코드가 비어 있는 기존 알림 보정 (어르신 비정규화 컬럼 기준)
+         */
+        @Modifying
+        @Query("UPDATE EmergencyAlert ea SET " +
+                        "ea.sidoCode = (SELECT e.sidoCode FROM Elderly e WHERE e = ea.elderly), " +
+                        "ea.sigunguCode = (SELECT e.sigunguCode FROM Elderly e WHERE e = ea.elderly) " +
+                        "WHERE ea.sidoCode IS NULL")
+        int backfillRegionCodes();
+
+        /**
+         * 정렬 순위가 비어 있는 기존 알림 보정 (AlertStatus.listRank와 같은 값)
+         */
+        @Modifying
+        @Query("UPDATE EmergencyAlert ea SET ea.statusRank = " +
+                        "CASE ea.status WHEN 'PENDING' THEN 0 WHEN 'IN_PROGRESS' THEN 1 ELSE 2 END " +
+                        "WHERE ea.statusRank IS NULL")
+        int backfillStatusRanks();
+
         /**
          * 전체 긴급 알림 목록 (관리자용)
          */
         @Query("SELECT ea FROM EmergencyAlert ea " +
                         "LEFT JOIN FETCH ea.elderly e " +
                         "LEFT JOIN FETCH e.user " +
-                        "ORDER BY " +
-                        "CASE ea.status WHEN 'PENDING' THEN 0 WHEN 'IN_PROGRESS' THEN 1 ELSE 2 END, " +
-                        "ea.createdAt DESC")
+                        ADMIN_LIST_ORDER)
         Page<EmergencyAlert> findAllWithDetails(Pageable pageable);
 
         // ========== 보호자용 조회 ==========
@@ -197,6 +252,11 @@ public interface EmergencyAlertRepository extends JpaRepository<EmergencyAlert,
                         "ORDER BY ea.severity DESC, ea.createdAt DESC")
         List<EmergencyAlert> findPendingSince(@Param("since") LocalDateTime since);
 
+        /**
+         * 위험도 + 상태별 알림 목록 (기동 시 에스컬레이션 타이머 복원용)
+         */
+        List<EmergencyAlert> findBySeverityAndStatus(Severity severity, AlertStatus status);
+
         /**
          * 특정 수신자의 미확인 알림 목록 (실시간 알림용)
          */
@@ -6,11 +6,14 @@ import com.aicc.silverlink.domain.emergency.entity.SmsLog.SmsStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +53,17 @@ public interface SmsLogRepository extends JpaRepository<SmsLog, Long> {
         return findByReferenceTypeAndReferenceIdOrderByCreatedAtDesc("emergency_alerts", alertId);
     }
 
+    /**
+     * 여러 참조의 SMS 이력 일괄 조회 (최신순, 알림 SMS 보정용)
+     */
+    @Query("SELECT s FROM SmsLog s " +
+            "WHERE s.referenceType IN :referenceTypes " +
+            "AND s.referenceId IN :referenceIds " +
+            "ORDER BY s.createdAt DESC")
+    List<SmsLog> findByReferencesOrderByCreatedAtDesc(
+            @Param("referenceTypes") Collection<String> referenceTypes,
+            @Param("referenceIds") Collection<Long> referenceIds);
+
     // ========== 상태별 조회 ==========
 
     /**
@@ -75,6 +89,50 @@ public interface SmsLogRepository extends JpaRepository<SmsLog, Long> {
             "ORDER BY s.createdAt ASC")
     List<SmsLog> findFailedSince(@Param("since") LocalDateTime since);
 
+    // ========== 아웃박스 ==========
+
+    /**
+     * 발송 시각이 도래한 아웃박스 메시지 (긴급 알림 우선, 오래된 순)
+     */
+    @Query("SELECT s FROM SmsLog s " +
+            "WHERE s.status = 'PENDING' " +
+            "AND s.nextAttemptAt <= :now " +
+            "ORDER BY CASE WHEN s.messageType IN ('EMERGENCY_CRITICAL', 'EMERGENCY_WARNING') THEN 0 ELSE 1 END, " +
+            "s.nextAttemptAt ASC")
+    List<SmsLog> findDueOutbox(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 점유 (시도 횟수를 버전처럼 사용해 한 워커만 발송하도록 보장)
+     *
+     * @return 점유 성공 시 1, 다른 워커가 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SmsLog s " +
+            "SET s.attemptCount = s.attemptCount + 1, s.nextAttemptAt = :leaseUntil " +
+            "WHERE s.id = :id " +
+            "AND s.status = 'PENDING' " +
+            "AND s.attemptCount = :attemptCount")
+    int claimForDelivery(
+            @Param("id") Long id,
+            @Param("attemptCount") int attemptCount,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 발송 점유 반환 (점유 후 실행되지 못한 경우 시도 횟수를 되돌리고 즉시 다시 조회되도록)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SmsLog s " +
+            "SET s.attemptCount = s.attemptCount - 1, s.nextAttemptAt = :now " +
+            "WHERE s.id = :id " +
+            "AND s.status = 'PENDING' " +
+            "AND s.attemptCount = :attemptCount")
+    int releaseClaim(
+            @Param("id") Long id,
+            @Param("attemptCount") int attemptCount,
+            @Param("now") LocalDateTime now);
+
     // ========== 메시지 유형별 조회 ==========
 
     /**
@@ -141,7 +199,7 @@ public interface SmsLogRepository extends JpaRepository<SmsLog, Long> {
             "AND s.messageType = :messageType " +
             "AND s.referenceId = :referenceId " +
             "AND s.createdAt > :since " +
-            "AND s.status != 'FAILED'")
+            "AND s.status NOT IN ('FAILED', 'DEAD')")
     boolean existsRecentSms(
             @Param("phone") String phone,
             @Param("messageType") MessageType messageType,
@@ -0,0 +1,149 @@
+package com.aicc.silverlink.domain.emergency.scheduler;
+
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.AlertStatus;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.Severity;
+import com.aicc.silverlink.domain.emergency.event.EmergencyAlertCreatedEvent;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import com.aicc.silverlink.domain.emergency.service.EmergencyEscalationService;
+import com.aicc.silverlink.global.config.emergency.EmergencyEscalationProperties;
+import com.aicc.silverlink.global.util.TransactionUtils;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴급 알림 에스컬레이션 타이머 휠
+ * PENDING CRITICAL 알림마다 메모리 타이머를 걸고, 만료 시 다음 관리자 단계로 에스컬레이션.
+ * DB는 기동 시 1회 복원 조회와 만료된 알림 처리 시에만 접근하며 주기적 스캔은 하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergencyEscalationScheduler {
+
+    private final EmergencyAlertRepository alertRepository;
+    private final EmergencyEscalationService escalationService;
+    private final EmergencyEscalationProperties properties;
+
+    private final Map<Long, Timeout> timers = new ConcurrentHashMap<>();
+
+    private HashedWheelTimer wheel;
+    private ExecutorService escalationExecutor;
+
+    @PostConstruct
+    public void init() {
+        this.wheel = new HashedWheelTimer(
+                r -> new Thread(r, "emergency-escalation-wheel"),
+                properties.getTickMillis(), TimeUnit.MILLISECONDS,
+                properties.getWheelSize());
+        // 타이머 스레드에서는 DB 작업을 하지 않도록 별도 워커로 넘김
+        this.escalationExecutor = Executors.newSingleThreadExecutor(
+                r -> new Thread(r, "emergency-escalation-worker"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        escalationExecutor.shutdownNow();
+    }
+
+    /**
+     * 기동 시 PENDING CRITICAL 알림의 타이머 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFromDatabase() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<EmergencyAlert> pending = alertRepository.findBySeverityAndStatus(Severity.CRITICAL, AlertStatus.PENDING);
+        pending.forEach(this::arm);
+        log.info("[EmergencyEscalationScheduler] 에스컬레이션 타이머 복원 완료. armed={}", timers.size());
+    }
+
+    /**
+     * 알림 생성(또는 에스컬레이션) 커밋 후 다음 단계 타이머 설정
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertCreated(EmergencyAlertCreatedEvent event) {
+        arm(event.getAlert());
+    }
+
+    /**
+     * 알림의 다음 에스컬레이션 타이머 설정 (이미 있으면 교체)
+     */
+    public void arm(EmergencyAlert alert) {
+        if (!properties.isEnabled()
+                || !alert.isCritical()
+                || alert.getStatus() != AlertStatus.PENDING
+                || alert.getEscalationLevel() >= EmergencyEscalationService.MAX_ESCALATION_LEVEL) {
+            return;
+        }
+
+        LocalDateTime base = alert.getEscalationBaseTime() != null ? alert.getEscalationBaseTime() : LocalDateTime.now();
+        LocalDateTime deadline = base.plusSeconds(properties.getTimeoutSeconds());
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), deadline).toMillis());
+
+        Long alertId = alert.getId();
+        Timeout timeout = wheel.newTimeout(t -> onExpired(alertId, t), delayMillis, TimeUnit.MILLISECONDS);
+        Timeout previous = timers.put(alertId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        log.debug("[EmergencyEscalationScheduler] 타이머 설정. alertId={}, level={}, delayMs={}",
+                alertId, alert.getEscalationLevel(), delayMillis);
+    }
+
+    /**
+     * 알림 처리 시 타이머 해제 (트랜잭션 중이면 커밋 후 해제)
+     */
+    public void cancel(Long alertId) {
+        TransactionUtils.afterCommit(() -> cancelNow(alertId));
+    }
+
+    /**
+     * 현재 설정된 타이머 수
+     */
+    public int getArmedCount() {
+        return timers.size();
+    }
+
+    private void cancelNow(Long alertId) {
+        Timeout timeout = timers.remove(alertId);
+        if (timeout != null) {
+            timeout.cancel();
+            log.debug("[EmergencyEscalationScheduler] 타이머 해제. alertId={}", alertId);
+        }
+    }
+
+    private void onExpired(Long alertId, Timeout timeout) {
+        if (!timers.remove(alertId, timeout)) {
+            return;
+        }
+        escalationExecutor.execute(() -> {
+            try {
+                escalationService.escalate(alertId);
+            } catch (Exception e) {
+                log.error("[EmergencyEscalationScheduler] 에스컬레이션 실패. alertId={}, error={}",
+                        alertId, e.getMessage(), e);
+            }
+        });
+    }
+}
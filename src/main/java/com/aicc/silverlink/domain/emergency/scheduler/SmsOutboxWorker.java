@@ -0,0 +1,99 @@
+package com.aicc.silverlink.domain.emergency.scheduler;
+
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.service.SmsOutboxService;
+import com.aicc.silverlink.domain.notification.service.NotificationSmsService;
+import com.aicc.silverlink.global.config.async.AsyncConfig;
+import com.aicc.silverlink.infra.external.sms.SmsRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SMS 아웃박스 워커
+ * 즉시 발송하지 못한 메시지(한도 초과, 재시도 대기)를 토큰 버킷 속도에 맞춰 발송.
+ * 스케줄러 스레드는 조회·토큰 확인·점유만 하고, 실제 발송은 긴급 건은 긴급 발송 풀, 일반 건은 아웃박스 풀에서 실행.
+ * 제출 전에 점유하므로 큐에서 대기 중인 행이 다음 회차에 다시 읽혀 토큰을 이중으로 소모하지 않음.
+ */
+@Slf4j
+@Component
+public class SmsOutboxWorker {
+
+    private final SmsOutboxService outboxService;
+    private final NotificationSmsService notificationSmsService;
+    private final SmsRateLimiter rateLimiter;
+    private final Executor emergencySendExecutor;
+    private final Executor outboxExecutor;
+
+    public SmsOutboxWorker(SmsOutboxService outboxService,
+            NotificationSmsService notificationSmsService,
+            SmsRateLimiter rateLimiter,
+            @Qualifier(AsyncConfig.EMERGENCY_SMS_SEND_EXECUTOR) Executor emergencySendExecutor,
+            @Qualifier(AsyncConfig.SMS_OUTBOX_EXECUTOR) Executor outboxExecutor) {
+        this.outboxService = outboxService;
+        this.notificationSmsService = notificationSmsService;
+        this.rateLimiter = rateLimiter;
+        this.emergencySendExecutor = emergencySendExecutor;
+        this.outboxExecutor = outboxExecutor;
+    }
+
+    /**
+     * 발송 시각이 도래한 아웃박스 메시지 발송
+     * 토큰이 떨어지면 이번 회차는 멈추고 다음 회차로 넘김 (남은 메시지는 PENDING 유지).
+     * 점유에 실패하거나 발송 풀이 거절하면 토큰을 돌려주고, 거절된 건은 점유도 반환
+     */
+    @Scheduled(fixedDelayString = "${sms.outbox.poll-delay-millis:1000}")
+    public void drain() {
+        List<SmsLog> due = outboxService.findDue();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        int submitted = 0;
+        for (SmsLog smsLog : due) {
+            int permits = smsLog.remainingSegments();
+            if (!rateLimiter.tryAcquire(permits, Duration.ZERO)) {
+                break;
+            }
+            if (!outboxService.claim(smsLog)) {
+                rateLimiter.release(permits);
+                continue;
+            }
+
+            try {
+                executorFor(smsLog).execute(() -> outboxService.deliverClaimed(smsLog));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                rateLimiter.release(permits);
+                outboxService.release(smsLog);
+                log.warn("[SmsOutboxWorker] 발송 풀 포화로 이번 회차 중단. smsLogId={}, emergency={}",
+                        smsLog.getId(), smsLog.isEmergency());
+                break;
+            }
+        }
+
+        log.debug("[SmsOutboxWorker] 아웃박스 발송 제출. due={}, submitted={}", due.size(), submitted);
+    }
+
+    private Executor executorFor(SmsLog smsLog) {
+        return smsLog.isEmergency() ? emergencySendExecutor : outboxExecutor;
+    }
+
+    /**
+     * SMS 필요 알림 중 아웃박스에 들어가지 못한 건 보정
+     */
+    @Scheduled(fixedDelayString = "${sms.outbox.reconcile-delay-millis:60000}")
+    public void reconcileNotifications() {
+        try {
+            notificationSmsService.reconcilePendingNotifications();
+        } catch (Exception e) {
+            log.error("[SmsOutboxWorker] 알림 SMS 보정 실패. error={}", e.getMessage(), e);
+        }
+    }
+}
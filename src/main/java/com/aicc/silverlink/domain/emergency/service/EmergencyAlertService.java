@@ -17,11 +17,13 @@ import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
 import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient.ReceiverRole;
 import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
 import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import com.aicc.silverlink.domain.emergency.scheduler.EmergencyEscalationScheduler;
 import com.aicc.silverlink.domain.guardian.entity.Guardian;
 import com.aicc.silverlink.domain.guardian.entity.GuardianElderly;
 import com.aicc.silverlink.domain.guardian.repository.GuardianElderlyRepository;
 import com.aicc.silverlink.domain.emergency.event.EmergencyAlertCreatedEvent;
 import com.aicc.silverlink.domain.notification.service.UnifiedSseService;
+import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -35,8 +37,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -56,10 +62,10 @@ public class EmergencyAlertService {
     private final GuardianElderlyRepository guardianElderlyRepository;
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
-    private final SmsService smsService;
     private final UnifiedSseService unifiedSseService; // 통합 SSE 서비스로 변경
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final EmergencyEscalationScheduler escalationScheduler;
 
     // ========== 긴급 알림 생성 (CallBot → Backend) ==========
 
@@ -115,20 +121,26 @@ public class EmergencyAlertService {
         EmergencyAlert savedAlert = alertRepository.save(alert);
         log.info("[EmergencyAlertService] 긴급 알림 저장 완료. alertId={}", savedAlert.getId());
 
-        // 6. 수신자 등록 및 SMS 알림 발송
+        // 6. 수신자 등록
         List<EmergencyAlertRecipient> recipients = createAndNotifyRecipients(savedAlert, elderly, assignedCounselor);
 
-        // 7. SSE 실시간 알림 발송 (트랜잭션 커밋 후 실행되도록 이벤트 발행)
+        // 7. SSE 실시간 알림 및 SMS 발송 (트랜잭션 커밋 후 실행되도록 이벤트 발행)
+        // SMS도 커밋 이후 긴급 SMS 전용 풀에서 발송 (트랜잭션이 Twilio 응답을 기다리지 않도록)
         List<Long> recipientUserIds = recipients.stream()
                 .map(r -> r.getReceiver().getId())
                 .collect(Collectors.toList());
-        eventPublisher.publishEvent(new EmergencyAlertCreatedEvent(this, savedAlert, recipientUserIds));
+        List<Long> smsRecipientIds = recipients.stream()
+                .filter(EmergencyAlertRecipient::isSmsRequired)
+                .map(EmergencyAlertRecipient::getId)
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(
+                new EmergencyAlertCreatedEvent(this, savedAlert, recipientUserIds, smsRecipientIds));
 
         return savedAlert;
     }
 
     /**
-     * 수신자 등록 및 SMS 알림 발송
+     * 수신자 등록 (SMS 발송 대상 여부 포함)
      */
     private List<EmergencyAlertRecipient> createAndNotifyRecipients(
             EmergencyAlert alert,
@@ -173,19 +185,10 @@ public class EmergencyAlertService {
             recipients.add(adminRecipient);
         }
 
-        // 4. 수신자 저장
+        // 4. 수신자 저장 (SMS는 커밋 후 이벤트 리스너에서 발송)
         recipientRepository.saveAll(recipients);
         log.info("[EmergencyAlertService] 수신자 {} 명 등록 완료. alertId={}", recipients.size(), alert.getId());
 
-        // 5. SMS 발송 (비동기)
-        if (sendSms) {
-            for (EmergencyAlertRecipient recipient : recipients) {
-                if (recipient.isSmsRequired()) {
-                    smsService.sendEmergencyAlertSmsAsync(alert, recipient);
-                }
-            }
-        }
-
         return recipients;
     }
 
@@ -216,17 +219,19 @@ public class EmergencyAlertService {
      * 상담사용 긴급 알림 목록 조회
      */
     public Page<SummaryResponse> getAlertsForCounselor(Long counselorId, Pageable pageable) {
-        return alertRepository.findByCounselorId(counselorId, pageable)
-                .map(this::buildSummaryResponseWithGuardian);
+        Page<EmergencyAlert> alerts = alertRepository.findByCounselorId(counselorId, pageable);
+        Map<Long, GuardianElderly> guardians = findGuardiansByElderly(alerts.getContent());
+        return alerts.map(alert -> buildSummaryResponseWithGuardian(alert, guardians));
     }
 
     /**
      * 상담사용 미처리 긴급 알림 목록 (실시간 표시용)
      */
     public List<SummaryResponse> getPendingAlertsForCounselor(Long counselorId) {
-        return alertRepository.findPendingByCounselorId(counselorId)
-                .stream()
-                .map(this::buildSummaryResponseWithGuardian)
+        List<EmergencyAlert> alerts = alertRepository.findPendingByCounselorId(counselorId);
+        Map<Long, GuardianElderly> guardians = findGuardiansByElderly(alerts);
+        return alerts.stream()
+                .map(alert -> buildSummaryResponseWithGuardian(alert, guardians))
                 .collect(Collectors.toList());
     }
 
@@ -234,8 +239,29 @@ public class EmergencyAlertService {
      * 관리자용 긴급 알림 목록 조회
      */
     public Page<SummaryResponse> getAlertsForAdmin(Pageable pageable) {
-        return alertRepository.findAllWithDetails(pageable)
-                .map(this::buildSummaryResponseWithGuardian);
+        Page<EmergencyAlert> alerts = alertRepository.findAllWithDetails(pageable);
+        Map<Long, GuardianElderly> guardians = findGuardiansByElderly(alerts.getContent());
+        return alerts.map(alert -> buildSummaryResponseWithGuardian(alert, guardians));
+    }
+
+    /**
+     * 관리자 관할 구역 긴급 알림 목록 조회
+     * 시/도·시/군/구 관리자는 비정규화된 지역 코드 인덱스로, 읍/면/동 관리자는 행정구역 FK로 조회
+     */
+    public Page<SummaryResponse> getAlertsForAdminJurisdiction(Long adminUserId, Pageable pageable) {
+        Admin admin = adminRepository.findByIdWithUser(adminUserId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관리자입니다."));
+        AdministrativeDivision division = admin.getAdministrativeDivision();
+
+        Page<EmergencyAlert> alerts = switch (admin.getAdminLevel()) {
+            case NATIONAL -> alertRepository.findAllWithDetails(pageable);
+            case PROVINCIAL -> alertRepository.findBySidoCode(division.getSidoCode(), pageable);
+            case CITY -> alertRepository.findBySigungu(division.getSidoCode(), division.getSigunguCode(), pageable);
+            case DISTRICT -> alertRepository.findByElderlyAdmCode(division.getAdmCode(), pageable);
+        };
+
+        Map<Long, GuardianElderly> guardians = findGuardiansByElderly(alerts.getContent());
+        return alerts.map(alert -> buildSummaryResponseWithGuardian(alert, guardians));
     }
 
     /**
@@ -320,6 +346,9 @@ public class EmergencyAlertService {
         alertRepository.save(alert);
         log.info("[EmergencyAlertService] 긴급 알림 처리 완료. alertId={}, status={}", alertId, request.getStatus());
 
+        // 처리된 알림은 자동 에스컬레이션 대상에서 제외
+        escalationScheduler.cancel(alertId);
+
         // SSE로 상태 변경 알림 전송 (모든 수신자에게)
         List<EmergencyAlertRecipient> recipients = recipientRepository.findByEmergencyAlertId(alertId);
         for (EmergencyAlertRecipient recipient : recipients) {
@@ -404,12 +433,29 @@ public class EmergencyAlertService {
 
     // ========== 내부 헬퍼 메서드 ==========
 
-    private SummaryResponse buildSummaryResponseWithGuardian(EmergencyAlert alert) {
-        Optional<GuardianElderly> guardianElderly = guardianElderlyRepository
-                .findByElderlyId(alert.getElderly().getId());
+    /**
+     * 목록 화면의 보호자 정보를 IN 쿼리 한 번으로 조회 (어르신 ID → 보호자 관계)
+     */
+    private Map<Long, GuardianElderly> findGuardiansByElderly(List<EmergencyAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        if (guardianElderly.isPresent()) {
-            Guardian guardian = guardianElderly.get().getGuardian();
+        Set<Long> elderlyIds = alerts.stream()
+                .map(alert -> alert.getElderly().getId())
+                .collect(Collectors.toSet());
+
+        return guardianElderlyRepository.findAllByElderlyIdIn(elderlyIds)
+                .stream()
+                .collect(Collectors.toMap(ge -> ge.getElderly().getId(), Function.identity(), (a, b) -> a));
+    }
+
+    private SummaryResponse buildSummaryResponseWithGuardian(EmergencyAlert alert,
+            Map<Long, GuardianElderly> guardians) {
+        GuardianElderly guardianElderly = guardians.get(alert.getElderly().getId());
+
+        if (guardianElderly != null) {
+            Guardian guardian = guardianElderly.getGuardian();
             return SummaryResponse.fromWithGuardian(
                     alert,
                     guardian.getUser().getName(),
@@ -0,0 +1,106 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.admin.entity.Admin;
+import com.aicc.silverlink.domain.admin.entity.Admin.AdminLevel;
+import com.aicc.silverlink.domain.admin.repository.AdminRepository;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.AlertStatus;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient.ReceiverRole;
+import com.aicc.silverlink.domain.emergency.event.EmergencyAlertCreatedEvent;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 긴급 알림 자동 에스컬레이션 서비스
+ * PENDING 상태로 방치된 CRITICAL 알림을 다음 관리자 단계(시/군/구 → 시/도 → 전국)에 전파
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmergencyEscalationService {
+
+    /**
+     * 에스컬레이션 단계별 관리자 레벨 (escalationLevel 1 → CITY ...)
+     */
+    static final List<AdminLevel> ESCALATION_TIERS = List.of(
+            AdminLevel.CITY, AdminLevel.PROVINCIAL, AdminLevel.NATIONAL);
+
+    public static final int MAX_ESCALATION_LEVEL = ESCALATION_TIERS.size();
+
+    private final EmergencyAlertRepository alertRepository;
+    private final EmergencyAlertRecipientRepository recipientRepository;
+    private final AdminRepository adminRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 다음 단계 관리자에게 에스컬레이션
+     * 알림이 이미 처리되었으면 아무것도 하지 않음. 신규 수신자가 없는 단계는 건너뜀.
+     *
+     * @return 신규 수신자에게 전파했으면 true
+     */
+    @Transactional
+    public boolean escalate(Long alertId) {
+        EmergencyAlert alert = alertRepository.findByIdWithDetails(alertId).orElse(null);
+        if (alert == null || alert.getStatus() != AlertStatus.PENDING) {
+            log.info("[EmergencyEscalationService] 처리된 알림이므로 에스컬레이션 생략. alertId={}", alertId);
+            return false;
+        }
+
+        Set<Long> notifiedUserIds = recipientRepository.findByEmergencyAlertId(alertId).stream()
+                .map(r -> r.getReceiver().getId())
+                .collect(Collectors.toSet());
+        Long admCode = alert.getElderly().getAdmCode();
+
+        int level = alert.getEscalationLevel();
+        List<Admin> admins = List.of();
+        while (admins.isEmpty() && level < MAX_ESCALATION_LEVEL) {
+            level++;
+            admins = findAdminsForTier(ESCALATION_TIERS.get(level - 1), admCode).stream()
+                    .filter(admin -> !notifiedUserIds.contains(admin.getUserId()))
+                    .toList();
+        }
+        alert.escalateTo(level);
+
+        if (admins.isEmpty()) {
+            log.warn("[EmergencyEscalationService] 더 이상 에스컬레이션할 관리자가 없습니다. alertId={}", alertId);
+            return false;
+        }
+
+        List<EmergencyAlertRecipient> recipients = admins.stream()
+                .map(admin -> EmergencyAlertRecipient.create(alert, admin.getUser(), ReceiverRole.ADMIN, true))
+                .toList();
+        recipientRepository.saveAll(recipients);
+
+        // 커밋 후 SSE/SMS 발송 및 다음 단계 타이머 설정
+        List<Long> recipientUserIds = recipients.stream()
+                .map(r -> r.getReceiver().getId())
+                .toList();
+        List<Long> smsRecipientIds = recipients.stream()
+                .map(EmergencyAlertRecipient::getId)
+                .toList();
+        eventPublisher.publishEvent(new EmergencyAlertCreatedEvent(this, alert, recipientUserIds, smsRecipientIds));
+
+        log.info("[EmergencyEscalationService] 에스컬레이션 완료. alertId={}, level={}, 수신자 {}명",
+                alertId, level, recipients.size());
+        return true;
+    }
+
+    private List<Admin> findAdminsForTier(AdminLevel tier, Long admCode) {
+        if (tier == AdminLevel.NATIONAL) {
+            return adminRepository.findByAdminLevel(AdminLevel.NATIONAL);
+        }
+        return adminRepository.findSupervisors(admCode).stream()
+                .filter(admin -> admin.getAdminLevel() == tier)
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.emergency.dto.EmergencySmsFanOutStats;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog.SmsStatus;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
+import com.aicc.silverlink.global.config.async.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 긴급 알림 SMS 팬아웃
+ * 알림 트랜잭션 안에서 수신자 전체를 한 번에 조회하고, 역할별로 한 번만 만든 메시지로 SMS 로그를 일괄 저장한 뒤
+ * 커밋 후 수신자별 발송(본문→URL)을 전용 풀에서 병렬로 실행.
+ * 수신자가 많아도 마지막 SMS까지 걸리는 시간이 수신자 수가 아니라 약 2회 왕복 시간에 수렴하도록 함.
+ */
+@Slf4j
+@Service
+public class EmergencySmsFanOutService {
+
+    private final EmergencyAlertRecipientRepository recipientRepository;
+    private final SmsLogRepository smsLogRepository;
+    private final SmsService smsService;
+    private final SmsOutboxService smsOutboxService;
+    private final Executor sendExecutor;
+
+    private final AtomicLong fanOutCount = new AtomicLong();
+    private final AtomicLong maxTimeToLastSmsMillis = new AtomicLong();
+    private volatile EmergencySmsFanOutStats lastStats = new EmergencySmsFanOutStats(0, null, 0, 0, 0, 0);
+
+    public EmergencySmsFanOutService(EmergencyAlertRecipientRepository recipientRepository,
+            SmsLogRepository smsLogRepository,
+            SmsService smsService,
+            SmsOutboxService smsOutboxService,
+            @Qualifier(AsyncConfig.EMERGENCY_SMS_SEND_EXECUTOR) Executor sendExecutor) {
+        this.recipientRepository = recipientRepository;
+        this.smsLogRepository = smsLogRepository;
+        this.smsService = smsService;
+        this.smsOutboxService = smsOutboxService;
+        this.sendExecutor = sendExecutor;
+    }
+
+    /**
+     * 긴급 알림 SMS 로그 일괄 생성 (알림 트랜잭션 안에서 호출)
+     * 수신자 전체를 한 번에 조회하고 PENDING 로그로 저장하므로, 이후 발송 풀이 포화되어 작업이 거절되어도
+     * 아웃박스 워커가 이어서 발송함
+     *
+     * @return 저장된 SMS 로그 ID 목록 (커밋 후 {@link #fanOut}에 전달)
+     */
+    @Transactional
+    public List<Long> enqueue(Long alertId, List<Long> recipientIds) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<EmergencyAlertRecipient> recipients = recipientRepository.findAllByIdInWithAlertDetails(recipientIds);
+        if (recipients.isEmpty()) {
+            log.warn("[EmergencySmsFanOutService] 긴급 알림 수신자를 찾을 수 없습니다. alertId={}, recipientIds={}",
+                    alertId, recipientIds);
+            return List.of();
+        }
+        EmergencyAlert alert = recipients.get(0).getEmergencyAlert();
+
+        List<SmsLog> smsLogs = smsService.prepareEmergencyAlertLogs(alert, recipients);
+        smsLogRepository.saveAll(smsLogs);
+        return smsLogs.stream().map(SmsLog::getId).toList();
+    }
+
+    /**
+     * 긴급 알림 SMS 팬아웃 (비동기, 긴급 전용 풀)
+     * 알림 트랜잭션 커밋 후 {@link #enqueue}가 저장한 로그 ID로 호출.
+     * 발송 풀이 가득 차 거절된 건과 토큰이 부족한 건은 PENDING으로 남겨 아웃박스 워커에 맡김
+     */
+    @Async(AsyncConfig.EMERGENCY_SMS_EXECUTOR)
+    public void fanOut(EmergencyAlert alert, List<Long> smsLogIds) {
+        if (smsLogIds == null || smsLogIds.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        List<SmsLog> smsLogs = smsLogRepository.findAllById(smsLogIds);
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(smsLogs.size());
+        int rejected = 0;
+        for (SmsLog smsLog : smsLogs) {
+            try {
+                sends.add(CompletableFuture.runAsync(() -> smsOutboxService.dispatch(smsLog), sendExecutor)
+                        .exceptionally(e -> {
+                            log.error("[EmergencySmsFanOutService] 긴급 SMS 발송 오류. alertId={}, smsLogId={}, error={}",
+                                    alert.getId(), smsLog.getId(), e.getMessage(), e);
+                            return null;
+                        }));
+            } catch (RejectedExecutionException e) {
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            log.warn("[EmergencySmsFanOutService] 발송 풀 포화로 아웃박스 워커에 위임. alertId={}, rejected={}",
+                    alert.getId(), rejected);
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        int deferred = (int) smsLogs.stream().filter(l -> l.getStatus() != SmsStatus.SENT).count();
+        record(alert, smsLogs.size(), deferred, startNanos);
+    }
+
+    public EmergencySmsFanOutStats getStats() {
+        EmergencySmsFanOutStats last = lastStats;
+        return new EmergencySmsFanOutStats(
+                fanOutCount.get(),
+                last.lastAlertId(),
+                last.lastRecipientCount(),
+                last.lastDeferredCount(),
+                last.lastTimeToLastSmsMillis(),
+                maxTimeToLastSmsMillis.get());
+    }
+
+    /**
+     * 알림 생성 시각 기준 마지막 SMS 발송 완료까지의 시간 기록
+     * (재시도 대기로 넘어간 건은 deferred로 따로 집계)
+     */
+    private void record(EmergencyAlert alert, int recipientCount, int deferred, long startNanos) {
+        long fanOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        // 에스컬레이션으로 발송된 경우 에스컬레이션 시각 기준
+        LocalDateTime triggeredAt = alert.getEscalationBaseTime();
+        long timeToLastSmsMillis = triggeredAt != null
+                ? Duration.between(triggeredAt, LocalDateTime.now()).toMillis()
+                : fanOutMillis;
+
+        fanOutCount.incrementAndGet();
+        maxTimeToLastSmsMillis.accumulateAndGet(timeToLastSmsMillis, Math::max);
+        lastStats = new EmergencySmsFanOutStats(0, alert.getId(), recipientCount, deferred, timeToLastSmsMillis, 0);
+
+        log.info("[EmergencySmsFanOutService] 긴급 SMS 팬아웃 완료. alertId={}, severity={}, recipients={}, deferred={}, fanOutMs={}, timeToLastSmsMs={}",
+                alert.getId(), alert.getSeverity(), recipientCount, deferred, fanOutMillis, timeToLastSmsMillis);
+    }
+}
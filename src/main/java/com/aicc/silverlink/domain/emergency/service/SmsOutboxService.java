@@ -0,0 +1,207 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.emergency.dto.SmsOutboxStats;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog.SmsStatus;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
+import com.aicc.silverlink.global.config.sms.SmsProperties;
+import com.aicc.silverlink.infra.external.sms.SmsRateLimiter;
+import com.aicc.silverlink.infra.external.sms.SmsSendException;
+import com.aicc.silverlink.infra.external.sms.SmsSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMS 아웃박스 발송 서비스
+ * sms_logs의 PENDING 행을 아웃박스로 사용하여 토큰 버킷으로 발송 속도를 제한하고,
+ * 일시적 실패는 지수 백오프로 재시도, 한도 초과 시 DEAD(dead letter)로 남김.
+ * 외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (저장은 각각 짧은 트랜잭션)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsOutboxService {
+
+    private static final String EMERGENCY_REFERENCE_TYPE = "emergency_alerts";
+
+    private final SmsLogRepository smsLogRepository;
+    private final EmergencyAlertRecipientRepository recipientRepository;
+    private final SmsSender smsSender;
+    private final SmsRateLimiter rateLimiter;
+    private final SmsProperties properties;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+
+    /**
+     * SMS 즉시 발송 시도
+     * 토큰이 없으면 발송 스레드를 붙잡고 기다리지 않고 아웃박스에 남겨 워커가 처리 속도에 맞춰 발송
+     * (워커는 긴급 건을 먼저 발송). 다른 워커가 먼저 점유했으면 획득한 토큰을 반환
+     */
+    public void dispatch(SmsLog smsLog) {
+        int permits = smsLog.remainingSegments();
+        if (!rateLimiter.tryAcquire(permits, Duration.ZERO)) {
+            log.info("[SmsOutboxService] 발송 한도 초과로 아웃박스 대기. smsLogId={}, type={}",
+                    smsLog.getId(), smsLog.getMessageType());
+            return;
+        }
+        if (!claim(smsLog)) {
+            rateLimiter.release(permits);
+            return;
+        }
+        deliverClaimed(smsLog);
+    }
+
+    /**
+     * 발송 시각이 도래한 아웃박스 메시지 조회
+     */
+    public List<SmsLog> findDue() {
+        return smsLogRepository.findDueOutbox(LocalDateTime.now(),
+                PageRequest.of(0, properties.getOutbox().getBatchSize()));
+    }
+
+    /**
+     * 발송 점유 (lease)
+     * 점유한 행은 lease 동안 조회 대상에서 빠지므로 다음 워커 회차에서 다시 읽히지 않음
+     *
+     * @return 점유 성공 여부 (다른 워커가 먼저 가져갔으면 false)
+     */
+    public boolean claim(SmsLog smsLog) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(properties.getOutbox().getLeaseSeconds());
+        if (smsLogRepository.claimForDelivery(smsLog.getId(), smsLog.getAttemptCount(), leaseUntil) == 0) {
+            log.debug("[SmsOutboxService] 이미 다른 워커가 처리 중. smsLogId={}", smsLog.getId());
+            return false;
+        }
+        smsLog.beginAttempt(leaseUntil);
+        return true;
+    }
+
+    /**
+     * 점유 반환 (발송 풀이 작업을 거절한 경우)
+     * 시도 횟수를 되돌리고 즉시 다시 조회되도록 하여, 실행되지 않은 시도가 재시도 한도를 소모하지 않게 함
+     */
+    public void release(SmsLog smsLog) {
+        smsLogRepository.releaseClaim(smsLog.getId(), smsLog.getAttemptCount(), LocalDateTime.now());
+    }
+
+    /**
+     * 점유한 메시지 발송
+     */
+    public void deliverClaimed(SmsLog smsLog) {
+        try {
+            List<String> segments = smsLog.segments();
+            String externalMsgId = smsLog.getExternalMsgId();
+            for (int i = smsLog.getSentSegments(); i < segments.size(); i++) {
+                externalMsgId = smsSender.send(smsLog.getReceiverPhone(), segments.get(i));
+                smsLog.markSegmentSent();
+            }
+
+            smsLog.markSent(externalMsgId);
+            smsLogRepository.save(smsLog);
+            sentCount.incrementAndGet();
+            updateRecipientStatus(smsLog, true);
+
+            log.info("[SmsOutboxService] SMS 발송 성공. smsLogId={}, to={}, attempt={}, sid={}",
+                    smsLog.getId(), maskPhone(smsLog.getReceiverPhone()), smsLog.getAttemptCount(), externalMsgId);
+
+        } catch (SmsSendException e) {
+            handleFailure(smsLog, e.getMessage(), e.isRetryable());
+        } catch (Exception e) {
+            handleFailure(smsLog, e.getMessage(), true);
+        }
+    }
+
+    public SmsOutboxStats getStats() {
+        return new SmsOutboxStats(
+                smsLogRepository.countByStatus(SmsStatus.PENDING),
+                smsLogRepository.countByStatus(SmsStatus.DEAD),
+                sentCount.get(),
+                retryCount.get(),
+                failedCount.get(),
+                deadCount.get(),
+                rateLimiter.getAvailableTokens(),
+                rateLimiter.getGrantedCount(),
+                rateLimiter.getThrottledCount());
+    }
+
+    private void handleFailure(SmsLog smsLog, String errorMessage, boolean retryable) {
+        int maxAttempts = properties.getOutbox().getMaxAttempts();
+
+        if (!retryable) {
+            smsLog.markFailed(errorMessage);
+            smsLogRepository.save(smsLog);
+            failedCount.incrementAndGet();
+            updateRecipientStatus(smsLog, false);
+            log.error("[SmsOutboxService] SMS 발송 실패 (재시도 불가). smsLogId={}, to={}, error={}",
+                    smsLog.getId(), maskPhone(smsLog.getReceiverPhone()), errorMessage);
+            return;
+        }
+
+        if (smsLog.getAttemptCount() >= maxAttempts) {
+            smsLog.markDead(errorMessage);
+            smsLogRepository.save(smsLog);
+            deadCount.incrementAndGet();
+            updateRecipientStatus(smsLog, false);
+            log.error("[SmsOutboxService] SMS 재시도 한도 초과 (DEAD). smsLogId={}, to={}, attempts={}, error={}",
+                    smsLog.getId(), maskPhone(smsLog.getReceiverPhone()), smsLog.getAttemptCount(), errorMessage);
+            return;
+        }
+
+        Duration backoff = backoff(smsLog.getAttemptCount());
+        smsLog.scheduleRetry(errorMessage, LocalDateTime.now().plus(backoff));
+        smsLogRepository.save(smsLog);
+        retryCount.incrementAndGet();
+        log.warn("[SmsOutboxService] SMS 발송 실패, 재시도 예약. smsLogId={}, attempt={}/{}, retryIn={}s, error={}",
+                smsLog.getId(), smsLog.getAttemptCount(), maxAttempts, backoff.toSeconds(), errorMessage);
+    }
+
+    /**
+     * 지수 백오프 (initial * 2^(attempt-1), 상한 적용) + 지터
+     * 같은 시점에 실패한 메시지들이 동시에 재시도하며 다시 한도에 걸리지 않도록 분산
+     */
+    Duration backoff(int attempt) {
+        SmsProperties.Outbox outbox = properties.getOutbox();
+        long exp = outbox.getInitialBackoffSeconds() << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(exp, outbox.getMaxBackoffSeconds());
+        long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofSeconds(Math.max(jittered, 1));
+    }
+
+    /**
+     * 긴급 알림 수신자의 SMS 발송 상태 반영 (워커 재시도 결과 포함)
+     */
+    private void updateRecipientStatus(SmsLog smsLog, boolean sent) {
+        if (!EMERGENCY_REFERENCE_TYPE.equals(smsLog.getReferenceType()) || smsLog.getReceiver() == null) {
+            return;
+        }
+        recipientRepository.findByEmergencyAlertIdAndReceiverId(smsLog.getReferenceId(), smsLog.getReceiver().getId())
+                .ifPresent(recipient -> {
+                    if (sent) {
+                        recipient.markSmsSent();
+                    } else {
+                        recipient.markSmsFailed();
+                    }
+                    recipientRepository.save(recipient);
+                });
+    }
+
+    private String maskPhone(String phone) {
+        if (phone == null)
+            return null;
+        int len = phone.length();
+        if (len <= 4)
+            return "****";
+        return phone.substring(0, Math.min(3, len)) + "****" + phone.substring(Math.max(len - 4, 0));
+    }
+}
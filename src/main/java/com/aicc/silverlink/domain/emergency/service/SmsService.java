@@ -4,97 +4,76 @@ import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
 import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
 import com.aicc.silverlink.domain.emergency.entity.SmsLog;
 import com.aicc.silverlink.domain.emergency.entity.SmsLog.MessageType;
-import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
 import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
 import com.aicc.silverlink.domain.user.entity.User;
-import com.aicc.silverlink.global.config.twilio.TwilioProperties;
-import com.twilio.Twilio;
-import com.twilio.rest.api.v2010.account.Message;
-import com.twilio.type.PhoneNumber;
-import jakarta.annotation.PostConstruct;
+import com.aicc.silverlink.global.config.async.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * SMS 발송 서비스
- * Twilio API를 사용하여 SMS 발송 및 이력 관리
+ * 메시지를 만들어 SMS 이력(아웃박스)에 저장하고, 실제 발송은 SmsOutboxService에 위임
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SmsService {
 
-    private final TwilioProperties twilioProperties;
     private final SmsLogRepository smsLogRepository;
-    private final EmergencyAlertRecipientRepository recipientRepository;
-
-    private String messagingServiceSid;
+    private final SmsOutboxService smsOutboxService;
 
     // UCS-2 인코딩 SMS 세그먼트 제한 (한글 사용 시)
     private static final int UCS2_SINGLE_SEGMENT_LIMIT = 67;
 
-    @PostConstruct
-    public void init() {
-        Twilio.init(twilioProperties.getAccountSid(), twilioProperties.getAuthToken());
-        this.messagingServiceSid = twilioProperties.getMessagingServiceSid();
-        log.info("[SmsService] Twilio 초기화 완료. MessagingServiceSid: {}",
-                messagingServiceSid != null && messagingServiceSid.length() > 6
-                        ? messagingServiceSid.substring(0, 6) + "****"
-                        : "UNKNOWN");
-
-        log.info("Messaging Service SID: {}", twilioProperties.getMessagingServiceSid());
-    }
-
     // ========== 긴급 알림 SMS ==========
 
     /**
-     * 긴급 알림 SMS 발송 (비동기)
-     * 한글 SMS 인코딩 깨짐 방지를 위해 2건으로 분할 발송:
-     * - 1차: 본문 메시지 (67자 이내)
-     * - 2차: URL (67자 이내)
+     * 긴급 알림 SMS 로그 일괄 생성 (팬아웃용)
+     * 메시지는 수신자 역할에만 의존하므로 역할별로 한 번만 만들어 재사용
+     * 전화번호가 없는 수신자는 제외
      */
-    @Async
-    @Transactional
-    public void sendEmergencyAlertSmsAsync(EmergencyAlert alert, EmergencyAlertRecipient recipient) {
-        try {
+    public List<SmsLog> prepareEmergencyAlertLogs(EmergencyAlert alert, List<EmergencyAlertRecipient> recipients) {
+        Map<EmergencyAlertRecipient.ReceiverRole, RenderedAlertSms> renderedByRole =
+                new EnumMap<>(EmergencyAlertRecipient.ReceiverRole.class);
+        List<SmsLog> smsLogs = new ArrayList<>(recipients.size());
+
+        for (EmergencyAlertRecipient recipient : recipients) {
             User receiver = recipient.getReceiver();
-            String phone = formatPhoneNumber(receiver.getPhone());
+            if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
+                log.warn("[SmsService] 수신자 전화번호 없음. alertId={}, userId={}", alert.getId(), receiver.getId());
+                continue;
+            }
 
-            // 본문 메시지 생성 (67자 이내)
-            String bodyMessage = buildEmergencyAlertBodyMessage(alert, recipient);
-            // URL 메시지 생성
-            String urlMessage = buildEmergencyAlertUrlMessage(recipient);
-            String shortUrl = getUrlForRecipient(recipient);
+            RenderedAlertSms rendered = renderedByRole.computeIfAbsent(recipient.getReceiverRole(),
+                    role -> new RenderedAlertSms(
+                            buildEmergencyAlertBodyMessage(alert, recipient),
+                            buildEmergencyAlertUrlMessage(recipient),
+                            getUrlForRecipient(recipient)));
 
-            // SMS 로그 생성 (본문 + URL 합쳐서 기록)
-            String fullMessage = bodyMessage + "\n" + urlMessage;
-            SmsLog smsLog = SmsLog.createForEmergencyAlert(
+            smsLogs.add(SmsLog.createForEmergencyAlert(
                     receiver,
-                    phone,
+                    formatPhoneNumber(receiver.getPhone()),
                     alert.getSeverity(),
                     alert.getId(),
-                    fullMessage,
-                    shortUrl);
-            smsLogRepository.save(smsLog);
-
-            log.info("[SmsService] 긴급 알림 SMS 2건 분할 발송 시작. alertId={}, phone={}, bodyLen={}, urlLen={}",
-                    alert.getId(), maskPhone(phone), bodyMessage.length(), urlMessage.length());
-
-            // 1차 SMS: 본문 발송
-            sendSmsWithoutLog(phone, bodyMessage);
-
-            // 2차 SMS: URL 발송 (수신자 상태 업데이트는 여기서)
-            sendSms(phone, urlMessage, smsLog, recipient);
-
-        } catch (Exception e) {
-            log.error("[SmsService] 긴급 알림 SMS 발송 실패. alertId={}, recipientId={}, error={}",
-                    alert.getId(), recipient.getId(), e.getMessage(), e);
+                    rendered.bodyMessage(),
+                    rendered.urlMessage(),
+                    rendered.shortUrl()));
         }
+        return smsLogs;
+    }
+
+    /**
+     * 역할별로 한 번 만든 긴급 알림 메시지
+     */
+    private record RenderedAlertSms(String bodyMessage, String urlMessage, String shortUrl) {
     }
 
     /**
@@ -161,8 +140,7 @@ public class SmsService {
     /**
      * 문의 답변 SMS 발송
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendInquiryReplySms(User receiver, Long inquiryId) {
         try {
             String phone = formatPhoneNumber(receiver.getPhone());
@@ -172,7 +150,7 @@ public class SmsService {
             SmsLog smsLog = SmsLog.createForInquiryReply(receiver, phone, inquiryId, message, shortUrl);
             smsLogRepository.save(smsLog);
 
-            sendSms(phone, message, smsLog, null);
+            smsOutboxService.dispatch(smsLog);
 
         } catch (Exception e) {
             log.error("[SmsService] 문의 답변 SMS 발송 실패. inquiryId={}, error={}",
@@ -183,8 +161,7 @@ public class SmsService {
     /**
      * 민원 답변 SMS 발송
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendComplaintReplySms(User receiver, Long complaintId) {
         try {
             String phone = formatPhoneNumber(receiver.getPhone());
@@ -194,7 +171,7 @@ public class SmsService {
             SmsLog smsLog = SmsLog.createForComplaintReply(receiver, phone, complaintId, message, shortUrl);
             smsLogRepository.save(smsLog);
 
-            sendSms(phone, message, smsLog, null);
+            smsOutboxService.dispatch(smsLog);
 
         } catch (Exception e) {
             log.error("[SmsService] 민원 답변 SMS 발송 실패. complaintId={}, error={}",
@@ -205,8 +182,7 @@ public class SmsService {
     /**
      * 접근권한 승인 SMS 발송
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendAccessApprovedSms(User receiver, Long requestId, String elderlyName) {
         try {
             String phone = formatPhoneNumber(receiver.getPhone());
@@ -219,7 +195,7 @@ public class SmsService {
             SmsLog smsLog = SmsLog.createForAccessRequest(receiver, phone, true, requestId, message, shortUrl);
             smsLogRepository.save(smsLog);
 
-            sendSms(phone, message, smsLog, null);
+            smsOutboxService.dispatch(smsLog);
 
         } catch (Exception e) {
             log.error("[SmsService] 접근권한 승인 SMS 발송 실패. requestId={}, error={}",
@@ -230,8 +206,7 @@ public class SmsService {
     /**
      * 접근권한 거절 SMS 발송
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendAccessRejectedSms(User receiver, Long requestId, String elderlyName) {
         try {
             String phone = formatPhoneNumber(receiver.getPhone());
@@ -244,7 +219,7 @@ public class SmsService {
             SmsLog smsLog = SmsLog.createForAccessRequest(receiver, phone, false, requestId, message, shortUrl);
             smsLogRepository.save(smsLog);
 
-            sendSms(phone, message, smsLog, null);
+            smsOutboxService.dispatch(smsLog);
 
         } catch (Exception e) {
             log.error("[SmsService] 접근권한 거절 SMS 발송 실패. requestId={}, error={}",
@@ -254,68 +229,6 @@ public class SmsService {
 
     // ========== 공통 메서드 ==========
 
-    /**
-     * SMS 발송 (Twilio)
-     * 한글(UCS-2) 메시지가 SMS 세그먼트 경계에서 깨지지 않도록
-     * 명시적으로 unicode 인코딩을 지정하여 발송
-     */
-    private void sendSms(String toPhone, String messageContent, SmsLog smsLog, EmergencyAlertRecipient recipient) {
-        try {
-            // Twilio Messaging Service를 사용하여 SMS 발송
-            Message message = Message.creator(
-                    new PhoneNumber(toPhone),
-                    messagingServiceSid,
-                    messageContent).create();
-
-            String messageSid = message.getSid();
-            log.info("[SmsService] SMS 발송 성공. to={}, sid={}", maskPhone(toPhone), messageSid);
-
-            // 로그 업데이트
-            smsLog.markSent(messageSid);
-            smsLogRepository.save(smsLog);
-
-            // 수신자 상태 업데이트
-            if (recipient != null) {
-                recipient.markSmsSent();
-                recipientRepository.save(recipient);
-            }
-
-        } catch (Exception e) {
-            log.error("[SmsService] SMS 발송 실패. to={}, error={}", maskPhone(toPhone), e.getMessage());
-
-            smsLog.markFailed(e.getMessage());
-            smsLogRepository.save(smsLog);
-
-            if (recipient != null) {
-                recipient.markSmsFailed();
-                recipientRepository.save(recipient);
-            }
-
-            throw new RuntimeException("SMS 발송 실패: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * SMS 발송 (Twilio) - 로그 없이 발송
-     * 분할 발송 시 첫 번째 메시지에 사용
-     */
-    private void sendSmsWithoutLog(String toPhone, String messageContent) {
-        try {
-            Message message = Message.creator(
-                    new PhoneNumber(toPhone),
-                    messagingServiceSid,
-                    messageContent).create();
-
-            log.info("[SmsService] SMS 발송 성공 (분할 1차). to={}, sid={}",
-                    maskPhone(toPhone), message.getSid());
-
-        } catch (Exception e) {
-            log.error("[SmsService] SMS 발송 실패 (분할 1차). to={}, error={}",
-                    maskPhone(toPhone), e.getMessage());
-            throw new RuntimeException("SMS 발송 실패: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * 전화번호 E.164 형식으로 변환
      */
@@ -359,18 +272,6 @@ public class SmsService {
         return str.substring(0, maxLength - 3) + "...";
     }
 
-    /**
-     * 전화번호 마스킹 (로깅용)
-     */
-    private String maskPhone(String phone) {
-        if (phone == null)
-            return null;
-        int len = phone.length();
-        if (len <= 4)
-            return "****";
-        return phone.substring(0, Math.min(3, len)) + "****" + phone.substring(Math.max(len - 4, 0));
-    }
-
     // ========== 중복 발송 방지 ==========
 
     /**
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,15 @@ public interface GuardianElderlyRepository extends JpaRepository<GuardianElderly
             "WHERE ge.elderly.id = :elderlyId")
     Optional<GuardianElderly> findByElderlyId(@Param("elderlyId") Long elderlyId);
 
+    /**
+     * 어르신 ID 목록으로 관계 정보 일괄 조회 (목록 화면 N+1 방지용 IN 쿼리)
+     */
+    @Query("SELECT ge FROM GuardianElderly ge " +
+            "JOIN FETCH ge.guardian g " +
+            "JOIN FETCH g.user " +
+            "WHERE ge.elderly.id IN :elderlyIds")
+    List<GuardianElderly> findAllByElderlyIdIn(@Param("elderlyIds") Collection<Long> elderlyIds);
+
     /**
      * 보호자-어르신 관계 존재 여부 확인
      */
@@ -1,13 +1,22 @@
 package com.aicc.silverlink.domain.inquiry.entity;
 
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "faqs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FAQ)
+@Table(name = "faqs",
+        indexes = {
+                // 챗봇 증분 동기화 피드 (updatedAt, id) 순서와 맞춤
+                @Index(name = "idx_faqs_updated_id", columnList = "updated_at, faq_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Faq {
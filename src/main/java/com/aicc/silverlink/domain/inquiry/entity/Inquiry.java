@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inquiries")
+@Table(name = "inquiries",
+        indexes = {
+                // 챗봇 증분 동기화 피드 (status, updatedAt, id) 순서와 맞춤
+                @Index(name = "idx_inquiries_status_updated_id", columnList = "status, updated_at, qna_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Inquiry {
@@ -2,16 +2,24 @@ package com.aicc.silverlink.domain.inquiry.repository;
 
 import com.aicc.silverlink.domain.inquiry.entity.Faq;
 import com.aicc.silverlink.domain.inquiry.entity.Faq.FaqCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FaqRepository extends JpaRepository<Faq, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Faq> findAllByCategoryAndIsActiveTrueOrderByDisplayOrderAsc(FaqCategory category);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Faq> findAllByIsActiveTrueOrderByDisplayOrderAsc();
 
     List<Faq> findByQuestionContainingOrAnswerTextContainingAndIsActiveTrueOrderByDisplayOrderAsc(
@@ -21,4 +29,17 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
      * 특정 시간 이후 업데이트된 활성 FAQ 조회 (Python 챗봇 증분 동기화용)
      */
     List<Faq> findAllByIsActiveTrueAndUpdatedAtAfterOrderByUpdatedAtAsc(LocalDateTime since);
+
+    /**
+     * FAQ 변경분 스트림 (Python 챗봇 증분 동기화용)
+     * (updatedAt, id) 워터마크 이후 행을 순서대로, 비활성화된 FAQ도 포함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM Faq f " +
+            "WHERE f.updatedAt > :since OR (f.updatedAt = :since AND f.id > :afterId) " +
+            "ORDER BY f.updatedAt ASC, f.id ASC")
+    Stream<Faq> streamChangedAfter(@Param("since") LocalDateTime since, @Param("afterId") Long afterId);
 }
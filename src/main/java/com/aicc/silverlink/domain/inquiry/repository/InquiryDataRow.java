@@ -0,0 +1,29 @@
+package com.aicc.silverlink.domain.inquiry.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 챗봇 동기화용 문의 한 행 (InquiryRepository 프로젝션)
+ * 삭제되지 않은 최신 답변을 같은 쿼리에서 함께 가져옴 (문의마다 답변 조회 없음)
+ * 삭제된 문의는 툼스톤으로 inquiryId/updatedAt/deleted만 남김 (공개 피드로 본문·작성자가 나가지 않도록)
+ */
+public record InquiryDataRow(
+        Long inquiryId,
+        Long elderlyUserId,
+        Long guardianUserId,
+        String question,
+        String answer,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean deleted) {
+
+    public InquiryDataRow {
+        if (deleted) {
+            elderlyUserId = null;
+            guardianUserId = null;
+            question = null;
+            answer = null;
+            createdAt = null;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.aicc.silverlink.domain.inquiry.repository;
 
 import com.aicc.silverlink.domain.inquiry.entity.Inquiry;
-import com.aicc.silverlink.domain.inquiry.entity.Inquiry.InquiryStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
@@ -18,21 +22,53 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
     Optional<Inquiry> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * 챗봇 동기화용 프로젝션 (문의 + 삭제되지 않은 최신 답변)
+     */
+    String DATA_ROW_QUERY = """
+            SELECT new com.aicc.silverlink.domain.inquiry.repository.InquiryDataRow(
+                i.id, i.elderly.id, i.createdBy.id, i.questionText,
+                (SELECT a.answerText FROM InquiryAnswer a
+                 WHERE a.id = (SELECT MAX(a2.id) FROM InquiryAnswer a2
+                               WHERE a2.inquiry.id = i.id AND a2.isDeleted = false)),
+                i.createdAt, i.updatedAt, i.isDeleted)
+            FROM Inquiry i
+            """;
+
     /**
      * 답변 완료된 모든 문의 조회 (Python 챗봇 동기화용)
      */
-    List<Inquiry> findAllByStatusAndIsDeletedFalseOrderByCreatedAtDesc(InquiryStatus status);
+    @Query(DATA_ROW_QUERY +
+            "WHERE i.status = 'ANSWERED' AND i.isDeleted = false " +
+            "ORDER BY i.createdAt DESC")
+    List<InquiryDataRow> findAnsweredDataRows();
 
     /**
      * 특정 보호자-어르신 관계의 답변 완료된 문의 조회 (Python 챗봇 권한 필터링용)
      */
-    @Query("SELECT i FROM Inquiry i " +
+    @Query(DATA_ROW_QUERY +
             "WHERE i.elderly.id = :elderlyId " +
             "AND i.createdBy.id = :guardianId " +
             "AND i.status = 'ANSWERED' " +
             "AND i.isDeleted = false " +
             "ORDER BY i.createdAt DESC")
-    List<Inquiry> findAnsweredInquiriesByRelation(
+    List<InquiryDataRow> findAnsweredDataRowsByRelation(
             @Param("guardianId") Long guardianId,
             @Param("elderlyId") Long elderlyId);
+
+    /**
+     * 답변 완료 문의 변경분 스트림 (Python 챗봇 증분 동기화용)
+     * (updatedAt, id) 워터마크 이후 행을 순서대로, 삭제된 문의도 deleted=true로 포함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DATA_ROW_QUERY +
+            "WHERE i.status = 'ANSWERED' " +
+            "AND (i.updatedAt > :since OR (i.updatedAt = :since AND i.id > :afterId)) " +
+            "ORDER BY i.updatedAt ASC, i.id ASC")
+    Stream<InquiryDataRow> streamAnsweredDataRowsAfter(
+            @Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId);
 }
@@ -1,10 +1,15 @@
 package com.aicc.silverlink.domain.map.entity;
 
 import com.aicc.silverlink.domain.map.dto.WelfareFacilityRequest;
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WELFARE_FACILITY)
 @Table(name = "welfare_facilities")
 @Getter
 @Builder
@@ -1,17 +1,23 @@
 package com.aicc.silverlink.domain.notice.entity;
 
 import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.NOTICE_TARGET_ROLE)
 @Table(name = "notice_target_roles")
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @IdClass(NoticeTargetRoleId.class)
-public class NoticeTargetRole {
+public class NoticeTargetRole implements Persistable<NoticeTargetRoleId> {
     @Id
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "notice_id", nullable = false)
@@ -21,4 +27,27 @@ public class NoticeTargetRole {
     @Enumerated(EnumType.STRING)
     @Column(name = "target_role", nullable = false)
     private Role targetRole;
+
+    /**
+     * 복합키가 항상 채워져 있어 saveAll이 행마다 SELECT(merge)하지 않도록 신규 여부를 직접 관리
+     */
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public NoticeTargetRoleId getId() {
+        return new NoticeTargetRoleId(notice != null ? notice.getId() : null, targetRole);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +17,10 @@ public interface NoticeAttachmentRepository extends JpaRepository<NoticeAttachme
     // 특정 공지사항에 속한 첨부파일 목록을 가져옵니다.
     List<NoticeAttachment> findAllByNoticeId(Long noticeId);
 
+    // 목록 변환 시 여러 공지의 첨부파일을 한 번에 가져옵니다.
+    @Query("SELECT na FROM NoticeAttachment na WHERE na.notice.id IN :noticeIds")
+    List<NoticeAttachment> findAllByNoticeIdIn(@Param("noticeIds") Collection<Long> noticeIds);
+
     // 특정 공지사항의 첨부파일 모두 삭제
     @Modifying
     @Transactional
@@ -3,8 +3,11 @@ package com.aicc.silverlink.domain.notice.repository;
 import com.aicc.silverlink.domain.notice.entity.NoticeReadLog;
 import com.aicc.silverlink.domain.notice.entity.NoticeReadLogId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,8 @@ public interface NoticeReadLogRepository extends JpaRepository<NoticeReadLog, No
     boolean existsByNoticeIdAndUserId(Long noticeId, Long userId);
 
     List<NoticeReadLog> findByNoticeId(Long noticeId);
+
+    // 목록에 포함된 공지 중 사용자가 읽은 공지 ID
+    @Query("SELECT r.notice.id FROM NoticeReadLog r WHERE r.user.id = :userId AND r.notice.id IN :noticeIds")
+    List<Long> findReadNoticeIds(@Param("userId") Long userId, @Param("noticeIds") Collection<Long> noticeIds);
 }
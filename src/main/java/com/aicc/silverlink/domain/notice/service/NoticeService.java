@@ -12,15 +12,21 @@ import com.aicc.silverlink.domain.notice.repository.NoticeAttachmentRepository;
 import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -216,46 +222,19 @@ public class NoticeService {
     public Page<NoticeResponse> getNoticesForUser(User user, String keyword, Pageable pageable) {
         Role role = (user != null) ? user.getRole() : null;
         
-        System.out.println("=== NoticeService.getNoticesForUser 호출 ===");
-        System.out.println("사용자 ID: " + (user != null ? user.getId() : "null"));
-        System.out.println("사용자 역할: " + role);
-        System.out.println("검색 키워드: " + keyword);
-        
+        log.debug("[NoticeService] 사용자 공지사항 조회. userId={}, role={}, keyword={}",
+                user != null ? user.getId() : null, role, keyword);
+
         // role이 null인 경우 빈 페이지 반환
         if (role == null) {
-            System.out.println("경고: 사용자 역할이 null입니다. 빈 페이지를 반환합니다.");
+            log.warn("[NoticeService] 사용자 역할이 없어 빈 페이지를 반환합니다.");
             return Page.empty(pageable);
         }
         
         Page<Notice> notices = noticeRepository.findAllForUser(role, keyword, pageable);
-        
-        System.out.println("조회된 공지사항 수: " + notices.getContent().size());
-        for (Notice notice : notices.getContent()) {
-            System.out.println("=== 공지사항 상세 ===");
-            System.out.println("  ID: " + notice.getId());
-            System.out.println("  제목: " + notice.getTitle());
-            System.out.println("  대상 모드: " + notice.getTargetMode());
-            
-            // 대상 역할 조회
-            List<NoticeTargetRole> targetRoles = noticeTargetRoleRepository.findAllByNoticeId(notice.getId());
-            System.out.println("  대상 역할 수: " + targetRoles.size());
-            System.out.println("  대상 역할들: " + targetRoles.stream()
-                    .map(ntr -> ntr.getTargetRole().toString())
-                    .collect(Collectors.joining(", ")));
-            
-            // 현재 사용자 역할과 매칭 여부 확인
-            boolean isMatch = notice.getTargetMode() == Notice.TargetMode.ALL ||
-                    targetRoles.stream().anyMatch(ntr -> ntr.getTargetRole() == role);
-            System.out.println("  현재 사용자 역할과 매칭: " + isMatch);
-        }
+        log.debug("[NoticeService] 조회된 공지사항 수: {}", notices.getNumberOfElements());
 
-        return notices.map(notice -> {
-            boolean isRead = false;
-            if (user != null) {
-                isRead = noticeReadLogRepository.existsByNoticeIdAndUserId(notice.getId(), user.getId());
-            }
-            return convertToResponse(notice, isRead);
-        });
+        return convertPageToResponse(notices, user);
     }
 
     // Req 67: 팝업 공지 조회
@@ -319,4 +298,29 @@ public class NoticeService {
 
         return NoticeResponse.from(notice, roles, attachments, isRead);
     }
+
+    // Helper: 목록 변환기 - 대상 권한/첨부파일/읽음 여부를 공지 ID IN 조회로 한 번씩만 가져옴
+    private Page<NoticeResponse> convertPageToResponse(Page<Notice> notices, User user) {
+        if (notices.isEmpty()) {
+            return notices.map(notice -> convertToResponse(notice, false));
+        }
+
+        List<Long> noticeIds = notices.getContent().stream().map(Notice::getId).toList();
+
+        Map<Long, List<Role>> rolesByNotice = noticeTargetRoleRepository.findAllByNoticeIdIn(noticeIds).stream()
+                .collect(Collectors.groupingBy(ntr -> ntr.getNotice().getId(),
+                        Collectors.mapping(NoticeTargetRole::getTargetRole, Collectors.toList())));
+
+        Map<Long, List<NoticeAttachment>> attachmentsByNotice = noticeAttachmentRepository.findAllByNoticeIdIn(noticeIds)
+                .stream().collect(Collectors.groupingBy(na -> na.getNotice().getId()));
+
+        Set<Long> readIds = (user != null)
+                ? new HashSet<>(noticeReadLogRepository.findReadNoticeIds(user.getId(), noticeIds))
+                : Set.of();
+
+        return notices.map(notice -> NoticeResponse.from(notice,
+                rolesByNotice.getOrDefault(notice.getId(), new ArrayList<>()),
+                attachmentsByNotice.getOrDefault(notice.getId(), new ArrayList<>()),
+                readIds.contains(notice.getId())));
+    }
 }
@@ -2,6 +2,7 @@ package com.aicc.silverlink.domain.notification.entity;
 
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.global.common.entity.BaseTimeEntity;
+import com.aicc.silverlink.global.common.entity.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -25,7 +26,9 @@ import java.time.LocalDateTime;
 public class Notification extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications")
+    @TableGenerator(name = "notifications", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "notifications", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "notification_id")
     private Long id;
 
@@ -143,15 +143,29 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         long countByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
         /**
-         * 미발송 SMS 알림 조회 (재시도용)
+         * 미발송 SMS 알림 조회 (아웃박스 보정용, 수신자 함께 조회)
+         * 마지막 SMS가 FAILED/DEAD로 끝난 알림은 더 보정할 것이 없으므로 제외
+         * (SmsLog ID는 구간 할당이라 시간 순서가 아니므로 최신 건은 createdAt 기준)
          */
         @Query("SELECT n FROM Notification n " +
+                        "JOIN FETCH n.receiver " +
                         "WHERE n.smsSent = false " +
                         "AND n.notificationType IN :smsTypes " +
-                        "AND n.createdAt > :since")
+                        "AND n.createdAt > :since " +
+                        "AND n.createdAt <= :until " +
+                        "AND NOT EXISTS (SELECT 1 FROM SmsLog s " +
+                        "    WHERE s.referenceType = n.referenceType " +
+                        "    AND s.referenceId = n.referenceId " +
+                        "    AND s.receiver = n.receiver " +
+                        "    AND s.status IN ('FAILED', 'DEAD') " +
+                        "    AND s.createdAt = (SELECT MAX(s2.createdAt) FROM SmsLog s2 " +
+                        "        WHERE s2.referenceType = n.referenceType " +
+                        "        AND s2.referenceId = n.referenceId " +
+                        "        AND s2.receiver = n.receiver))")
         List<Notification> findPendingSmsNotifications(
                         @Param("smsTypes") List<NotificationType> smsRequiredTypes,
-                        @Param("since") LocalDateTime since);
+                        @Param("since") LocalDateTime since,
+                        @Param("until") LocalDateTime until);
 
         // ========== 최근 알림 조회 (실시간 표시용) ==========
 
@@ -0,0 +1,51 @@
+package com.aicc.silverlink.domain.notification.service;
+
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.repository.UserRepository;
+import com.aicc.silverlink.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 관리자 알림 수신자(ADMIN 사용자 ID) 캐시
+ * 민원 등록 등 관리자 전체에게 보내는 알림마다 사용자 목록을 조회하지 않도록 ID만 보관
+ * - 관리자 등록/삭제(AdminServiceImpl) 시 커밋 후 비움
+ * - 그 밖의 역할 변경과 다른 인스턴스의 변경은 TTL 안에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminRecipientCache {
+
+    static final long TTL_MILLIS = 5 * 60_000;
+
+    private final UserRepository userRepository;
+
+    private volatile CachedIds cached;
+
+    record CachedIds(List<Long> ids, long loadedAt) {
+        boolean isFresh(long now) {
+            return now - loadedAt < TTL_MILLIS;
+        }
+    }
+
+    public List<Long> getAdminUserIds() {
+        long now = System.currentTimeMillis();
+        CachedIds current = cached;
+        if (current != null && current.isFresh(now)) {
+            return current.ids();
+        }
+
+        List<Long> ids = List.copyOf(userRepository.findIdsByRole(Role.ADMIN));
+        cached = new CachedIds(ids, now);
+        return ids;
+    }
+
+    /**
+     * 관리자 등록/삭제
+     */
+    public void evict() {
+        TransactionUtils.afterCommit(() -> cached = null);
+    }
+}
@@ -222,20 +222,27 @@ public class NotificationService {
     }
 
     /**
-     * 새 민원 알림 (관리자에게)
+     * 새 민원 알림 (관리자 전체에게, 일괄 저장)
+     * 수신자는 ID 참조로만 연결하고 한 번에 저장 (hibernate batch insert)
      */
     @Transactional
-    public Notification createComplaintNewNotification(Long adminUserId, Long complaintId, String writerName,
-            String complaintTitle) {
-        User receiver = findUserById(adminUserId);
+    public List<Notification> createComplaintNewNotifications(List<Long> adminUserIds, Long complaintId,
+            String writerName, String complaintTitle) {
+        if (adminUserIds.isEmpty()) {
+            return List.of();
+        }
 
-        Notification notification = Notification.createComplaintNewNotification(receiver, complaintId, writerName,
-                complaintTitle);
-        Notification saved = notificationRepository.save(notification);
+        List<Notification> notifications = adminUserIds.stream()
+                .map(adminUserId -> Notification.createComplaintNewNotification(
+                        userRepository.getReferenceById(adminUserId), complaintId, writerName, complaintTitle))
+                .collect(Collectors.toList());
+        List<Notification> saved = notificationRepository.saveAll(notifications);
 
-        sendRealtimeNotification(adminUserId, saved);
+        for (int i = 0; i < saved.size(); i++) {
+            sendRealtimeNotification(adminUserIds.get(i), saved.get(i));
+        }
 
-        log.info("[NotificationService] 새 민원 알림 생성. adminId={}, complaintId={}", adminUserId, complaintId);
+        log.info("[NotificationService] 새 민원 알림 생성. complaintId={}, 발송 수={}", complaintId, saved.size());
         return saved;
     }
 
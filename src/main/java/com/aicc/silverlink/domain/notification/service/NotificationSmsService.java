@@ -2,23 +2,32 @@ package com.aicc.silverlink.domain.notification.service;
 
 import com.aicc.silverlink.domain.emergency.entity.SmsLog;
 import com.aicc.silverlink.domain.emergency.entity.SmsLog.MessageType;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog.SmsStatus;
 import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
-import com.aicc.silverlink.global.config.twilio.TwilioProperties;
-import com.twilio.Twilio;
-import com.twilio.rest.api.v2010.account.Message;
-import com.twilio.type.PhoneNumber;
+import com.aicc.silverlink.domain.emergency.service.SmsOutboxService;
+import com.aicc.silverlink.domain.notification.entity.Notification;
+import com.aicc.silverlink.domain.notification.entity.Notification.NotificationType;
+import com.aicc.silverlink.domain.notification.repository.NotificationRepository;
+import com.aicc.silverlink.global.config.async.AsyncConfig;
 import com.aicc.silverlink.domain.user.entity.User;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 일반 알림 SMS 서비스
  *
  * 문의 답변, 민원 답변, 접근권한 승인/거절 등의 SMS 발송
+ * 일반 SMS 전용 풀에서 실행되며, 실제 발송은 아웃박스(SmsOutboxService)가 처리 속도에 맞춰 수행
  */
 @Slf4j
 @Service
@@ -26,30 +35,35 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationSmsService {
 
     private final SmsLogRepository smsLogRepository;
-    private final TwilioProperties twilioProperties;
+    private final NotificationRepository notificationRepository;
+    private final SmsOutboxService smsOutboxService;
 
-    @PostConstruct
-    public void init() {
-        if (twilioProperties.getAccountSid() != null && twilioProperties.getAuthToken() != null) {
-            Twilio.init(twilioProperties.getAccountSid(), twilioProperties.getAuthToken());
-            log.info("[NotificationSmsService] Twilio 초기화 완료");
-        }
-    }
+    /**
+     * 아웃박스 보정 대상 알림 유형 (이 서비스가 SMS를 발송하는 유형)
+     */
+    private static final List<NotificationType> SMS_NOTIFICATION_TYPES = List.of(
+            NotificationType.INQUIRY_REPLY,
+            NotificationType.COMPLAINT_REPLY,
+            NotificationType.ACCESS_APPROVED,
+            NotificationType.ACCESS_REJECTED);
+
+    // 비동기 발송이 아직 아웃박스에 기록하지 못했을 수 있는 최근 알림은 보정에서 제외
+    private static final long RECONCILE_GRACE_MINUTES = 5;
+    private static final long RECONCILE_WINDOW_HOURS = 24;
 
     // ========== 문의 답변 SMS ==========
 
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendInquiryReplySmsAsync(User receiver, Long inquiryId) {
-        String phone = receiver.getPhone();
-        if (phone == null || phone.isBlank()) {
+        if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
             log.warn("[SMS] 수신자 전화번호 없음. userId={}", receiver.getId());
             return;
         }
+        String phone = formatPhoneNumber(receiver.getPhone());
 
         // 중복 발송 방지
         if (smsLogRepository.existsRecentSms(phone, MessageType.INQUIRY_REPLY, inquiryId,
-                java.time.LocalDateTime.now().minusMinutes(5))) {
+                LocalDateTime.now().minusMinutes(5))) {
             log.info("[SMS] 최근 동일 SMS 발송 이력 있음. 스킵. inquiryId={}", inquiryId);
             return;
         }
@@ -62,22 +76,21 @@ public class NotificationSmsService {
         SmsLog smsLog = SmsLog.createForInquiryReply(receiver, phone, inquiryId, message, shortUrl);
         smsLogRepository.save(smsLog);
 
-        sendSms(smsLog, phone, message);
+        smsOutboxService.dispatch(smsLog);
     }
 
     // ========== 민원 답변 SMS ==========
 
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendComplaintReplySmsAsync(User receiver, Long complaintId) {
-        String phone = receiver.getPhone();
-        if (phone == null || phone.isBlank()) {
+        if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
             log.warn("[SMS] 수신자 전화번호 없음. userId={}", receiver.getId());
             return;
         }
+        String phone = formatPhoneNumber(receiver.getPhone());
 
         if (smsLogRepository.existsRecentSms(phone, MessageType.COMPLAINT_REPLY, complaintId,
-                java.time.LocalDateTime.now().minusMinutes(5))) {
+                LocalDateTime.now().minusMinutes(5))) {
             log.info("[SMS] 최근 동일 SMS 발송 이력 있음. 스킵. complaintId={}", complaintId);
             return;
         }
@@ -90,22 +103,21 @@ public class NotificationSmsService {
         SmsLog smsLog = SmsLog.createForComplaintReply(receiver, phone, complaintId, message, shortUrl);
         smsLogRepository.save(smsLog);
 
-        sendSms(smsLog, phone, message);
+        smsOutboxService.dispatch(smsLog);
     }
 
     // ========== 접근권한 승인 SMS ==========
 
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendAccessApprovedSmsAsync(User receiver, Long requestId, String elderlyName) {
-        String phone = receiver.getPhone();
-        if (phone == null || phone.isBlank()) {
+        if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
             log.warn("[SMS] 수신자 전화번호 없음. userId={}", receiver.getId());
             return;
         }
+        String phone = formatPhoneNumber(receiver.getPhone());
 
         if (smsLogRepository.existsRecentSms(phone, MessageType.ACCESS_APPROVED, requestId,
-                java.time.LocalDateTime.now().minusMinutes(5))) {
+                LocalDateTime.now().minusMinutes(5))) {
             log.info("[SMS] 최근 동일 SMS 발송 이력 있음. 스킵. requestId={}", requestId);
             return;
         }
@@ -119,22 +131,21 @@ public class NotificationSmsService {
                 receiver, phone, true, requestId, message, shortUrl);
         smsLogRepository.save(smsLog);
 
-        sendSms(smsLog, phone, message);
+        smsOutboxService.dispatch(smsLog);
     }
 
     // ========== 접근권한 거절 SMS ==========
 
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ROUTINE_SMS_EXECUTOR)
     public void sendAccessRejectedSmsAsync(User receiver, Long requestId, String elderlyName, String reason) {
-        String phone = receiver.getPhone();
-        if (phone == null || phone.isBlank()) {
+        if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
             log.warn("[SMS] 수신자 전화번호 없음. userId={}", receiver.getId());
             return;
         }
+        String phone = formatPhoneNumber(receiver.getPhone());
 
         if (smsLogRepository.existsRecentSms(phone, MessageType.ACCESS_REJECTED, requestId,
-                java.time.LocalDateTime.now().minusMinutes(5))) {
+                LocalDateTime.now().minusMinutes(5))) {
             log.info("[SMS] 최근 동일 SMS 발송 이력 있음. 스킵. requestId={}", requestId);
             return;
         }
@@ -152,44 +163,128 @@ public class NotificationSmsService {
                 receiver, phone, false, requestId, message, shortUrl);
         smsLogRepository.save(smsLog);
 
-        sendSms(smsLog, phone, message);
+        smsOutboxService.dispatch(smsLog);
     }
 
-    // ========== 공통 메서드 ==========
+    // ========== 아웃박스 보정 ==========
 
     /**
-     * SMS 발송 (Twilio)
+     * SMS 필요 알림과 아웃박스 동기화
+     * - 발송 완료된 SMS가 있으면 알림에 발송 완료 표시
+     * - SMS 이력이 아예 없으면(비동기 풀 거절, 장애 등) 아웃박스에 다시 적재
+     * - 대기 중인 SMS는 아웃박스 재시도에 맡김 (마지막 SMS가 FAILED/DEAD인 알림은 조회 단계에서 제외)
+     * 대상 알림의 SMS 이력은 한 번의 IN 조회로 가져옴
      */
-    private void sendSms(SmsLog smsLog, String phone, String messageContent) {
-        // SMS 비활성화 상태면 로그만 기록
-        if (!isSmsEnabled()) {
-            log.info("[SMS] SMS 비활성화 상태. 로그만 기록. phone={}", maskPhone(phone));
-            smsLog.markSent("DISABLED_MODE");
-            smsLogRepository.save(smsLog);
+    @Transactional
+    public void reconcilePendingNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> pending = notificationRepository.findPendingSmsNotifications(
+                SMS_NOTIFICATION_TYPES, now.minusHours(RECONCILE_WINDOW_HOURS),
+                now.minusMinutes(RECONCILE_GRACE_MINUTES));
+        if (pending.isEmpty()) {
             return;
         }
 
-        try {
-            String formattedPhone = formatPhoneNumber(phone);
+        Map<SmsReference, SmsLog> latestByReference = findLatestSmsLogs(pending);
+
+        int marked = 0;
+        int enqueued = 0;
+        for (Notification notification : pending) {
+            User receiver = notification.getReceiver();
+            SmsLog existing = latestByReference.get(SmsReference.of(notification));
+
+            if (existing == null) {
+                if (enqueueForNotification(notification, receiver)) {
+                    enqueued++;
+                }
+            } else if (existing.getStatus() == SmsStatus.SENT || existing.getStatus() == SmsStatus.DELIVERED) {
+                notification.markSmsSent();
+                marked++;
+            }
+        }
+
+        if (marked > 0 || enqueued > 0) {
+            log.info("[NotificationSmsService] 알림 SMS 보정 완료. markedSent={}, enqueued={}", marked, enqueued);
+        }
+    }
+
+    /**
+     * 알림별 (참조, 수신자) 최신 SMS 로그
+     */
+    private Map<SmsReference, SmsLog> findLatestSmsLogs(List<Notification> notifications) {
+        Set<String> referenceTypes = new HashSet<>();
+        Set<Long> referenceIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            referenceTypes.add(notification.getReferenceType());
+            referenceIds.add(notification.getReferenceId());
+        }
+
+        // 최신순으로 조회되므로 키별 첫 건이 최신
+        Map<SmsReference, SmsLog> latest = new HashMap<>();
+        for (SmsLog smsLog : smsLogRepository.findByReferencesOrderByCreatedAtDesc(referenceTypes, referenceIds)) {
+            if (smsLog.getReceiver() != null) {
+                latest.putIfAbsent(SmsReference.of(smsLog), smsLog);
+            }
+        }
+        return latest;
+    }
 
-            // Twilio Messaging Service를 사용하여 SMS 발송
-            Message message = Message.creator(
-                    new PhoneNumber(formattedPhone),
-                    getMessagingServiceSid(),
-                    messageContent).create();
+    private record SmsReference(String referenceType, Long referenceId, Long receiverId) {
 
-            smsLog.markSent(message.getSid());
-            smsLogRepository.save(smsLog);
+        static SmsReference of(Notification notification) {
+            return new SmsReference(notification.getReferenceType(), notification.getReferenceId(),
+                    notification.getReceiver().getId());
+        }
 
-            log.info("[SMS] 발송 성공. sid={}, phone={}", message.getSid(), maskPhone(phone));
+        static SmsReference of(SmsLog smsLog) {
+            return new SmsReference(smsLog.getReferenceType(), smsLog.getReferenceId(),
+                    smsLog.getReceiver().getId());
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("[SMS] 발송 실패. phone={}, error={}", maskPhone(phone), e.getMessage(), e);
-            smsLog.markFailed(e.getMessage());
-            smsLogRepository.save(smsLog);
+    /**
+     * 알림 내용으로 SMS 아웃박스 적재 (발송은 아웃박스 워커가 수행)
+     */
+    private boolean enqueueForNotification(Notification notification, User receiver) {
+        if (receiver.getPhone() == null || receiver.getPhone().isBlank()) {
+            return false;
+        }
+        String phone = formatPhoneNumber(receiver.getPhone());
+        Long referenceId = notification.getReferenceId();
+
+        SmsLog smsLog = switch (notification.getNotificationType()) {
+            case INQUIRY_REPLY -> {
+                String shortUrl = buildShortUrl("guardian", "inquiry");
+                yield SmsLog.createForInquiryReply(receiver, phone, referenceId,
+                        buildReconcileMessage(notification, shortUrl), shortUrl);
+            }
+            case COMPLAINT_REPLY -> {
+                String shortUrl = buildShortUrl("guardian", "complaint");
+                yield SmsLog.createForComplaintReply(receiver, phone, referenceId,
+                        buildReconcileMessage(notification, shortUrl), shortUrl);
+            }
+            case ACCESS_APPROVED, ACCESS_REJECTED -> {
+                String shortUrl = buildShortUrl("guardian", "sensitive-info");
+                yield SmsLog.createForAccessRequest(receiver, phone,
+                        notification.getNotificationType() == NotificationType.ACCESS_APPROVED,
+                        referenceId, buildReconcileMessage(notification, shortUrl), shortUrl);
+            }
+            default -> null;
+        };
+
+        if (smsLog == null) {
+            return false;
         }
+        smsLogRepository.save(smsLog);
+        return true;
+    }
+
+    private String buildReconcileMessage(Notification notification, String shortUrl) {
+        return String.format("[실버링크]\n%s\n확인: %s", notification.getTitle(), shortUrl);
     }
 
+    // ========== 공통 메서드 ==========
+
     /**
      * 전화번호 E.164 형식 변환
      */
@@ -220,30 +315,4 @@ public class NotificationSmsService {
         }
         return String.format("%s/%s", baseUrl, role);
     }
-
-    /**
-     * 전화번호 마스킹 (로깅용)
-     */
-    private String maskPhone(String phone) {
-        if (phone == null || phone.length() < 4)
-            return "****";
-        return phone.substring(0, phone.length() - 4) + "****";
-    }
-
-    /**
-     * SMS 활성화 여부
-     */
-    private boolean isSmsEnabled() {
-        // TwilioProperties에 smsEnabled 필드 추가 필요
-        // 기본값은 false (개발 환경에서는 실제 발송하지 않음)
-        return twilioProperties.getAccountSid() != null
-                && !twilioProperties.getAccountSid().isBlank();
-    }
-
-    /**
-     * Messaging Service SID
-     */
-    private String getMessagingServiceSid() {
-        return twilioProperties.getMessagingServiceSid();
-    }
 }
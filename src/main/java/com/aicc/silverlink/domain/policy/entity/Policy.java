@@ -1,8 +1,11 @@
 package com.aicc.silverlink.domain.policy.entity;
 
 import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,6 +13,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POLICY)
 @Table(name = "policies", indexes = {
         @Index(name = "idx_policy_key", columnList = "policy_key")
 })
@@ -2,7 +2,10 @@ package com.aicc.silverlink.domain.policy.repository;
 
 import com.aicc.silverlink.domain.policy.entity.Policy;
 import com.aicc.silverlink.domain.policy.entity.PolicyType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +22,7 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
      * 사용 예:
      * repo.findFirstByPolicyTypeOrderByCreatedAtDesc(PolicyType.TERMS_OF_SERVICE);
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Policy> findFirstByPolicyTypeOrderByCreatedAtDesc(PolicyType policyType);
 
     /**
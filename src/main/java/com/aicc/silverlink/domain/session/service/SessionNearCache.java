@@ -0,0 +1,113 @@
+package com.aicc.silverlink.domain.session.service;
+
+import com.aicc.silverlink.global.config.auth.AuthPolicyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 유효성 near-cache (인스턴스 로컬)
+ * sid → (userId, 유효 여부, lastSeen)을 짧게 보관해 요청마다의 Redis 조회를 줄임.
+ * - 강제 종료는 Redis pub/sub(session:invalidated)으로 모든 인스턴스에 즉시 전파
+ * - 메시지 유실에 대비해 sessionCacheStalenessSeconds가 지난 항목은 다시 Redis로 확인
+ * - 무효 판정은 되돌릴 수 없으므로(sid는 재사용되지 않음) 무효 항목도 함께 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "session:invalidated";
+
+    private final AuthPolicyProperties props;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidationsReceived = new AtomicLong();
+
+    private record Entry(Long userId, boolean valid, long lastSeen, long verifiedAt) {
+    }
+
+    public record Stats(long hits, long misses, double hitRatio, long invalidationsReceived, int size,
+            long stalenessSeconds) {
+    }
+
+    /**
+     * 로컬 판정
+     *
+     * @param renewInterval 이 시간(초) 안에 연장된 세션만 로컬에서 통과 (연장 필요 시 Redis로)
+     * @return TRUE/FALSE = 로컬에서 판정, null = Redis 확인 필요
+     */
+    public Boolean lookup(String sid, Long userId, long nowEpoch, long renewInterval) {
+        Entry entry = entries.get(sid);
+        if (entry != null && nowEpoch - entry.verifiedAt() < stalenessSeconds()) {
+            if (!entry.valid()) {
+                hits.incrementAndGet();
+                return Boolean.FALSE;
+            }
+            if (entry.userId().equals(userId) && nowEpoch - entry.lastSeen() < renewInterval) {
+                hits.incrementAndGet();
+                return Boolean.TRUE;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void putValid(String sid, Long userId, long lastSeen, long nowEpoch) {
+        if (stalenessSeconds() <= 0)
+            return;
+        evictIfFull(nowEpoch);
+        entries.put(sid, new Entry(userId, true, lastSeen, nowEpoch));
+    }
+
+    public void putInvalid(String sid, long nowEpoch) {
+        if (stalenessSeconds() <= 0)
+            return;
+        evictIfFull(nowEpoch);
+        entries.put(sid, new Entry(null, false, 0L, nowEpoch));
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 세션 무효화 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sid = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidationsReceived.incrementAndGet();
+        putInvalid(sid, System.currentTimeMillis() / 1000);
+        log.debug("[SessionNearCache] 세션 무효화 수신. sid={}", sid);
+    }
+
+    public Stats getStats() {
+        long h = hits.get();
+        long m = misses.get();
+        double ratio = h + m == 0 ? 0.0 : (double) h / (h + m);
+        return new Stats(h, m, ratio, invalidationsReceived.get(), entries.size(), stalenessSeconds());
+    }
+
+    private long stalenessSeconds() {
+        Long staleness = props.getSessionCacheStalenessSeconds();
+        return staleness == null ? 0 : staleness;
+    }
+
+    private void evictIfFull(long nowEpoch) {
+        Integer max = props.getSessionCacheMaxEntries();
+        if (max != null && entries.size() >= max) {
+            long staleness = stalenessSeconds();
+            entries.values().removeIf(e -> nowEpoch - e.verifiedAt() >= staleness);
+            if (entries.size() >= max) {
+                entries.clear();
+            }
+        }
+    }
+}
@@ -5,11 +5,14 @@ import com.aicc.silverlink.global.config.auth.AuthPolicyProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // 로깅 추가 권장
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -21,6 +24,30 @@ public class SessionService {
 
     private final StringRedisTemplate redis;
     private final AuthPolicyProperties props;
+    private final SessionNearCache nearCache;
+
+    /**
+     * 세션 검증 + idle 연장을 한 번의 왕복으로 처리하는 스크립트
+     * KEYS[1]=sess:{sid}, KEYS[2]=user:{userId}:sid
+     * ARGV[1]=sid, ARGV[2]=now(epoch), ARGV[3]=idleTtlSeconds, ARGV[4]=연장 기준 시각(이 시각 이전 lastSeen만 연장)
+     * 반환: 0=만료 또는 다른 세션으로 대체됨, 그 외=연장 후 lastSeen(epoch)
+     */
+    private static final RedisScript<Long> VALIDATE_AND_TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            local lastSeen = tonumber(redis.call('HGET', KEYS[1], 'lastSeen') or '0')
+            if lastSeen <= tonumber(ARGV[4]) then
+                redis.call('HSET', KEYS[1], 'lastSeen', ARGV[2])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                lastSeen = tonumber(ARGV[2])
+            end
+            return lastSeen
+            """, Long.class);
 
     private static String userSidKey(Long userId) {
         return "user:" + userId + ":sid";
@@ -105,6 +132,47 @@ public class SessionService {
         }
     }
 
+    /**
+     * 요청마다 호출되는 세션 검증 + idle 연장
+     * - near-cache가 최근 확인한 세션은 Redis 없이 판정 (강제 종료는 pub/sub으로 즉시 반영)
+     * - 그 외에는 스크립트 1회로 검증하고, 저장된 lastSeen이 연장 주기(idleTtl x touchRenewRatio)보다
+     *   오래된 경우에만 TTL 연장
+     */
+    public boolean validateAndTouch(String sid, Long userId) {
+        if (sid == null || userId == null)
+            return false;
+
+        long now = Instant.now().getEpochSecond();
+        long renewInterval = renewIntervalSeconds();
+
+        Boolean cached = nearCache.lookup(sid, userId, now, renewInterval);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long lastSeen = redis.execute(
+                VALIDATE_AND_TOUCH_SCRIPT,
+                List.of(sessKey(sid), userSidKey(userId)),
+                sid,
+                String.valueOf(now),
+                String.valueOf(props.getIdleTtlSeconds()),
+                String.valueOf(now - renewInterval));
+
+        if (lastSeen == null || lastSeen == 0L) {
+            nearCache.putInvalid(sid, now);
+            return false;
+        }
+        nearCache.putValid(sid, userId, lastSeen, now);
+        return true;
+    }
+
+    private long renewIntervalSeconds() {
+        Double ratio = props.getTouchRenewRatio();
+        if (ratio == null || ratio <= 0)
+            return 0;
+        return (long) (props.getIdleTtlSeconds() * Math.min(ratio, 1.0));
+    }
+
     public boolean isActive(String sid, Long userId) {
         if (sid == null)
             return false;
@@ -154,6 +222,10 @@ public class SessionService {
         if (userId != null) {
             redis.delete(userSidKey(Long.valueOf(userId)));
         }
+
+        // 로컬 near-cache 즉시 반영 후 다른 인스턴스에 전파
+        nearCache.putInvalid(sid, Instant.now().getEpochSecond());
+        redis.convertAndSend(SessionNearCache.INVALIDATION_CHANNEL, sid);
     }
 
     /**
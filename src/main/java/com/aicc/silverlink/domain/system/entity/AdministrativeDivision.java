@@ -1,16 +1,24 @@
 package com.aicc.silverlink.domain.system.entity;
 
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "administrative_division")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ADMINISTRATIVE_DIVISION)
+@Table(name = "administrative_division",
+        indexes = {
+                @Index(name = "idx_adm_region", columnList = "sido_code, sigungu_code, dong_code")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AdministrativeDivision {
@@ -89,6 +97,13 @@ public class AdministrativeDivision {
     }
 
     public String getFullAddress() {
+        return fullAddress(sidoName, sigunguName, dongName);
+    }
+
+    /**
+     * 프로젝션 조회 결과 등 엔티티 없이 주소 문자열을 만들 때 사용
+     */
+    public static String fullAddress(String sidoName, String sigunguName, String dongName) {
         StringBuilder sb = new StringBuilder();
         if (sidoName != null) sb.append(sidoName);
         if (sigunguName != null) sb.append(" ").append(sigunguName);
@@ -2,8 +2,11 @@ package com.aicc.silverlink.domain.system.repository;
 
 import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
 import com.aicc.silverlink.domain.system.entity.AdministrativeDivision.DivisionLevel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -13,12 +16,14 @@ public interface AdministrativeDivisionRepository extends JpaRepository<Administ
     /**
      * 시/도 목록 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT a FROM AdministrativeDivision a WHERE a.level = 'SIDO' AND a.isActive = true ORDER BY a.sidoCode")
     List<AdministrativeDivision> findAllSido();
 
     /**
      * 특정 시/도의 시/군/구 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT a FROM AdministrativeDivision a
             WHERE a.level = 'SIGUNGU'
@@ -31,6 +36,7 @@ public interface AdministrativeDivisionRepository extends JpaRepository<Administ
     /**
      * 특정 시/군/구의 읍/면/동 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT a FROM AdministrativeDivision a
             WHERE a.level = 'DONG'
@@ -46,6 +52,7 @@ public interface AdministrativeDivisionRepository extends JpaRepository<Administ
     /**
      * 시도코드와 시군구코드로 첫 번째 매칭 조회 (법정동 코드 매핑용)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT a FROM AdministrativeDivision a
             WHERE a.sidoCode = :sidoCode
@@ -60,6 +67,7 @@ public interface AdministrativeDivisionRepository extends JpaRepository<Administ
     /**
      * 기본 행정구역 조회 (fallback용)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT a FROM AdministrativeDivision a WHERE a.isActive = true ORDER BY a.admCode LIMIT 1")
     java.util.Optional<AdministrativeDivision> findAnyActive();
 }
\ No newline at end of file
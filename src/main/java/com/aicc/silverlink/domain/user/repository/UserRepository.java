@@ -6,6 +6,8 @@ import com.aicc.silverlink.domain.user.entity.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,5 +28,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findByRoleAndStatus(Role role, UserStatus status, Pageable pageable);
 
-    List<User> findByRoleIn(List<Role> roles);
+    /**
+     * 역할별 사용자 ID (관리자 알림 수신자 캐시용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.role = :role")
+    List<Long> findIdsByRole(@Param("role") Role role);
 }
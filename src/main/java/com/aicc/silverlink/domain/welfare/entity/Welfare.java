@@ -1,11 +1,16 @@
 package com.aicc.silverlink.domain.welfare.entity;
 
+import com.aicc.silverlink.global.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WELFARE)
 @Table(name = "welfare_services") // SQL의 테이블명과 일치
 @Getter
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
@@ -6,11 +6,14 @@ public record CursorRequest(
 ) {
     public static final Long NONE_KEY = -1L;
 
+    public static final int MAX_SIZE = 100;
+
     public CursorRequest {
         if (size == null) size = 10; // 기본 사이즈 설정
+        size = Math.max(1, Math.min(size, MAX_SIZE));
     }
 
     public boolean hasKey() {
         return key != null && !key.equals(NONE_KEY);
     }
-}
\ No newline at end of file
+}
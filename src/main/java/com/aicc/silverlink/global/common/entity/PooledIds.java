@@ -0,0 +1,23 @@
+package com.aicc.silverlink.global.common.entity;
+
+/**
+ * 대량 INSERT 엔티티용 ID 생성 설정 (테이블 기반 pooled 생성기)
+ * IDENTITY 전략은 INSERT 직후 키를 받아야 해서 Hibernate가 JDBC 배치를 끄므로,
+ * MySQL/H2 모두에서 동작하는 id_generators 테이블에서 ALLOCATION_SIZE 단위로 ID를 미리 할당받아 사용
+ *
+ * 사용 예:
+ * @GeneratedValue(strategy = GenerationType.TABLE, generator = "sms_logs")
+ * @TableGenerator(name = "sms_logs", table = PooledIds.TABLE, pkColumnName = PooledIds.PK_COLUMN,
+ *         valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "sms_logs", allocationSize = PooledIds.ALLOCATION_SIZE)
+ * 세그먼트 목록은 PooledIdSeeder가 엔티티 매핑에서 읽으므로, 엔티티는 @Table/@Column 이름을 명시해야 함
+ */
+public final class PooledIds {
+
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.aicc.silverlink.global.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 목록 응답
+ * 전체 건수(COUNT)는 계산하지 않고, 다음 요청에 넘길 key만 제공
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        Long nextKey,  // 다음 페이지 요청 시 CursorRequest.key로 전달 (마지막 페이지면 null)
+        int size,
+        boolean hasNext
+) {
+    /**
+     * size + 1건을 조회한 결과로부터 응답 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> keyExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextKey = hasNext ? keyExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, nextKey, content.size(), hasNext);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return new CursorResponse<>(content.stream().map(mapper).toList(), nextKey, size, hasNext);
+    }
+}
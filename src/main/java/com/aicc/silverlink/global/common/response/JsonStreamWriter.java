@@ -0,0 +1,67 @@
+package com.aicc.silverlink.global.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * DB 커서(Stream)를 읽는 대로 바로 JSON으로 내보내는 공통 출력기
+ * 전체 목록을 메모리에 올리지 않으며, NDJSON(한 줄에 한 건) 또는 JSON 배열로 출력
+ * (챗봇 증분 동기화 피드, 관리자 어르신 내보내기)
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 전송한 행 수
+     */
+    public <R, T> int write(OutputStream out, Stream<R> rows, Function<R, T> mapper, Format format)
+            throws IOException {
+        int count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (format == Format.JSON) {
+                generator.writeStartArray();
+            }
+            Iterator<R> it = rows.iterator();
+            while (it.hasNext()) {
+                objectMapper.writeValue(generator, mapper.apply(it.next()));
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                count++;
+            }
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+            }
+        }
+        return count;
+    }
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.aicc.silverlink.global.config;
 
+import com.aicc.silverlink.global.config.datasource.ReplicaRoutingConfig;
+import com.aicc.silverlink.global.config.sql.SqlStatsListener;
 import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
 import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -14,6 +16,10 @@ public class DataSourceProxyConfig implements BeanPostProcessor {
 
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // replica 라우팅 사용 시 내부 DataSource는 감싸지 않음 (최상위 dataSource에서 한 번만 기록)
+        if (ReplicaRoutingConfig.ROUTED_MEMBERS.contains(beanName)) {
+            return bean;
+        }
         if (bean instanceof DataSource && !(bean instanceof net.ttddyy.dsproxy.support.ProxyDataSource)) {
             // DataSource가 초기화된 후 프록시로 감싸서 반환함
             return ProxyDataSourceBuilder.create((DataSource) bean)
@@ -21,6 +27,7 @@ public class DataSourceProxyConfig implements BeanPostProcessor {
                     .logQueryBySlf4j(SLF4JLogLevel.INFO) // 로그 레벨 설정
                     .multiline() // 예쁘게 여러 줄로 출력
                     .countQuery() // 쿼리 카운트 기능 활성화
+                    .listener(new SqlStatsListener()) // 요청별 SQL 예산/N+1 집계 (SqlBudgetInterceptor)
                     .build();
         }
         return bean;
@@ -1,7 +1,115 @@
 package com.aicc.silverlink.global.config.async;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정
+ * - 긴급 알림 SMS와 일반 SMS를 서로 다른 bounded 풀로 분리하여
+ *   Twilio 지연이 요청 스레드·DB 커넥션·긴급 발송을 붙잡지 않도록 함
+ * - 긴급 SMS: 큐가 가득 차면 즉시 거절. 발송 행(sms_logs PENDING)은 알림 트랜잭션에서 이미 저장되어 있으므로
+ *   거절된 건은 아웃박스 워커가 이어서 발송 (커밋 후 리스너의 요청 스레드에서 Twilio를 호출하지 않음)
+ * - 일반 SMS: 큐가 가득 차면 폐기 후 로그·유실 건수 집계 (best-effort, 알림 SMS 보정 작업이 다시 채움)
+ * - 비밀번호 해시: 큐가 가득 차면 즉시 거절 (로그인 폭주가 CPU를 독점하지 않도록)
+ */
+@Slf4j
+@EnableAsync
 @Configuration
-public class AsyncConfig {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String EMERGENCY_SMS_EXECUTOR = "emergencySmsExecutor";
+    public static final String EMERGENCY_SMS_SEND_EXECUTOR = "emergencySmsSendExecutor";
+    public static final String ROUTINE_SMS_EXECUTOR = "routineSmsExecutor";
+    public static final String SMS_OUTBOX_EXECUTOR = "smsOutboxExecutor";
+    public static final String GENERAL_EXECUTOR = "generalTaskExecutor";
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+
+    private final AsyncExecutorProperties properties;
+
+    @Bean(name = EMERGENCY_SMS_EXECUTOR)
+    public ThreadPoolTaskExecutor emergencySmsExecutor() {
+        return buildExecutor(EMERGENCY_SMS_EXECUTOR, "sms-emergency-", properties.getEmergencySms(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 긴급 SMS 팬아웃 시 수신자별 발송을 병렬로 처리하는 풀 (최대 스레드 수 = 동시 발송 상한)
+     * 팬아웃 작업 자체는 긴급 풀에서 돌기 때문에 같은 풀에 하위 작업을 넣어 서로 기다리지 않도록 분리
+     * 포화 시 거절된 수신자 건은 PENDING으로 남아 아웃박스 워커가 발송
+     */
+    @Bean(name = EMERGENCY_SMS_SEND_EXECUTOR)
+    public ThreadPoolTaskExecutor emergencySmsSendExecutor() {
+        return buildExecutor(EMERGENCY_SMS_SEND_EXECUTOR, "sms-emergency-send-", properties.getEmergencySmsSend(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = ROUTINE_SMS_EXECUTOR)
+    public ThreadPoolTaskExecutor routineSmsExecutor() {
+        return buildExecutor(ROUTINE_SMS_EXECUTOR, "sms-routine-", properties.getRoutineSms(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 아웃박스 워커가 점유한 일반 SMS 발송 풀 (긴급 건은 긴급 발송 풀 사용)
+     * 점유한 행이 조용히 버려지지 않도록 즉시 거절하고, 워커가 토큰과 점유를 되돌림
+     */
+    @Bean(name = SMS_OUTBOX_EXECUTOR)
+    public ThreadPoolTaskExecutor smsOutboxExecutor() {
+        return buildExecutor(SMS_OUTBOX_EXECUTOR, "sms-outbox-", properties.getSmsOutbox(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = GENERAL_EXECUTOR)
+    public ThreadPoolTaskExecutor generalTaskExecutor() {
+        return buildExecutor(GENERAL_EXECUTOR, "async-", properties.getGeneral(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * BCrypt 계산 전용 풀 (BoundedPasswordEncoder가 사용)
+     */
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        return buildExecutor(PASSWORD_HASH_EXECUTOR, "pw-hash-", properties.getPasswordHash(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 실행기를 지정하지 않은 @Async 메서드의 기본 실행기
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return generalTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("[Async] {}.{} 실행 중 예외: {}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String name, String threadPrefix,
+            AsyncExecutorProperties.Pool pool, RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadPrefix);
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(name, rejectionPolicy));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,79 @@
+package com.aicc.silverlink.global.config.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 실행기(스레드 풀) 설정 프로퍼티
+ *
+ * application.yml 예시:
+ * <pre>
+ * async:
+ *   emergency-sms:
+ *     core-pool-size: 4
+ *     max-pool-size: 16
+ *     queue-capacity: 500
+ *   routine-sms:
+ *     core-pool-size: 2
+ *     max-pool-size: 4
+ *     queue-capacity: 200
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+    /**
+     * 긴급 알림 SMS 전용 풀 (CRITICAL 알림은 유실되면 안 되므로 넉넉하게)
+     */
+    private Pool emergencySms = new Pool(4, 16, 500);
+
+    /**
+     * 긴급 SMS 팬아웃 병렬 발송 풀 (core = max 로 두어 동시 발송 수를 고정)
+     */
+    private Pool emergencySmsSend = new Pool(8, 8, 1000);
+
+    /**
+     * 일반 SMS(문의/민원/접근권한) 풀
+     */
+    private Pool routineSms = new Pool(2, 4, 200);
+
+    /**
+     * 아웃박스 워커의 일반 SMS 발송 풀 (큐는 워커 1회 조회 건수 이상)
+     */
+    private Pool smsOutbox = new Pool(2, 4, 100);
+
+    /**
+     * 그 외 @Async 작업(감사 로그 등) 기본 풀
+     */
+    private Pool general = new Pool(2, 8, 1000);
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 풀. 최대 스레드 수가 해시 계산에 쓰일 수 있는 코어 수의 상한
+     */
+    private Pool passwordHash = new Pool(2, 2, 64);
+
+    /**
+     * 비밀번호 해시 작업의 최대 대기 시간(ms). 초과하면 계산하지 않고 503으로 거절
+     */
+    private long passwordHashMaxWaitMillis = 2000;
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
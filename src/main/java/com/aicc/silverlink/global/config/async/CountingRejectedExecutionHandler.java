@@ -0,0 +1,53 @@
+package com.aicc.silverlink.global.config.async;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거절 횟수를 집계한 뒤 실제 거절 정책에 위임하는 핸들러
+ * 위임 정책이 작업을 버리는(Discard) 경우 유실 건수를 따로 집계하고 로그를 남김
+ */
+@Slf4j
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final String executorName;
+    private final RejectedExecutionHandler delegate;
+    private final boolean discarding;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public CountingRejectedExecutionHandler(String executorName, RejectedExecutionHandler delegate) {
+        this.executorName = executorName;
+        this.delegate = delegate;
+        this.discarding = delegate instanceof ThreadPoolExecutor.DiscardPolicy
+                || delegate instanceof ThreadPoolExecutor.DiscardOldestPolicy;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        long count = rejectedCount.incrementAndGet();
+        if (discarding) {
+            long dropped = droppedCount.incrementAndGet();
+            log.warn("[{}] 작업 폐기(유실). queueSize={}, active={}, droppedTotal={}",
+                    executorName, executor.getQueue().size(), executor.getActiveCount(), dropped);
+        } else {
+            log.warn("[{}] 작업 거절. queueSize={}, active={}, rejectedTotal={}",
+                    executorName, executor.getQueue().size(), executor.getActiveCount(), count);
+        }
+        delegate.rejectedExecution(task, executor);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 거절 후 호출자에게 알리지 않고 버려진 작업 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -0,0 +1,35 @@
+package com.aicc.silverlink.global.config.async;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 스레드 풀 상태 스냅샷 (관리자 메트릭 조회용)
+ */
+public record ExecutorStats(
+        String name,
+        int poolSize,
+        int activeCount,
+        int queueSize,
+        int queueRemainingCapacity,
+        long completedTaskCount,
+        long rejectedCount,
+        long droppedCount) {
+
+    public static ExecutorStats from(String name, ThreadPoolTaskExecutor executor) {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        CountingRejectedExecutionHandler counting =
+                pool.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler handler ? handler : null;
+
+        return new ExecutorStats(
+                name,
+                pool.getPoolSize(),
+                pool.getActiveCount(),
+                pool.getQueue().size(),
+                pool.getQueue().remainingCapacity(),
+                pool.getCompletedTaskCount(),
+                counting != null ? counting.getRejectedCount() : 0L,
+                counting != null ? counting.getDroppedCount() : 0L);
+    }
+}
@@ -16,6 +16,27 @@ public class AuthPolicyProperties {
     private Long idleTtlSeconds;
     private String concurrentPolicy;
 
+    /**
+     * 세션 idle 연장 주기 (idleTtlSeconds 대비 비율)
+     * lastSeen이 이 비율만큼 지나지 않았으면 연장(Redis 쓰기)을 건너뜀. 0이면 매 요청 연장
+     */
+    private Double touchRenewRatio = 0.1;
+
+    /**
+     * 세션 near-cache 최대 신뢰 시간(초). pub/sub 무효화 유실 시 허용하는 최대 지연. 0이면 near-cache 미사용
+     */
+    private Long sessionCacheStalenessSeconds = 30L;
+
+    /**
+     * 세션 near-cache 최대 항목 수
+     */
+    private Integer sessionCacheMaxEntries = 10_000;
+
+    /**
+     * 세션 무효화 pub/sub 구독 여부 (Redis가 없는 테스트 환경에서는 false)
+     */
+    private Boolean sessionCacheBroadcast = true;
+
     private String refreshCookieName;
     private String refreshCookiePath;
     private String refreshCookieSameSite;
@@ -0,0 +1,68 @@
+package com.aicc.silverlink.global.config.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인증 요청 속도 제한 설정 프로퍼티
+ * (휴대폰 인증번호 쿨다운/일일 한도는 security.auth.phone 설정을 사용)
+ *
+ * application.yml 예시:
+ * <pre>
+ * security:
+ *   rate-limit:
+ *     store: redis # redis | in-memory
+ *     trusted-proxies: 1
+ *     login:
+ *       limit: 10
+ *       window-seconds: 900
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 카운터 저장소 (redis: 다중 인스턴스 공유, in-memory: 단일 인스턴스/테스트용)
+     */
+    private String store = "redis";
+
+    /**
+     * 앱 앞단의 신뢰 프록시 수 (CloudFront, 로드밸런서 등)
+     * X-Forwarded-For 중 이 수만큼의 오른쪽 hop만 프록시가 추가한 값으로 보고 클라이언트 IP를 판별
+     * (0이면 헤더를 무시하고 직접 접속한 주소 사용)
+     */
+    private int trustedProxies = 0;
+
+    /**
+     * 로그인 시도 제한 (loginId 기준, 성공 시 초기화)
+     */
+    private Window login = new Window(10, 900);
+
+    /**
+     * 인증번호 확인 시도 제한 (IP 기준)
+     */
+    private Window otpVerify = new Window(20, 600);
+
+    /**
+     * Passkey 로그인 시도 제한 (IP 기준)
+     */
+    private Window passkey = new Window(30, 60);
+
+    @Getter
+    @Setter
+    public static class Window {
+        private int limit;
+        private long windowSeconds;
+
+        public Window() {
+        }
+
+        public Window(int limit, long windowSeconds) {
+            this.limit = limit;
+            this.windowSeconds = windowSeconds;
+        }
+    }
+}
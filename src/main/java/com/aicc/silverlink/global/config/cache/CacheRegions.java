@@ -0,0 +1,32 @@
+package com.aicc.silverlink.global.config.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역(region) 이름
+ * 엔티티의 @Cache(region = ...)와 ReferenceCacheProperties의 키가 같은 이름을 사용합니다.
+ */
+public final class CacheRegions {
+
+    public static final String ADMINISTRATIVE_DIVISION = "reference.administrative-division";
+    public static final String FAQ = "reference.faq";
+    public static final String POLICY = "reference.policy";
+    public static final String WELFARE = "reference.welfare";
+    public static final String WELFARE_FACILITY = "reference.welfare-facility";
+    public static final String NOTICE_TARGET_ROLE = "reference.notice-target-role";
+
+    /** 엔티티 영역 (엔티티 캐시) */
+    public static final List<String> ENTITY_REGIONS = List.of(
+            ADMINISTRATIVE_DIVISION, FAQ, POLICY, WELFARE, WELFARE_FACILITY, NOTICE_TARGET_ROLE);
+
+    /** 쿼리 결과 캐시 영역 (Hibernate 기본 이름) */
+    public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /** 테이블별 마지막 변경 시각 영역 (쿼리 캐시 무효화용, Hibernate 기본 이름) */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,72 @@
+package com.aicc.silverlink.global.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 참조성 엔티티(행정구역, FAQ, 약관, 복지서비스, 복지시설, 공지 대상 역할)용 Hibernate 2차 캐시
+ *
+ * - JCache(Caffeine) 로컬 캐시, 영역마다 최대 건수·TTL 제한
+ * - 엔티티 변경(관리자 수정/삭제, JPQL 벌크 갱신)은 Hibernate가 해당 영역을 자동 무효화
+ * - 쿼리 캐시는 테이블 변경 시각(update timestamps)으로 무효화
+ * - 여러 인스턴스 간 동기화는 하지 않으므로 TTL이 최대 불일치 시간
+ */
+@Slf4j
+@Configuration
+public class ReferenceCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceCacheManager(ReferenceCacheProperties properties) {
+        // 컨텍스트마다 별도 CacheManager (테스트처럼 한 JVM에 컨텍스트가 여러 개 떠도 영역을 공유하지 않음)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("silverlink:reference-cache:" + UUID.randomUUID()),
+                        getClass().getClassLoader());
+
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            ReferenceCacheProperties.Region config = properties.regionFor(region);
+            createRegion(cacheManager, region, config.getMaxEntries(), config.getTtlSeconds());
+        }
+        createRegion(cacheManager, CacheRegions.QUERY_RESULTS,
+                properties.getQueryResults().getMaxEntries(), properties.getQueryResults().getTtlSeconds());
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, properties.getUpdateTimestampsMaxEntries(), 0);
+
+        log.info("[ReferenceCacheConfig] 2차 캐시 영역 생성: {}", cacheManager.getCacheNames());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheHibernateProperties(CacheManager referenceCacheManager) {
+        return props -> {
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            props.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager);
+            // CacheRegions에 없는 영역이 요청되면 기본 설정으로 만들고 경고 로그를 남김
+            props.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            props.put(AvailableSettings.USE_QUERY_CACHE, true);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        }
+        // 영역별 히트/미스 통계 (/api/admin/metrics/second-level-cache, ReferenceCacheStats)
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
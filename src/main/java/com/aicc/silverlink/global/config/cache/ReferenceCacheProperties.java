@@ -0,0 +1,70 @@
+package com.aicc.silverlink.global.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 참조성 엔티티 2차 캐시(JCache/Caffeine) 설정 프로퍼티
+ *
+ * application.yml 예시:
+ * <pre>
+ * reference-cache:
+ *   default-region:
+ *     max-entries: 2000
+ *     ttl-seconds: 3600
+ *   regions:
+ *     "[reference.administrative-division]":
+ *       max-entries: 5000
+ *       ttl-seconds: 86400
+ *   query-results:
+ *     max-entries: 1000
+ *     ttl-seconds: 600
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reference-cache")
+public class ReferenceCacheProperties {
+
+    /**
+     * 영역별 설정이 없을 때 엔티티 영역에 적용
+     */
+    private Region defaultRegion = new Region(2_000, 3_600);
+
+    /**
+     * 엔티티 영역별 설정 (키: CacheRegions의 영역 이름)
+     */
+    private Map<String, Region> regions = new HashMap<>(Map.of(
+            CacheRegions.ADMINISTRATIVE_DIVISION, new Region(5_000, 86_400),
+            CacheRegions.WELFARE, new Region(5_000, 3_600),
+            CacheRegions.WELFARE_FACILITY, new Region(5_000, 3_600)));
+
+    /**
+     * 쿼리 결과 캐시 (ID 목록만 저장하며 테이블 변경 시 자동 무효화)
+     */
+    private Region queryResults = new Region(1_000, 600);
+
+    /**
+     * 테이블 변경 시각 영역 크기. 만료되면 쿼리 캐시를 신뢰할 수 없으므로 TTL은 두지 않음
+     */
+    private long updateTimestampsMaxEntries = 10_000;
+
+    public Region regionFor(String name) {
+        return regions.getOrDefault(name, defaultRegion);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maxEntries;
+        private long ttlSeconds;
+    }
+}
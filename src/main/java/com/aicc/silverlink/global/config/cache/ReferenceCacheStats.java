@@ -0,0 +1,96 @@
+package com.aicc.silverlink.global.config.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 2차 캐시 영역별 히트/미스 통계 조회 및 전체 비우기
+ * Hibernate 전역 통계(generate_statistics)를 켜지 않도록 영역마다 JCache(Caffeine)가 집계하는 통계를 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCacheStats {
+
+    private final CacheManager referenceCacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<RegionStats> regionStats() {
+        List<RegionStats> result = new ArrayList<>();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            result.add(statsOf(region));
+        }
+        result.add(statsOf(CacheRegions.QUERY_RESULTS));
+        return result;
+    }
+
+    /**
+     * DB를 직접 수정한 경우 등 Hibernate를 거치지 않은 변경을 반영할 때 사용
+     */
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        log.info("[ReferenceCacheStats] 2차 캐시 전체 비움");
+    }
+
+    private RegionStats statsOf(String region) {
+        Cache<Object, Object> cache = referenceCacheManager.getCache(region);
+        if (cache == null) {
+            return RegionStats.empty(region);
+        }
+        long entries = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+
+        // 영역 생성 시 statisticsEnabled로 등록된 JSR-107 통계 MXBean
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = statisticsName(region);
+        if (!server.isRegistered(name)) {
+            return new RegionStats(region, 0, 0, 0, 0.0, entries);
+        }
+        CacheStatisticsMXBean stats = JMX.newMXBeanProxy(server, name, CacheStatisticsMXBean.class);
+        return RegionStats.of(region, stats.getCacheHits(), stats.getCacheMisses(), stats.getCachePuts(), entries);
+    }
+
+    /**
+     * JSR-107 통계 MXBean 이름 (Caffeine은 이름의 ',', ':', '=', 개행을 '.'으로 바꿔 등록)
+     */
+    private ObjectName statisticsName(String region) {
+        try {
+            return new ObjectName("javax.cache:type=CacheStatistics"
+                    + ",CacheManager=" + sanitize(referenceCacheManager.getURI().toString())
+                    + ",Cache=" + sanitize(region));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("캐시 통계 MXBean 이름이 올바르지 않습니다: " + region, e);
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[,:=\n]", ".");
+    }
+
+    public record RegionStats(String region, long hits, long misses, long puts, double hitRatio,
+                              long entriesInMemory) {
+
+        static RegionStats empty(String region) {
+            return new RegionStats(region, 0, 0, 0, 0.0, 0);
+        }
+
+        static RegionStats of(String region, long hits, long misses, long puts, long entries) {
+            long total = hits + misses;
+            return new RegionStats(region, hits, misses, puts, total == 0 ? 0.0 : (double) hits / total, entries);
+        }
+    }
+}
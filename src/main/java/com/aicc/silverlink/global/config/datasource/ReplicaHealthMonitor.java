@@ -0,0 +1,62 @@
+package com.aicc.silverlink.global.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * replica 연결/복제 지연 주기 점검
+ * 점검 실패 또는 지연이 max-lag-seconds를 넘으면 모든 읽기를 primary로 보냄
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaHealthMonitor {
+
+    private final JdbcTemplate replicaJdbc;
+    private final ReplicaRoutingDataSource routing;
+    private final ReplicaRoutingProperties props;
+
+    public ReplicaHealthMonitor(@Qualifier(ReplicaRoutingConfig.REPLICA_DATA_SOURCE) DataSource replica,
+            ReplicaRoutingDataSource routing,
+            ReplicaRoutingProperties props) {
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.replicaJdbc.setQueryTimeout(2);
+        this.routing = routing;
+        this.props = props;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-millis:5000}")
+    public void check() {
+        boolean wasAvailable = routing.getStats().replicaAvailable();
+        try {
+            long lagSeconds = 0;
+            if (props.getLagQuery() == null || props.getLagQuery().isBlank()) {
+                replicaJdbc.queryForObject("SELECT 1", Integer.class);
+            } else {
+                Long lag = replicaJdbc.queryForObject(props.getLagQuery(), Long.class);
+                // 지연 값을 알 수 없으면(복제 중단 등) 사용 불가로 판단
+                lagSeconds = lag == null ? Long.MAX_VALUE / 1000 : lag;
+            }
+
+            boolean available = lagSeconds <= props.getMaxLagSeconds();
+            routing.updateReplicaStatus(available, lagSeconds * 1000);
+            if (wasAvailable && !available) {
+                log.warn("[ReplicaHealthMonitor] 복제 지연 초과로 읽기를 primary로 전환. lagSeconds={}, max={}",
+                        lagSeconds, props.getMaxLagSeconds());
+            } else if (!wasAvailable && available) {
+                log.info("[ReplicaHealthMonitor] replica 읽기 재개. lagSeconds={}", lagSeconds);
+            }
+        } catch (Exception e) {
+            routing.updateReplicaStatus(false, 0);
+            if (wasAvailable) {
+                log.warn("[ReplicaHealthMonitor] replica 점검 실패로 읽기를 primary로 전환. error={}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.aicc.silverlink.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * primary/replica DataSource 구성 (datasource.replica.enabled=true 일 때만)
+ * - primary: 기존 spring.datasource.* / spring.datasource.hikari.* 설정
+ * - replica: datasource.replica.* / datasource.replica.hikari.* 설정
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy → ReplicaRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+    public static final String ROUTING_DATA_SOURCE = "routingDataSource";
+
+    /**
+     * 라우팅 내부 DataSource (쿼리 로그 프록시는 최상위 dataSource에만 적용)
+     */
+    public static final Set<String> ROUTED_MEMBERS = Set.of(PRIMARY_DATA_SOURCE, REPLICA_DATA_SOURCE, ROUTING_DATA_SOURCE);
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("primary");
+        ds.setJdbcUrl(url);
+        ds.setUsername(username);
+        ds.setPassword(password);
+        if (!driverClassName.isBlank()) {
+            ds.setDriverClassName(driverClassName);
+        }
+        return ds;
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    @ConfigurationProperties(prefix = "datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaRoutingProperties props) {
+        if (props.getUrl() == null || props.getUrl().isBlank()) {
+            throw new IllegalStateException("datasource.replica.url 설정이 필요합니다.");
+        }
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("replica");
+        ds.setJdbcUrl(props.getUrl());
+        ds.setUsername(props.getUsername());
+        ds.setPassword(props.getPassword());
+        if (props.getDriverClassName() != null && !props.getDriverClassName().isBlank()) {
+            ds.setDriverClassName(props.getDriverClassName());
+        }
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean(name = ROUTING_DATA_SOURCE)
+    public ReplicaRoutingDataSource routingDataSource(
+            @Qualifier(PRIMARY_DATA_SOURCE) DataSource primary,
+            @Qualifier(REPLICA_DATA_SOURCE) DataSource replica,
+            ReplicaRoutingProperties props) {
+        return new ReplicaRoutingDataSource(primary, replica, props.getReadYourWritesMillis());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier(ROUTING_DATA_SOURCE) ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
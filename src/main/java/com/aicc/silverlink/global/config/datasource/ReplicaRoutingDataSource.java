@@ -0,0 +1,166 @@
+package com.aicc.silverlink.global.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary로 보내는 라우팅 DataSource
+ * (LazyConnectionDataSourceProxy로 감싸야 트랜잭션 readOnly 속성이 정해진 뒤 커넥션을 고름)
+ *
+ * replica 대신 primary로 보내는 경우
+ * - replica 점검 실패 또는 복제 지연이 max-lag-seconds 초과
+ * - read-your-writes: 같은 사용자(인증 정보가 없으면 같은 스레드)가 최근 쓰기 트랜잭션을 커밋한 경우
+ *   (예: 통화 종료(endCall) 직후 같은 흐름에서 통화 상세를 다시 읽는 경우)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+    private static final long LAG_MARGIN_MILLIS = 500;
+
+    private final Clock clock;
+    private final long readYourWritesMillis;
+
+    private volatile boolean replicaAvailable = true;
+    private volatile long replicaLagMillis = 0;
+
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> lastWriteOnThread = new ThreadLocal<>();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    private final AtomicLong readYourWritesReads = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long readYourWritesMillis) {
+        this(primary, replica, readYourWritesMillis, Clock.systemUTC());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, long readYourWritesMillis, Clock clock) {
+        this.clock = clock;
+        this.readYourWritesMillis = readYourWritesMillis;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.incrementAndGet();
+            registerWriteTracking();
+            return Target.PRIMARY;
+        }
+        if (!replicaAvailable) {
+            primaryReads.incrementAndGet();
+            return Target.PRIMARY;
+        }
+        if (wroteRecently()) {
+            readYourWritesReads.incrementAndGet();
+            return Target.PRIMARY;
+        }
+        replicaReads.incrementAndGet();
+        return Target.REPLICA;
+    }
+
+    /**
+     * replica 점검 결과 반영 (ReplicaHealthMonitor)
+     */
+    public void updateReplicaStatus(boolean available, long lagMillis) {
+        this.replicaAvailable = available;
+        this.replicaLagMillis = Math.max(lagMillis, 0);
+    }
+
+    private boolean wroteRecently() {
+        long now = clock.millis();
+        long window = Math.max(readYourWritesMillis, replicaLagMillis + LAG_MARGIN_MILLIS);
+
+        Long threadWrite = lastWriteOnThread.get();
+        if (threadWrite != null && now - threadWrite < window) {
+            return true;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long userWrite = lastWriteByUser.get(user);
+        if (userWrite == null) {
+            return false;
+        }
+        if (now - userWrite >= window) {
+            lastWriteByUser.remove(user, userWrite);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 해당 사용자/스레드의 마지막 쓰기 시각 기록 (트랜잭션당 1회 등록)
+     */
+    private void registerWriteTracking() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        String user = currentUser();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(user);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaRoutingDataSource.this);
+            }
+        });
+    }
+
+    void recordWrite(String user) {
+        long now = clock.millis();
+        lastWriteOnThread.set(now);
+        if (user != null) {
+            if (lastWriteByUser.size() >= MAX_TRACKED_WRITERS) {
+                long window = Math.max(readYourWritesMillis, replicaLagMillis + LAG_MARGIN_MILLIS);
+                lastWriteByUser.values().removeIf(t -> now - t >= window);
+            }
+            lastWriteByUser.put(user, now);
+        }
+    }
+
+    private String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated()
+                || auth.getPrincipal() == null) {
+            return null;
+        }
+        return String.valueOf(auth.getPrincipal());
+    }
+
+    public Stats getStats() {
+        return new Stats(replicaAvailable, replicaLagMillis, replicaReads.get(), primaryReads.get(),
+                readYourWritesReads.get(), writes.get());
+    }
+
+    /**
+     * @param primaryReads        replica 장애/지연으로 primary에서 처리한 읽기
+     * @param readYourWritesReads 최근 쓰기 때문에 primary에서 처리한 읽기
+     */
+    public record Stats(boolean replicaAvailable, long replicaLagMillis, long replicaReads, long primaryReads,
+            long readYourWritesReads, long writes) {
+    }
+}
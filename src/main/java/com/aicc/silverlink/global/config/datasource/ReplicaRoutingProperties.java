@@ -0,0 +1,60 @@
+package com.aicc.silverlink.global.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정 프로퍼티
+ *
+ * application.yml 예시:
+ * <pre>
+ * datasource:
+ *   replica:
+ *     enabled: true
+ *     url: jdbc:mysql://replica-host:3306/silverlink
+ *     username: reader
+ *     password: ****
+ *     read-your-writes-millis: 2000
+ *     max-lag-seconds: 5
+ *     lag-query: "SELECT TIMESTAMPDIFF(SECOND, MAX(beat_at), NOW()) FROM replica_heartbeat"
+ *     hikari:
+ *       maximum-pool-size: 20
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaRoutingProperties {
+
+    /**
+     * false면 기존처럼 단일 DataSource 사용
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 같은 사용자(또는 같은 스레드)의 읽기를 primary로 보내는 최소 시간(ms)
+     * 실제 적용 시간은 max(이 값, 최근 측정된 복제 지연 + 여유)
+     */
+    private long readYourWritesMillis = 2000;
+
+    /**
+     * 복제 지연이 이 값(초)을 넘으면 모든 읽기를 primary로 보냄
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * replica에서 실행할 복제 지연(초) 조회 쿼리. 비어 있으면 연결 확인(SELECT 1)만 수행
+     */
+    private String lagQuery;
+
+    /**
+     * replica 상태 점검 주기(ms)
+     */
+    private long healthCheckIntervalMillis = 5000;
+}
@@ -0,0 +1,42 @@
+package com.aicc.silverlink.global.config.emergency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 긴급 알림 자동 상위 보고(에스컬레이션) 설정
+ *
+ * application.yml 예시:
+ * <pre>
+ * emergency:
+ *   escalation:
+ *     enabled: true
+ *     timeout-seconds: 300
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "emergency.escalation")
+public class EmergencyEscalationProperties {
+
+    /**
+     * 자동 에스컬레이션 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * CRITICAL 알림이 PENDING 상태로 머무를 수 있는 시간 (단계마다 적용)
+     */
+    private long timeoutSeconds = 300;
+
+    /**
+     * 타이머 휠 tick 간격 (ms) - 만료 시각의 정밀도
+     */
+    private long tickMillis = 1000;
+
+    /**
+     * 타이머 휠 슬롯 수
+     */
+    private int wheelSize = 512;
+}
@@ -1,10 +1,13 @@
 package com.aicc.silverlink.global.config.redis;
 
-import org.springframework.boot.context.properties.ConfigurationProperties;
+import com.aicc.silverlink.domain.session.service.SessionNearCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -14,4 +17,17 @@ public class RedisConfig {
     stringRedisTemplate(RedisConnectionFactory cf) {
         return new StringRedisTemplate(cf);
     }
+
+    /**
+     * 세션 무효화 브로드캐스트 구독 (각 인스턴스의 세션 near-cache 갱신)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.auth", name = "session-cache-broadcast", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+            SessionNearCache sessionNearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(sessionNearCache, new ChannelTopic(SessionNearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
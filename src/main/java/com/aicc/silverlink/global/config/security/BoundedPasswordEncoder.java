@@ -0,0 +1,144 @@
+package com.aicc.silverlink.global.config.security;
+
+import com.aicc.silverlink.global.exception.AuthOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 bounded 풀에서 실행하는 PasswordEncoder
+ * - 요청 스레드는 결과만 기다리고, 동시에 해시를 계산하는 스레드 수는 풀 크기로 제한
+ * - 대기열이 가득 차면 즉시 429, 대기 시간이 maxWaitMillis를 넘으면 계산 없이 503
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    /**
+     * 작업 시작 후 결과를 기다리는 상한 (BCrypt 1회는 보통 100ms 내외)
+     */
+    private static final long HASH_TIMEOUT_MILLIS = 10_000;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long maxWaitMillis;
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, long maxWaitMillis) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> hash) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                started.incrementAndGet();
+                totalWaitNanos.addAndGet(waited);
+                // 이미 오래 기다린 요청은 계산하지 않음 (클라이언트가 포기했을 가능성이 높음)
+                if (TimeUnit.NANOSECONDS.toMillis(waited) > maxWaitMillis) {
+                    throw new QueueTimeoutException();
+                }
+                long start = System.nanoTime();
+                try {
+                    return hash.call();
+                } finally {
+                    recordHash(System.nanoTime() - start);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.incrementAndGet();
+            throw new AuthOverloadedException(HttpStatus.TOO_MANY_REQUESTS, 1);
+        }
+
+        try {
+            return future.get(maxWaitMillis + HASH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new AuthOverloadedException(HttpStatus.SERVICE_UNAVAILABLE, 1);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof QueueTimeoutException) {
+                timedOut.incrementAndGet();
+                log.warn("[BoundedPasswordEncoder] 대기 시간 초과로 해시 거절. queueSize={}, maxWaitMillis={}",
+                        executor.getQueueSize(), maxWaitMillis);
+                throw new AuthOverloadedException(HttpStatus.SERVICE_UNAVAILABLE, 1);
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류가 발생했습니다.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new AuthOverloadedException(HttpStatus.SERVICE_UNAVAILABLE, 1);
+        }
+    }
+
+    private void recordHash(long nanos) {
+        completed.incrementAndGet();
+        totalHashNanos.addAndGet(nanos);
+        maxHashNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public Stats getStats() {
+        long done = completed.get();
+        long begun = started.get();
+        return new Stats(
+                done,
+                rejected.get(),
+                timedOut.get(),
+                executor.getQueueSize(),
+                executor.getActiveCount(),
+                done == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(totalHashNanos.get() / done) / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(maxHashNanos.get()) / 1000.0,
+                begun == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get() / begun) / 1000.0);
+    }
+
+    /**
+     * 비밀번호 해시 풀 지표 (시간 단위: ms)
+     */
+    public record Stats(long completed, long rejected, long timedOut, int queueSize, int activeCount,
+            double avgHashMillis, double maxHashMillis, double avgQueueWaitMillis) {
+    }
+
+    private static final class QueueTimeoutException extends RuntimeException {
+        private QueueTimeoutException() {
+            super(null, null, false, false);
+        }
+    }
+}
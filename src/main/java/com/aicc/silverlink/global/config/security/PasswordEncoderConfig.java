@@ -1,14 +1,24 @@
 package com.aicc.silverlink.global.config.security;
 
+import com.aicc.silverlink.global.config.async.AsyncConfig;
+import com.aicc.silverlink.global.config.async.AsyncExecutorProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
+
+    /**
+     * BCrypt 계산은 전용 풀에서만 수행 (요청 스레드가 CPU를 직접 점유하지 않도록)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Qualifier(AsyncConfig.PASSWORD_HASH_EXECUTOR) ThreadPoolTaskExecutor passwordHashExecutor,
+            AsyncExecutorProperties properties) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor,
+                properties.getPasswordHashMaxWaitMillis());
     }
 }
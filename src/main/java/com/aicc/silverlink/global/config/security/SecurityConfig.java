@@ -1,11 +1,13 @@
 package com.aicc.silverlink.global.config.security;
 
 import com.aicc.silverlink.domain.session.service.SessionService;
+import com.aicc.silverlink.global.security.internal.ChatbotSecretAuthenticationFilter;
 import com.aicc.silverlink.global.security.jwt.JwtAuthenticationFilter;
 import com.aicc.silverlink.global.security.jwt.JwtProperties;
 import com.aicc.silverlink.global.security.jwt.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +40,12 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final SessionService sessionService;
 
+    @Value("${chatbot.secret.header:X-SilverLink-Secret}")
+    private String chatbotSecretHeader;
+
+    @Value("${chatbot.secret.key:X-SilverLink-Key!}")
+    private String chatbotSecretKey;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -74,6 +82,10 @@ public class SecurityConfig {
                                 "/api/debug/**")
                         .permitAll()
 
+                        // 증분 피드는 답변 전문을 내보내므로 챗봇 서버의 공유 비밀로만 접근
+                        .requestMatchers("/api/data/faqs/feed", "/api/data/inquiries/feed")
+                        .hasRole(ChatbotSecretAuthenticationFilter.ROLE)
+
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/admins/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/policies").hasRole("ADMIN")
@@ -89,7 +101,12 @@ public class SecurityConfig {
                 // JWT 필터 추가
                 .addFilterBefore(
                         new JwtAuthenticationFilter(jwtTokenProvider, sessionService),
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+
+                // 챗봇 서버 공유 비밀 헤더 인증 (JWT 필터보다 먼저)
+                .addFilterBefore(
+                        new ChatbotSecretAuthenticationFilter(chatbotSecretHeader, chatbotSecretKey),
+                        JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,103 @@
+package com.aicc.silverlink.global.config.sms;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SMS 발송(아웃박스) 설정 프로퍼티
+ *
+ * application.yml 예시:
+ * <pre>
+ * sms:
+ *   sender: twilio # twilio | in-memory
+ *   rate-limit:
+ *     permits-per-second: 10
+ *     burst-capacity: 20
+ *   outbox:
+ *     max-attempts: 5
+ *     initial-backoff-seconds: 5
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sms")
+public class SmsProperties {
+
+    /**
+     * 발송 구현체 (twilio: 실제 발송, in-memory: 부하 테스트/CI용 가짜 발송)
+     */
+    private String sender = "twilio";
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Outbox outbox = new Outbox();
+
+    private Fake fake = new Fake();
+
+    /**
+     * 토큰 버킷 설정 (Twilio 계정 처리량(MPS)에 맞춰 설정)
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        /**
+         * 초당 발송 허용 건수 (세그먼트 기준)
+         */
+        private double permitsPerSecond = 10.0;
+
+        /**
+         * 버킷 최대 용량 (순간 허용 건수)
+         */
+        private int burstCapacity = 20;
+    }
+
+    /**
+     * 아웃박스 재시도 설정
+     */
+    @Getter
+    @Setter
+    public static class Outbox {
+        /**
+         * 최대 시도 횟수 (초과 시 DEAD 처리)
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 첫 재시도 대기 시간 (이후 2배씩 증가)
+         */
+        private long initialBackoffSeconds = 5;
+
+        /**
+         * 재시도 대기 시간 상한
+         */
+        private long maxBackoffSeconds = 600;
+
+        /**
+         * 발송 점유 시간 (이 시간 내 결과가 저장되지 않으면 다른 워커가 다시 시도)
+         */
+        private long leaseSeconds = 60;
+
+        /**
+         * 워커 1회 조회 건수
+         */
+        private int batchSize = 50;
+    }
+
+    /**
+     * 메모리 발송 구현체 설정 (부하 테스트용)
+     */
+    @Getter
+    @Setter
+    public static class Fake {
+        /**
+         * 건당 인위적 지연 (Twilio 응답 시간 모사)
+         */
+        private long latencyMillis = 0;
+
+        /**
+         * 재시도 가능한 실패를 발생시킬 비율 (0.0 ~ 1.0)
+         */
+        private double failureRate = 0.0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.aicc.silverlink.global.config.sql;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드 단위로 요청당 SQL 수/시간을 집계하고 예산 초과·N+1 의심 시 경고
+ * 요약은 요청 속성(SUMMARY_ATTRIBUTE)에도 남겨 테스트에서 검증할 수 있게 함
+ * 비동기 응답(StreamingResponseBody 등)은 요청 스레드가 핸들러를 벗어나는 시점에 집계를 마치고,
+ * 완료 후의 ASYNC 재디스패치는 다시 집계하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String SUMMARY_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".summary";
+
+    private final SqlBudgetProperties properties;
+    private final SqlBudgetRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.isEnabled() && handler instanceof HandlerMethod
+                && request.getDispatcherType() != DispatcherType.ASYNC) {
+            SqlRequestContext.begin();
+        }
+        return true;
+    }
+
+    /**
+     * 비동기 처리 시작 시에는 afterCompletion이 요청 스레드에서 호출되지 않으므로 여기서 ThreadLocal을 정리
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        complete(request, handler);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        complete(request, handler);
+    }
+
+    private void complete(HttpServletRequest request, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        SqlRequestContext context = SqlRequestContext.end();
+        if (context == null) {
+            return;
+        }
+
+        String endpoint = endpointOf(handlerMethod);
+        SqlRequestSummary summary = context.summarize(endpoint, properties.getDuplicateThreshold());
+        int budget = properties.maxQueriesFor(endpoint);
+        boolean overBudget = summary.queryCount() > budget;
+
+        registry.record(summary, overBudget);
+        request.setAttribute(SUMMARY_ATTRIBUTE, summary);
+
+        if (overBudget) {
+            log.warn("[SqlBudget] 쿼리 예산 초과. endpoint={}, queries={}, budget={}, jdbcMs={}",
+                    endpoint, summary.queryCount(), budget, summary.jdbcMillis());
+        }
+        if (summary.hasDuplicates()) {
+            log.warn("[SqlBudget] 반복 실행된 SQL 감지 (N+1 의심). endpoint={}, statements={}",
+                    endpoint, summary.duplicates());
+        }
+    }
+
+    static String endpointOf(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+}
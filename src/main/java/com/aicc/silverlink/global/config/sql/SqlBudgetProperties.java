@@ -0,0 +1,48 @@
+package com.aicc.silverlink.global.config.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 예산(쿼리 수) 설정 프로퍼티
+ *
+ * application.yml 예시:
+ * <pre>
+ * sql-budget:
+ *   enabled: true
+ *   default-max-queries: 20
+ *   duplicate-threshold: 5
+ *   endpoints:
+ *     "[CallReviewController#getCallRecordsForCounselor]": 3
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-budget")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별 설정이 없을 때의 요청당 최대 쿼리 수
+     */
+    private int defaultMaxQueries = 20;
+
+    /**
+     * 같은 SQL이 한 요청에서 이 횟수 이상 실행되면 N+1 의심으로 기록
+     */
+    private int duplicateThreshold = 5;
+
+    /**
+     * 엔드포인트(컨트롤러클래스#메서드)별 최대 쿼리 수
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int maxQueriesFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxQueries);
+    }
+}
@@ -0,0 +1,82 @@
+package com.aicc.silverlink.global.config.sql;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 엔드포인트별 SQL 사용량 누적 집계
+ */
+@Component
+public class SqlBudgetRegistry {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public void record(SqlRequestSummary summary, boolean overBudget) {
+        Counter counter = counters.computeIfAbsent(summary.endpoint(), k -> new Counter());
+        counter.requests.incrementAndGet();
+        counter.totalQueries.addAndGet(summary.queryCount());
+        counter.maxQueries.accumulateAndGet(summary.queryCount(), Math::max);
+        counter.totalJdbcMillis.addAndGet(summary.jdbcMillis());
+        if (overBudget) {
+            counter.overBudgetRequests.incrementAndGet();
+        }
+        if (summary.hasDuplicates()) {
+            counter.duplicateRequests.incrementAndGet();
+            counter.lastDuplicateStatement.set(summary.duplicates().keySet().iterator().next());
+        }
+    }
+
+    /**
+     * 평균 쿼리 수가 많은 순
+     */
+    public List<EndpointSqlStats> getStats() {
+        return counters.entrySet().stream()
+                .map(e -> e.getValue().toStats(e.getKey()))
+                .sorted(Comparator.comparingDouble(EndpointSqlStats::avgQueries).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    public record EndpointSqlStats(
+            String endpoint,
+            long requests,
+            double avgQueries,
+            long maxQueries,
+            double avgJdbcMillis,
+            long overBudgetRequests,
+            long duplicateRequests,
+            String lastDuplicateStatement) {
+    }
+
+    private static final class Counter {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong totalQueries = new AtomicLong();
+        private final AtomicLong maxQueries = new AtomicLong();
+        private final AtomicLong totalJdbcMillis = new AtomicLong();
+        private final AtomicLong overBudgetRequests = new AtomicLong();
+        private final AtomicLong duplicateRequests = new AtomicLong();
+        private final AtomicReference<String> lastDuplicateStatement = new AtomicReference<>();
+
+        private EndpointSqlStats toStats(String endpoint) {
+            long n = requests.get();
+            return new EndpointSqlStats(
+                    endpoint,
+                    n,
+                    n == 0 ? 0.0 : (double) totalQueries.get() / n,
+                    maxQueries.get(),
+                    n == 0 ? 0.0 : (double) totalJdbcMillis.get() / n,
+                    overBudgetRequests.get(),
+                    duplicateRequests.get(),
+                    lastDuplicateStatement.get());
+        }
+    }
+}
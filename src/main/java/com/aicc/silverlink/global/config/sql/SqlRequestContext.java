@@ -0,0 +1,55 @@
+package com.aicc.silverlink.global.config.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 실행된 SQL 집계 (SqlBudgetInterceptor가 시작/종료, SqlStatsListener가 기록)
+ */
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private int queryCount;
+    private long jdbcMillis;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    private SqlRequestContext() {
+    }
+
+    public static SqlRequestContext begin() {
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static SqlRequestContext end() {
+        SqlRequestContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    static void record(String sql, long elapsedMillis) {
+        SqlRequestContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.queryCount++;
+        context.jdbcMillis += elapsedMillis;
+        context.statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public SqlRequestSummary summarize(String endpoint, int duplicateThreshold) {
+        Map<String, Integer> duplicates = new LinkedHashMap<>();
+        statementCounts.entrySet().stream()
+                .filter(e -> e.getValue() >= duplicateThreshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> duplicates.put(e.getKey(), e.getValue()));
+        return new SqlRequestSummary(endpoint, queryCount, jdbcMillis, duplicates);
+    }
+}
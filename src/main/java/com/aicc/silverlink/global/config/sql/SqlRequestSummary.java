@@ -0,0 +1,15 @@
+package com.aicc.silverlink.global.config.sql;
+
+import java.util.Map;
+
+/**
+ * 요청 1건의 SQL 실행 요약
+ *
+ * @param duplicates 기준 횟수 이상 반복된 SQL → 실행 횟수 (N+1 의심)
+ */
+public record SqlRequestSummary(String endpoint, int queryCount, long jdbcMillis, Map<String, Integer> duplicates) {
+
+    public boolean hasDuplicates() {
+        return !duplicates.isEmpty();
+    }
+}
@@ -0,0 +1,24 @@
+package com.aicc.silverlink.global.config.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너: 실행된 SQL을 현재 요청의 SqlRequestContext에 기록
+ * (배치 실행은 1회로 계산)
+ */
+public class SqlStatsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        SqlRequestContext.record(sql, execInfo.getElapsedTime());
+    }
+}
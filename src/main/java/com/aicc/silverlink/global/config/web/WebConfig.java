@@ -1,13 +1,19 @@
 package com.aicc.silverlink.global.config.web;
 
+import com.aicc.silverlink.global.config.sql.SqlBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final SqlBudgetInterceptor sqlBudgetInterceptor;
+
     @Value("${file.upload.local-path:./uploads}")
     private String localUploadPath;
 
@@ -17,4 +23,10 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + localUploadPath + "/");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 요청당 SQL 수/시간 집계 (GET /api/admin/metrics/sql)
+        registry.addInterceptor(sqlBudgetInterceptor).addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,21 @@
+package com.aicc.silverlink.global.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 비밀번호 해시 풀이 포화되어 인증 요청을 처리하지 못한 경우
+ * (429: 대기열 가득 참, 503: 대기 시간 초과)
+ */
+@Getter
+public class AuthOverloadedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public AuthOverloadedException(HttpStatus status, long retryAfterSeconds) {
+        super("AUTH_BUSY");
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
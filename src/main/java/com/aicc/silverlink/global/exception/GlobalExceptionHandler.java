@@ -19,6 +19,16 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 인증 과부하 (비밀번호 해시 풀 포화) - 429/503 + Retry-After
+     */
+    @ExceptionHandler(AuthOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleAuthOverloaded(AuthOverloadedException e) {
+        return ResponseEntity.status(e.getStatus())
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("error", e.getMessage(), "message", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     /**
      * 데이터 무결성 오류 (DB 제약조건 위반)
      */
@@ -0,0 +1,122 @@
+package com.aicc.silverlink.global.health;
+
+import com.aicc.silverlink.domain.emergency.dto.EmergencySmsFanOutStats;
+import com.aicc.silverlink.domain.emergency.dto.SmsOutboxStats;
+import com.aicc.silverlink.domain.emergency.service.EmergencySmsFanOutService;
+import com.aicc.silverlink.domain.emergency.service.SmsOutboxService;
+import com.aicc.silverlink.domain.session.service.SessionNearCache;
+import com.aicc.silverlink.global.common.response.ApiResponse;
+import com.aicc.silverlink.global.config.async.ExecutorStats;
+import com.aicc.silverlink.global.config.cache.ReferenceCacheStats;
+import com.aicc.silverlink.global.config.datasource.ReplicaRoutingDataSource;
+import com.aicc.silverlink.global.config.security.BoundedPasswordEncoder;
+import com.aicc.silverlink.global.config.sql.SqlBudgetRegistry;
+import com.aicc.silverlink.global.security.jwt.JwtTokenProvider;
+import com.aicc.silverlink.global.security.jwt.VerifiedTokenCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 메트릭 조회 API (관리자 전용)
+ */
+@Tag(name = "운영 메트릭 (관리자)", description = "스레드 풀 등 내부 운영 지표 조회 API")
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminMetricsController {
+
+    private final Map<String, ThreadPoolTaskExecutor> executors;
+    private final SmsOutboxService smsOutboxService;
+    private final EmergencySmsFanOutService emergencySmsFanOutService;
+    private final SessionNearCache sessionNearCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final SqlBudgetRegistry sqlBudgetRegistry;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final ReferenceCacheStats referenceCacheStats;
+
+    @GetMapping("/executors")
+    @Operation(summary = "비동기 실행기 상태", description = "SMS 발송 등 비동기 스레드 풀의 큐 길이·거절 횟수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ExecutorStats>>> getExecutorStats() {
+        List<ExecutorStats> stats = executors.entrySet().stream()
+                .map(e -> ExecutorStats.from(e.getKey(), e.getValue()))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @GetMapping("/sms-outbox")
+    @Operation(summary = "SMS 아웃박스 상태", description = "발송 대기·DEAD 건수, 재시도/실패 누적 횟수, 발송 한도(토큰) 상태를 조회합니다.")
+    public ResponseEntity<ApiResponse<SmsOutboxStats>> getSmsOutboxStats() {
+        return ResponseEntity.ok(ApiResponse.success(smsOutboxService.getStats()));
+    }
+
+    @GetMapping("/emergency-sms")
+    @Operation(summary = "긴급 SMS 팬아웃 지표", description = "알림 발생부터 마지막 수신자 SMS 발송까지 걸린 시간(최근/최대)을 조회합니다.")
+    public ResponseEntity<ApiResponse<EmergencySmsFanOutStats>> getEmergencySmsStats() {
+        return ResponseEntity.ok(ApiResponse.success(emergencySmsFanOutService.getStats()));
+    }
+
+    @GetMapping("/session-cache")
+    @Operation(summary = "세션 near-cache 지표", description = "세션 검증 로컬 캐시 적중률, 수신한 무효화 수, 항목 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<SessionNearCache.Stats>> getSessionCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(sessionNearCache.getStats()));
+    }
+
+    @GetMapping("/token-cache")
+    @Operation(summary = "검증된 토큰 캐시 지표", description = "액세스 토큰 서명 검증 캐시의 적중률과 항목 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<VerifiedTokenCache.Stats>> getTokenCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(jwtTokenProvider.getVerifiedCacheStats()));
+    }
+
+    @GetMapping("/password-hashing")
+    @Operation(summary = "비밀번호 해시 풀 지표", description = "BCrypt 전용 풀의 대기열 길이, 해시/대기 시간, 거절·시간 초과 횟수를 조회합니다.")
+    public ResponseEntity<ApiResponse<BoundedPasswordEncoder.Stats>> getPasswordHashStats() {
+        return ResponseEntity.ok(ApiResponse.success(passwordEncoder.getStats()));
+    }
+
+    @GetMapping("/sql")
+    @Operation(summary = "엔드포인트별 SQL 사용량", description = "요청당 평균/최대 쿼리 수, JDBC 시간, 예산 초과·N+1 의심 요청 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SqlBudgetRegistry.EndpointSqlStats>>> getSqlStats() {
+        return ResponseEntity.ok(ApiResponse.success(sqlBudgetRegistry.getStats()));
+    }
+
+    @DeleteMapping("/sql")
+    @Operation(summary = "엔드포인트별 SQL 사용량 초기화", description = "누적된 SQL 사용량 집계를 초기화합니다.")
+    public ResponseEntity<ApiResponse<Void>> resetSqlStats() {
+        sqlBudgetRegistry.reset();
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @GetMapping("/datasource-routing")
+    @Operation(summary = "DB 읽기 라우팅 상태", description = "replica 사용 가능 여부·복제 지연, replica/primary 읽기 건수를 조회합니다. (replica 미사용 시 null)")
+    public ResponseEntity<ApiResponse<ReplicaRoutingDataSource.Stats>> getDataSourceRoutingStats() {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        return ResponseEntity.ok(ApiResponse.success(routing == null ? null : routing.getStats()));
+    }
+
+    @GetMapping("/second-level-cache")
+    @Operation(summary = "2차 캐시 상태", description = "참조성 엔티티·쿼리 캐시 영역별 히트/미스, 적재 건수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ReferenceCacheStats.RegionStats>>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(referenceCacheStats.regionStats()));
+    }
+
+    @DeleteMapping("/second-level-cache")
+    @Operation(summary = "2차 캐시 비우기", description = "DB를 직접 수정한 뒤 등 모든 2차 캐시·쿼리 캐시를 비웁니다.")
+    public ResponseEntity<ApiResponse<Void>> evictSecondLevelCache() {
+        referenceCacheStats.evictAll();
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.aicc.silverlink.global.init;
+
+import com.aicc.silverlink.global.common.entity.PooledIds;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * pooled ID 생성기 시작값 보정
+ * IDENTITY로 쌓인 기존 행이 있는 테이블은 생성기 값이 MAX(id)보다 작으면 키가 충돌하므로,
+ * 애플리케이션 시작 시 (스키마 생성 직후, 첫 INSERT 전) 각 세그먼트의 next_val을 끌어올림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdSeeder {
+
+    private final JdbcTemplate jdbc;
+
+    // 스키마(ddl-auto)가 준비된 뒤 실행되도록 EntityManagerFactory에 의존 (세그먼트 목록도 여기서 읽음)
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * pooled 생성기 세그먼트의 대상 테이블과 ID 컬럼
+     */
+    record Segment(String table, String idColumn) {
+    }
+
+    @PostConstruct
+    public void seed() {
+        for (Map.Entry<String, Segment> segment : segments(entityManagerFactory.getMetamodel()).entrySet()) {
+            seed(segment.getKey(), segment.getValue().table(), segment.getValue().idColumn());
+        }
+    }
+
+    /**
+     * id_generators 테이블을 쓰는 엔티티의 세그먼트 → (테이블, ID 컬럼)
+     * 엔티티 매핑(@TableGenerator)에서 직접 읽으므로 엔티티를 pooled 생성기로 옮기면 자동으로 포함됨
+     */
+    static Map<String, Segment> segments(Metamodel metamodel) {
+        Map<String, Segment> segments = new TreeMap<>();
+        for (EntityType<?> entity : metamodel.getEntities()) {
+            if (!entity.hasSingleIdAttribute()
+                    || !(entity.getId(entity.getIdType().getJavaType()).getJavaMember() instanceof Field idField)) {
+                continue;
+            }
+            TableGenerator generator = idField.getAnnotation(TableGenerator.class);
+            if (generator == null || !PooledIds.TABLE.equals(generator.table())) {
+                continue;
+            }
+
+            Table table = entity.getJavaType().getAnnotation(Table.class);
+            Column column = idField.getAnnotation(Column.class);
+            if (table == null || table.name().isBlank() || column == null || column.name().isBlank()) {
+                throw new IllegalStateException("pooled ID 생성기 엔티티는 @Table/@Column 이름을 명시해야 합니다: "
+                        + entity.getJavaType().getName());
+            }
+            segments.put(generator.pkColumnValue(), new Segment(table.name(), column.name()));
+        }
+        return segments;
+    }
+
+    private void seed(String segment, String table, String idColumn) {
+        Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        // pooled 최적화기는 저장된 값을 구간의 상한으로 보고 (값 - ALLOCATION_SIZE + 1)부터 발급하므로 그만큼 여유를 둠
+        long floor = (maxId == null ? 0 : maxId) + PooledIds.ALLOCATION_SIZE + 1;
+
+        List<Long> current = jdbc.queryForList(
+                "SELECT " + PooledIds.VALUE_COLUMN + " FROM " + PooledIds.TABLE
+                        + " WHERE " + PooledIds.PK_COLUMN + " = ?", Long.class, segment);
+
+        if (current.isEmpty()) {
+            try {
+                jdbc.update("INSERT INTO " + PooledIds.TABLE + " (" + PooledIds.PK_COLUMN + ", "
+                        + PooledIds.VALUE_COLUMN + ") VALUES (?, ?)", segment, floor);
+                log.info("[PooledIdSeeder] 생성기 초기화. segment={}, nextVal={}", segment, floor);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성 - 아래에서 값만 보정
+            }
+        }
+
+        int updated = jdbc.update("UPDATE " + PooledIds.TABLE + " SET " + PooledIds.VALUE_COLUMN + " = ?"
+                + " WHERE " + PooledIds.PK_COLUMN + " = ? AND " + PooledIds.VALUE_COLUMN + " < ?", floor, segment, floor);
+        if (updated > 0) {
+            log.info("[PooledIdSeeder] 생성기 값 보정. segment={}, nextVal={}", segment, floor);
+        }
+    }
+}
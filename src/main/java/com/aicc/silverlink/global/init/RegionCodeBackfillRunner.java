@@ -0,0 +1,39 @@
+package com.aicc.silverlink.global.init;
+
+import com.aicc.silverlink.domain.elderly.repository.ElderlyRepository;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지역 코드 비정규화 컬럼 보정 러너
+ * sido_code/sigungu_code 컬럼 추가 이전에 저장된 어르신·긴급 알림 행을 채웁니다.
+ * 관리자 목록 정렬용 status_rank 컬럼 추가 이전의 긴급 알림 행도 함께 채웁니다.
+ * 보정 대상이 없으면 인덱스 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionCodeBackfillRunner implements CommandLineRunner {
+
+    private final ElderlyRepository elderlyRepository;
+    private final EmergencyAlertRepository alertRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int elderlyCount = elderlyRepository.backfillRegionCodes();
+        int alertCount = alertRepository.backfillRegionCodes();
+        int rankCount = alertRepository.backfillStatusRanks();
+
+        if (elderlyCount > 0 || alertCount > 0) {
+            log.info("[RegionCodeBackfillRunner] 지역 코드 보정 완료. elderly={}, alerts={}", elderlyCount, alertCount);
+        }
+        if (rankCount > 0) {
+            log.info("[RegionCodeBackfillRunner] 긴급 알림 정렬 순위 보정 완료. alerts={}", rankCount);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.aicc.silverlink.global.security.internal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 챗봇(Python) 서버 내부 인증 필터
+ *
+ * 챗봇 서버가 보내는 공유 비밀 헤더({@code chatbot.secret.header})가
+ * {@code chatbot.secret.key}와 일치하면 ROLE_CHATBOT으로 인증합니다.
+ * 헤더가 없거나 일치하지 않으면 아무것도 설정하지 않으므로 JWT 인증/인가 규칙이 그대로 적용됩니다.
+ */
+public class ChatbotSecretAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "CHATBOT";
+    private static final String PRINCIPAL = "chatbot";
+
+    private final String headerName;
+    private final byte[] secretKey;
+
+    public ChatbotSecretAuthenticationFilter(String headerName, String secretKey) {
+        this.headerName = headerName;
+        this.secretKey = secretKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String presented = request.getHeader(headerName);
+        if (presented != null && matches(presented)) {
+            var auth = new UsernamePasswordAuthenticationToken(
+                    PRINCIPAL,
+                    null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + ROLE)));
+            SecurityContextHolder.getContext().setAuthentication(auth);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /** 길이/내용 비교 시간이 일치 위치에 따라 달라지지 않도록 상수 시간 비교 */
+    private boolean matches(String presented) {
+        return MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8), secretKey);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aicc.silverlink.global.security.jwt;
+
+import com.aicc.silverlink.domain.user.entity.Role;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임
+ *
+ * @param expiresAt 만료 시각 (epoch seconds)
+ */
+public record AccessTokenClaims(Long userId, Role role, String sid, long expiresAt) {
+
+    public boolean isExpiredAt(long nowEpoch) {
+        return nowEpoch >= expiresAt;
+    }
+}
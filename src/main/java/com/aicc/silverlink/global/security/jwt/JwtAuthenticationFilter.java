@@ -3,9 +3,7 @@ package com.aicc.silverlink.global.security.jwt;
 import com.aicc.silverlink.domain.session.service.SessionService;
 import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.global.exception.UnauthorizedException;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -45,26 +43,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (token != null) {
             try {
-                Jws<Claims> jws = jwt.parseAndValidate(token); // 토큰 서명 검증 + 만료 체크
+                // 토큰 서명 검증 + 만료 체크 (검증된 토큰은 exp까지 캐시)
+                AccessTokenClaims claims = jwt.verifyAccessToken(token);
 
-                Claims claims = jws.getPayload();
+                String sid = claims.sid();
+                Long userId = claims.userId();
+                Role role = claims.role();
 
-                String userIdStr = claims.getSubject();
-                String roleStr = claims.get("role", String.class);
-                String sid = claims.get("sid", String.class);
-
-                Long userId = Long.valueOf(userIdStr);
-                Role role = Role.valueOf(roleStr);
-
-                if (!sessionService.isActive(sid, userId)) {
+                // 세션 검증 + idle 연장 (Redis 1회 왕복)
+                if (!sessionService.validateAndTouch(sid, userId)) {
                     logger.warn("Session expired or invalid for sid: " + sid);
                     SecurityContextHolder.clearContext();
                     throw new UnauthorizedException("세션이 만료되었습니다.");
                 }
 
-                // idle 연장
-                sessionService.touch(sid);
-
                 var auth = new UsernamePasswordAuthenticationToken(
                         userId,
                         null,
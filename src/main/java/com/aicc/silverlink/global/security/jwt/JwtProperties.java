@@ -12,4 +12,9 @@ public class JwtProperties {
 
     private String secret;
 
+    /**
+     * 검증된 액세스 토큰 캐시 최대 항목 수 (0이면 캐시 미사용)
+     */
+    private int verifiedCacheMaxEntries = 50_000;
+
 }
@@ -3,9 +3,11 @@ package com.aicc.silverlink.global.security.jwt;
 import com.aicc.silverlink.domain.user.entity.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -19,8 +21,20 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
 
+    // 키/파서는 불변이므로 한 번만 생성
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedCache;
+
+    @PostConstruct
+    public void init() {
+        this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedCache = new VerifiedTokenCache(jwtProperties.getVerifiedCacheMaxEntries());
+    }
+
     private SecretKey key() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        return secretKey;
     }
 
     public String createAccessToken(Long userId, Role role, String sid,long ttlSeconds){
@@ -38,10 +52,32 @@ public class JwtTokenProvider {
     }
 
     public Jws<Claims> parseAndValidate(String token){
-        return Jwts.parser()
-                .verifyWith((SecretKey) key())
-                .build()
-                .parseSignedClaims(token);
+        return parser.parseSignedClaims(token);
+    }
+
+    /**
+     * 액세스 토큰 검증 (요청마다 호출)
+     * 이미 검증한 토큰은 exp 전까지 캐시된 클레임을 반환하여 파싱/서명 검증을 생략.
+     * 처음 보는 토큰이나 만료된 토큰은 parseAndValidate와 동일하게 예외를 던짐
+     */
+    public AccessTokenClaims verifyAccessToken(String token){
+        long now = Instant.now().getEpochSecond();
+        String digest = VerifiedTokenCache.digest(token);
+
+        AccessTokenClaims cached = verifiedCache.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims c = parseAndValidate(token).getPayload();
+        AccessTokenClaims claims = new AccessTokenClaims(
+                getUserId(c), getRole(c), getSid(c), c.getExpiration().toInstant().getEpochSecond());
+        verifiedCache.put(digest, claims, now);
+        return claims;
+    }
+
+    public VerifiedTokenCache.Stats getVerifiedCacheStats(){
+        return verifiedCache.getStats();
     }
 
     public Long getUserId(Claims c){
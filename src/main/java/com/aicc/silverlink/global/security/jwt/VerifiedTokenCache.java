@@ -0,0 +1,78 @@
+package com.aicc.silverlink.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰 캐시
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 항목은 토큰의 exp까지만 유효.
+ * 같은 토큰이 만료(기본 15분)까지 반복 사용되므로 두 번째 요청부터는 파싱/HMAC 계산을 건너뜀.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<String, AccessTokenClaims> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    AccessTokenClaims get(String digest, long nowEpoch) {
+        AccessTokenClaims claims = entries.get(digest);
+        if (claims == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (claims.isExpiredAt(nowEpoch)) {
+            entries.remove(digest, claims);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return claims;
+    }
+
+    void put(String digest, AccessTokenClaims claims, long nowEpoch) {
+        if (maxEntries <= 0)
+            return;
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(c -> c.isExpiredAt(nowEpoch));
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(digest, claims);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    Stats getStats() {
+        long h = hits.get();
+        long m = misses.get();
+        double ratio = (h + m) == 0 ? 0.0 : (double) h / (h + m);
+        return new Stats(h, m, ratio, entries.size());
+    }
+
+    public record Stats(long hits, long misses, double hitRatio, int size) {
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
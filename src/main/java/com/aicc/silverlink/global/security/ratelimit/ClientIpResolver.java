@@ -0,0 +1,41 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import com.aicc.silverlink.global.config.auth.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IP 기준 속도 제한에 사용할 클라이언트 IP 판별
+ *
+ * X-Forwarded-For의 첫 값은 클라이언트가 임의로 넣을 수 있으므로 신뢰하지 않음.
+ * 요청 경로(X-Forwarded-For 각 hop + 직접 접속한 주소) 중 오른쪽 끝의 신뢰 프록시 수만큼을
+ * 건너뛴 바로 앞 hop, 즉 우리 프록시가 직접 기록한 주소를 클라이언트 IP로 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties;
+
+    public String resolve(HttpServletRequest request) {
+        List<String> hops = new ArrayList<>();
+        String xff = request.getHeader(FORWARDED_FOR);
+        if (xff != null) {
+            for (String hop : xff.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        hops.add(request.getRemoteAddr());
+
+        int trusted = Math.max(properties.getTrustedProxies(), 0);
+        return hops.get(Math.max(hops.size() - 1 - trusted, 0));
+    }
+}
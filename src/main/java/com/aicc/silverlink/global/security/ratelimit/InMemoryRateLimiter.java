@@ -0,0 +1,99 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 속도 제한기 (단일 인스턴스/테스트용)
+ * RedisRateLimiter와 같은 판정 규칙을 키별 락으로 구현
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "store", havingValue = "in-memory")
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final Clock clock;
+    private final Map<String, Deque<Long>> windows = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryRateLimiter() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryRateLimiter(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquireWindow(String key, int limit, Duration window) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("속도 제한 limit은 0보다 커야 합니다.");
+        }
+        long now = clock.millis();
+        long windowMs = window.toMillis();
+        Deque<Long> hits = windows.computeIfAbsent(key, k -> new ArrayDeque<>());
+
+        synchronized (hits) {
+            while (!hits.isEmpty() && hits.peekFirst() <= now - windowMs) {
+                hits.pollFirst();
+            }
+            if (hits.size() < limit) {
+                hits.addLast(now);
+                return RateLimitDecision.allow(limit - hits.size());
+            }
+            return RateLimitDecision.deny(hits.peekFirst() + windowMs - now);
+        }
+    }
+
+    @Override
+    public RateLimitDecision tryAcquireBucket(String key, int capacity, Duration refillInterval) {
+        long now = clock.millis();
+        double interval = Math.max(refillInterval.toMillis(), 1);
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+
+        synchronized (bucket) {
+            bucket.tokens = Math.min(capacity, bucket.tokens + Math.max(0, now - bucket.ts) / interval);
+            bucket.ts = now;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return RateLimitDecision.allow((long) Math.floor(bucket.tokens));
+            }
+            return RateLimitDecision.deny((long) Math.ceil((1 - bucket.tokens) * interval));
+        }
+    }
+
+    @Override
+    public void refundBucket(String key, int capacity) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        synchronized (bucket) {
+            bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        windows.remove(key);
+        buckets.remove(key);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long ts;
+
+        private Bucket(double tokens, long ts) {
+            this.tokens = tokens;
+            this.ts = ts;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+/**
+ * 속도 제한 판정 결과
+ *
+ * @param remaining        이번 요청 이후 남은 허용 횟수
+ * @param retryAfterMillis 거절된 경우 다음 요청이 허용되기까지 남은 시간
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision deny(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, Math.max(retryAfterMillis, 0));
+    }
+}
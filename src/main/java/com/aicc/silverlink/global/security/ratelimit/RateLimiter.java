@@ -0,0 +1,33 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 키 단위 요청 속도 제한기
+ * 판정과 카운트 증가가 하나의 원자적 연산으로 처리되어 동시 요청에서도 한도가 지켜짐
+ */
+public interface RateLimiter {
+
+    /**
+     * 슬라이딩 윈도우: 최근 window 동안 허용된 요청이 limit 미만이면 1건 기록 후 허용
+     *
+     * @throws IllegalArgumentException limit이 0 이하인 경우
+     */
+    RateLimitDecision tryAcquireWindow(String key, int limit, Duration window);
+
+    /**
+     * 토큰 버킷: 최대 capacity개, refillInterval마다 1개씩 충전. 토큰이 있으면 1개 소비 후 허용
+     */
+    RateLimitDecision tryAcquireBucket(String key, int capacity, Duration refillInterval);
+
+    /**
+     * 토큰 버킷에 소비한 토큰 1개 반환 (capacity 초과 불가)
+     * 버킷 토큰을 소비한 뒤 이어지는 다른 제한에 걸려 요청이 실제로 처리되지 않은 경우 사용
+     */
+    void refundBucket(String key, int capacity);
+
+    /**
+     * 키의 기록 초기화 (예: 로그인 성공 시 실패 카운트 초기화)
+     */
+    void reset(String key);
+}
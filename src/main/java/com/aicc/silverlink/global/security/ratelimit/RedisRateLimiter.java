@@ -0,0 +1,126 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis Lua 기반 속도 제한기 (인스턴스 간 카운터 공유)
+ * 판정 + 기록 + TTL 설정을 스크립트 1회 실행(왕복 1회)으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisRateLimiter implements RateLimiter {
+
+    /**
+     * 슬라이딩 윈도우 (ZSET, score = 요청 시각 ms)
+     * ARGV: [1] now(ms) [2] window(ms) [3] limit [4] member
+     * 반환: {허용 여부(1/0), 남은 횟수, 재시도까지 ms}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            local count = redis.call('ZCARD', KEYS[1])
+            if count < limit then
+                redis.call('ZADD', KEYS[1], now, ARGV[4])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return {1, limit - count - 1, 0}
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return {0, 0, tonumber(oldest[2]) + window - now}
+            """, List.class);
+
+    /**
+     * 토큰 버킷 (HASH: tokens, ts)
+     * ARGV: [1] capacity [2] 토큰 1개 충전 간격(ms) [3] now(ms)
+     * 반환: {허용 여부(1/0), 남은 토큰, 재시도까지 ms}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local interval = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) / interval)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry = math.ceil((1 - tokens) * interval)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * interval))
+            return {allowed, math.floor(tokens), retry}
+            """, List.class);
+
+    /**
+     * 토큰 버킷 토큰 반환 (HASH가 없으면 이미 가득 찬 것으로 보고 무시)
+     * ARGV: [1] capacity
+     */
+    private static final DefaultRedisScript<Long> TOKEN_REFUND_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+            if not tokens then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(math.min(tonumber(ARGV[1]), tokens + 1)))
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    @Override
+    public RateLimitDecision tryAcquireWindow(String key, int limit, Duration window) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("속도 제한 limit은 0보다 커야 합니다.");
+        }
+        long now = System.currentTimeMillis();
+        String member = now + ":" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+        List<?> result = redis.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+                String.valueOf(now), String.valueOf(window.toMillis()), String.valueOf(limit), member);
+        return toDecision(result);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquireBucket(String key, int capacity, Duration refillInterval) {
+        long now = System.currentTimeMillis();
+
+        List<?> result = redis.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                String.valueOf(capacity), String.valueOf(Math.max(refillInterval.toMillis(), 1)), String.valueOf(now));
+        return toDecision(result);
+    }
+
+    @Override
+    public void refundBucket(String key, int capacity) {
+        redis.execute(TOKEN_REFUND_SCRIPT, List.of(key), String.valueOf(capacity));
+    }
+
+    @Override
+    public void reset(String key) {
+        redis.delete(key);
+    }
+
+    private RateLimitDecision toDecision(List<?> result) {
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("속도 제한 스크립트 결과가 올바르지 않습니다.");
+        }
+        boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+        long remaining = ((Number) result.get(1)).longValue();
+        long retryAfter = ((Number) result.get(2)).longValue();
+        return allowed ? RateLimitDecision.allow(remaining) : RateLimitDecision.deny(retryAfter);
+    }
+}
@@ -0,0 +1,84 @@
+package com.aicc.silverlink.infra.external.sms;
+
+import com.aicc.silverlink.global.config.sms.SmsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 SMS 발송 구현체 (부하 테스트/CI용)
+ * 실제 발송 없이 최근 메시지를 보관하며, 설정에 따라 지연과 재시도 가능한 실패를 흉내냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sms", name = "sender", havingValue = "in-memory")
+public class InMemorySmsSender implements SmsSender {
+
+    private static final int MAX_RETAINED = 1000;
+
+    private final SmsProperties properties;
+
+    private final Deque<SentMessage> recent = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @Override
+    public String send(String toPhone, String content) {
+        SmsProperties.Fake fake = properties.getFake();
+
+        if (fake.getLatencyMillis() > 0) {
+            try {
+                Thread.sleep(fake.getLatencyMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmsSendException("발송 중 인터럽트", true, e);
+            }
+        }
+
+        if (fake.getFailureRate() > 0 && ThreadLocalRandom.current().nextDouble() < fake.getFailureRate()) {
+            failedCount.incrementAndGet();
+            throw new SmsSendException("가짜 발송 실패 (failure-rate)", true);
+        }
+
+        String sid = "FAKE" + UUID.randomUUID().toString().replace("-", "");
+        recent.addLast(new SentMessage(sid, toPhone, content));
+        if (sentCount.incrementAndGet() > MAX_RETAINED) {
+            recent.pollFirst();
+        }
+        return sid;
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 최근 발송 메시지 (최대 1000건)
+     */
+    public List<SentMessage> getRecentMessages() {
+        return new ArrayList<>(recent);
+    }
+
+    public void clear() {
+        recent.clear();
+        sentCount.set(0);
+        failedCount.set(0);
+    }
+
+    public record SentMessage(String sid, String toPhone, String content) {
+    }
+}
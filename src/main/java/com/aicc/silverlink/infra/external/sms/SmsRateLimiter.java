@@ -0,0 +1,107 @@
+package com.aicc.silverlink.infra.external.sms;
+
+import com.aicc.silverlink.global.config.sms.SmsProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMS 발송 토큰 버킷
+ * 알림이 몰려도 Twilio 계정 처리량을 넘지 않도록 세그먼트 단위로 발송 속도를 평탄화.
+ * 토큰을 얻지 못한 메시지는 아웃박스에 PENDING으로 남아 워커가 이어서 발송함.
+ */
+@Component
+public class SmsRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    private final AtomicLong granted = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    @Autowired
+    public SmsRateLimiter(SmsProperties properties) {
+        this(properties.getRateLimit().getPermitsPerSecond(), properties.getRateLimit().getBurstCapacity());
+    }
+
+    SmsRateLimiter(double permitsPerSecond, int burstCapacity) {
+        if (permitsPerSecond <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException("SMS 처리량 설정은 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burstCapacity;
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 획득 시도
+     *
+     * @param permits 필요한 토큰 수 (발송할 세그먼트 수)
+     * @param maxWait 최대 대기 시간 (0이면 즉시 반환)
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(int permits, Duration maxWait) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        double needed = Math.min(permits, capacity);
+
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= needed) {
+                    tokens -= needed;
+                    granted.addAndGet(permits);
+                    return true;
+                }
+                waitNanos = (long) Math.ceil((needed - tokens) / permitsPerNano);
+            }
+
+            if (System.nanoTime() + waitNanos > deadline) {
+                throttled.incrementAndGet();
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throttled.incrementAndGet();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 획득했지만 사용하지 못한 토큰 반환 (점유 실패, 발송 풀 거절 등)
+     */
+    public synchronized void release(int permits) {
+        refill();
+        tokens = Math.min(capacity, tokens + Math.min(permits, capacity));
+        granted.addAndGet(-permits);
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return tokens;
+    }
+
+    public long getGrantedCount() {
+        return granted.get();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
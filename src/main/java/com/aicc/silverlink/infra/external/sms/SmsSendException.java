@@ -0,0 +1,23 @@
+package com.aicc.silverlink.infra.external.sms;
+
+import lombok.Getter;
+
+/**
+ * SMS 발송 실패 예외
+ * retryable=false 이면 재시도해도 결과가 같으므로(잘못된 번호, 수신 거부 등) 즉시 실패 처리
+ */
+@Getter
+public class SmsSendException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public SmsSendException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public SmsSendException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+}
@@ -0,0 +1,18 @@
+package com.aicc.silverlink.infra.external.sms;
+
+/**
+ * 일반 SMS 발송 추상화
+ * 운영은 Twilio Messaging Service, 부하 테스트/CI는 메모리 구현체를 사용 (sms.sender 설정)
+ */
+public interface SmsSender {
+
+    /**
+     * SMS 1건 발송
+     *
+     * @param toPhone 수신번호 (E.164 형식: +821012345678)
+     * @param content 메시지 본문
+     * @return 외부 메시지 ID
+     * @throws SmsSendException 발송 실패 시 (재시도 가능 여부 포함)
+     */
+    String send(String toPhone, String content);
+}
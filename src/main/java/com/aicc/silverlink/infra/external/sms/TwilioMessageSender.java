@@ -0,0 +1,76 @@
+package com.aicc.silverlink.infra.external.sms;
+
+import com.aicc.silverlink.global.config.twilio.TwilioProperties;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Twilio Messaging Service를 사용한 SMS 발송 구현체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sms", name = "sender", havingValue = "twilio", matchIfMissing = true)
+public class TwilioMessageSender implements SmsSender {
+
+    private static final String DISABLED_MODE_SID = "DISABLED_MODE";
+
+    // Twilio 에러 코드: 재시도해도 성공할 수 없는 수신자 오류
+    private static final int INVALID_TO_NUMBER = 21211;
+    private static final int UNSUBSCRIBED_RECIPIENT = 21610;
+    private static final int NOT_MOBILE_NUMBER = 21614;
+
+    private final TwilioProperties twilioProperties;
+
+    @PostConstruct
+    public void init() {
+        if (isSmsEnabled()) {
+            Twilio.init(twilioProperties.getAccountSid(), twilioProperties.getAuthToken());
+            log.info("[TwilioMessageSender] Twilio 초기화 완료");
+        } else {
+            log.info("[TwilioMessageSender] SMS 비활성화 상태. 실제 발송 없이 로그만 기록합니다.");
+        }
+    }
+
+    @Override
+    public String send(String toPhone, String content) {
+        if (!isSmsEnabled()) {
+            return DISABLED_MODE_SID;
+        }
+
+        try {
+            Message message = Message.creator(
+                    new PhoneNumber(toPhone),
+                    twilioProperties.getMessagingServiceSid(),
+                    content).create();
+            return message.getSid();
+
+        } catch (ApiException e) {
+            Integer code = e.getCode();
+            Integer status = e.getStatusCode();
+            boolean permanent = code != null
+                    && (code == INVALID_TO_NUMBER || code == UNSUBSCRIBED_RECIPIENT || code == NOT_MOBILE_NUMBER);
+            // 429(처리량 초과), 5xx는 재시도 대상. 그 외 4xx 요청 오류는 재시도해도 같은 결과
+            boolean retryable = !permanent
+                    && (status == null || status == 429 || status >= 500);
+            throw new SmsSendException("Twilio API 오류 (code=" + code + "): " + e.getMessage(), retryable, e);
+
+        } catch (ApiConnectionException e) {
+            throw new SmsSendException("Twilio 연결 오류: " + e.getMessage(), true, e);
+        }
+    }
+
+    private boolean isSmsEnabled() {
+        return twilioProperties.isSmsEnabled()
+                && twilioProperties.getAccountSid() != null
+                && !twilioProperties.getAccountSid().isBlank();
+    }
+}
@@ -0,0 +1,111 @@
+package com.aicc.silverlink.domain.audit.repository;
+
+import com.aicc.silverlink.domain.audit.entity.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled ID 생성기 + JDBC 배치 INSERT 검증 (행마다 INSERT하던 변경 전과 간이 처리량 비교)
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@ActiveProfiles("ci")
+class AuditLogBatchInsertTest {
+
+    private static final int ROWS = 1_000;
+    private static final int WARM_UP_ROWS = 200;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("감사 로그 대량 저장 - 행마다 INSERT하지 않고 배치로 전송 (변경 전/후 비교)")
+    void saveAll_UsesJdbcBatching() {
+        // given
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        // JIT 워밍업 (양쪽 경로 모두)
+        insertPerRow(logs(WARM_UP_ROWS));
+        insertBatched(logs(WARM_UP_ROWS));
+
+        // when
+        // 변경 전: IDENTITY는 persist 시점에 행마다 INSERT를 보내므로 행마다 flush하는 것과 같은 전송 패턴
+        List<AuditLog> before = logs(ROWS);
+        stats.clear();
+        long beforeMillis = insertPerRow(before);
+        long beforeStatements = stats.getPrepareStatementCount();
+
+        // 변경 후: pooled ID + JDBC 배치
+        List<AuditLog> after = logs(ROWS);
+        stats.clear();
+        long afterMillis = insertBatched(after);
+        long afterStatements = stats.getPrepareStatementCount();
+
+        // then
+        log.info("[AuditLogBatchInsertTest] rows={} | before(per-row): elapsedMs={}, rowsPerSec={}, statements={} "
+                        + "| after(batched): elapsedMs={}, rowsPerSec={}, statements={} | speedup={}x",
+                ROWS, beforeMillis, ROWS * 1000L / beforeMillis, beforeStatements,
+                afterMillis, ROWS * 1000L / afterMillis, afterStatements,
+                String.format("%.1f", (double) beforeMillis / afterMillis));
+
+        assertThat(after).allMatch(l -> l.getId() != null);
+        assertThat(after.stream().map(AuditLog::getId).distinct().count()).isEqualTo(ROWS);
+        assertThat(beforeStatements).isGreaterThanOrEqualTo(ROWS);
+        // 배치 50 + ID 구간 할당(50개 단위)이면 수십 개 수준
+        assertThat(afterStatements).isLessThan(ROWS / 5);
+    }
+
+    private long insertPerRow(List<AuditLog> logs) {
+        long start = System.nanoTime();
+        for (AuditLog auditLog : logs) {
+            em.persist(auditLog);
+            em.flush();
+            em.clear();
+        }
+        return elapsedMillis(start);
+    }
+
+    private long insertBatched(List<AuditLog> logs) {
+        long start = System.nanoTime();
+        auditLogRepository.saveAll(logs);
+        em.flush();
+        em.clear();
+        return elapsedMillis(start);
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+    }
+
+    private List<AuditLog> logs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.builder()
+                        .action("BATCH_TEST")
+                        .targetEntity("notice")
+                        .targetId((long) i)
+                        .build())
+                .toList();
+    }
+}
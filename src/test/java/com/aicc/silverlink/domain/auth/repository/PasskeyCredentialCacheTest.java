@@ -0,0 +1,141 @@
+package com.aicc.silverlink.domain.auth.repository;
+
+import com.aicc.silverlink.domain.auth.entity.WebAuthnCredential;
+import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PasskeyCredentialCacheTest {
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private WebAuthnCredentialRepository credRepo;
+
+    @InjectMocks
+    private PasskeyCredentialCache cache;
+
+    @Mock
+    private User user;
+
+    @Mock
+    private WebAuthnCredential credential;
+
+    @BeforeEach
+    void setUp() {
+        given(user.getId()).willReturn(1L);
+        given(user.getLoginId()).willReturn("elderly01");
+        given(credential.getUser()).willReturn(user);
+        given(credential.getCredentialId()).willReturn("cred-1");
+        given(credential.getPublicKey()).willReturn(new byte[] { 1, 2, 3 });
+        given(credential.getSignCount()).willReturn(5L);
+        given(credRepo.findActiveWithUserByLoginId("elderly01")).willReturn(List.of(credential));
+        given(credRepo.findActiveWithUserByUserId(1L)).willReturn(List.of(credential));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Passkey 조회 - 로그인 ID/사용자 ID로 반복 조회해도 DB는 한 번만 조회")
+    void find_LoadsOnce() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // when
+        Optional<PasskeyAccount> byLogin = cache.findByLoginId("elderly01");
+        cache.findByLoginId("elderly01");
+        Optional<PasskeyAccount> byUser = cache.findByUserId(1L);
+
+        // then
+        assertThat(byLogin).isPresent();
+        assertThat(byLogin.get().credentials()).hasSize(1);
+        assertThat(byUser).isEqualTo(byLogin);
+        verify(credRepo, times(1)).findActiveWithUserByLoginId("elderly01");
+        verify(credRepo, never()).findActiveWithUserByUserId(anyLong());
+        verify(userRepo, never()).findByLoginId(anyString());
+    }
+
+    @Test
+    @DisplayName("Passkey 조회 - 요청이 달라도 TTL 동안은 공유 캐시 사용")
+    void find_SharedAcrossRequests() {
+        // when
+        cache.findByLoginId("elderly01");
+        cache.findByLoginId("elderly01");
+
+        // then
+        verify(credRepo, times(1)).findActiveWithUserByLoginId("elderly01");
+    }
+
+    @Test
+    @DisplayName("Passkey 등록/폐기 - evict 후 다시 DB에서 조회")
+    void evict_Reloads() {
+        // given
+        cache.findByLoginId("elderly01");
+
+        // when
+        cache.evict(1L);
+        cache.findByLoginId("elderly01");
+
+        // then
+        verify(credRepo, times(2)).findActiveWithUserByLoginId("elderly01");
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 캐시된 서명 카운터 갱신")
+    void recordUsage_UpdatesSignCount() {
+        // given
+        cache.findByLoginId("elderly01");
+
+        // when
+        cache.recordUsage(1L, "cred-1", 9L);
+
+        // then
+        PasskeyAccount account = cache.findByUserId(1L).orElseThrow();
+        assertThat(account.findCredential("cred-1").orElseThrow().signCount()).isEqualTo(9L);
+        verify(credRepo, never()).findActiveWithUserByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Passkey 미등록 사용자 - 사용자만 조회하여 빈 목록 반환")
+    void find_UserWithoutCredentials() {
+        // given
+        given(credRepo.findActiveWithUserByLoginId("guardian01")).willReturn(List.of());
+        User other = mock(User.class);
+        given(other.getId()).willReturn(2L);
+        given(other.getLoginId()).willReturn("guardian01");
+        given(userRepo.findByLoginId("guardian01")).willReturn(Optional.of(other));
+
+        // when
+        Optional<PasskeyAccount> account = cache.findByLoginId("guardian01");
+
+        // then
+        assertThat(account).isPresent();
+        assertThat(account.get().userId()).isEqualTo(2L);
+        assertThat(account.get().credentials()).isEmpty();
+    }
+}
@@ -43,6 +43,8 @@ class CallBotInternalServiceTest {
     private ElderlyRepository elderlyRepository;
     @Mock
     private CallBotSseService sseService;
+    @Mock
+    private CallDetailCache callDetailCache;
 
     @Nested
     @DisplayName("통화 데이터 저장 (중복 방지 / 덮어씌우기)")
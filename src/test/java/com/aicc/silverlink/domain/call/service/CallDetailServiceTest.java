@@ -55,6 +55,8 @@ class CallDetailServiceTest {
     private GuardianElderlyRepository guardianElderlyRepository;
     @Mock
     private com.aicc.silverlink.domain.consent.service.AccessRequestService accessRequestService;
+    @Mock
+    private CallDetailCache callDetailCache;
 
     // ===== Helper Methods =====
 
@@ -380,6 +382,136 @@ class CallDetailServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("통화 상세 캐시")
+    class CachedCallDetail {
+
+        private CallDetailService cachingService() {
+            return cachingService(new CallDetailCache());
+        }
+
+        private CallDetailService cachingService(CallDetailCache cache) {
+            return new CallDetailService(callRecordRepository, llmModelRepository, elderlyResponseRepository,
+                    summaryRepository, emotionRepository, dailyStatusRepository, assignmentRepository,
+                    guardianElderlyRepository, accessRequestService, cache);
+        }
+
+        @Test
+        @DisplayName("조회 도중 다른 요청의 커밋 후 무효화가 실행되면 조립한 응답을 보관하지 않는다")
+        void evictedWhileLoading_DoesNotStoreStaleDetail() {
+            // given
+            Long callId = 1001L;
+            CallRecord callRecord = createMockCallRecord(callId, createMockElderly(100L));
+            CallDetailCache cache = new CallDetailCache();
+            CallDetailService service = cachingService(cache);
+
+            given(callRecordRepository.findById(callId)).willReturn(Optional.of(callRecord));
+            given(llmModelRepository.findByCallIdOrderByCreatedAtAsc(callId))
+                    .willAnswer(invocation -> {
+                        cache.evict(callId);
+                        return List.of();
+                    })
+                    .willReturn(List.of());
+            given(elderlyResponseRepository.findByCallRecordIdOrderByRespondedAtAsc(callId)).willReturn(List.of());
+            given(summaryRepository.findLatestByCallId(callId)).willReturn(Optional.empty());
+            given(emotionRepository.findLatestByCallId(callId)).willReturn(Optional.empty());
+            given(dailyStatusRepository.findByCallRecordId(callId)).willReturn(Optional.empty());
+
+            // when
+            service.getCallDetailForAdmin(callId);
+            service.getCallDetailForAdmin(callId);
+            service.getCallDetailForAdmin(callId);
+
+            // then - 첫 조회 결과는 버리고 두 번째 조회부터 보관
+            verify(callRecordRepository, times(2)).findById(callId);
+        }
+
+        @Test
+        @DisplayName("종료된 통화는 반복 조회 시 대화 내용을 다시 조회하지 않고 권한만 확인한다")
+        void repeatViewsSkipTranscriptQueries() {
+            // given
+            Long counselorId = 1L;
+            Long guardianId = 50L;
+            Long elderlyId = 100L;
+            Long callId = 1001L;
+
+            Elderly elderly = createMockElderly(elderlyId);
+            CallRecord callRecord = createMockCallRecord(callId, elderly);
+            CallDetailService service = cachingService();
+
+            given(callRecordRepository.findById(callId)).willReturn(Optional.of(callRecord));
+            given(assignmentRepository.existsByCounselorIdAndElderlyIdAndStatusActive(counselorId, elderlyId))
+                    .willReturn(true);
+            given(guardianElderlyRepository.existsByGuardianIdAndElderlyId(guardianId, elderlyId)).willReturn(true);
+            given(accessRequestService.hasAccess(any(), any(), any())).willReturn(false);
+            given(llmModelRepository.findByCallIdOrderByCreatedAtAsc(callId)).willReturn(List.of());
+            given(elderlyResponseRepository.findByCallRecordIdOrderByRespondedAtAsc(callId)).willReturn(List.of());
+            given(summaryRepository.findLatestByCallId(callId)).willReturn(Optional.empty());
+            given(emotionRepository.findLatestByCallId(callId)).willReturn(Optional.empty());
+            given(dailyStatusRepository.findByCallRecordId(callId)).willReturn(Optional.empty());
+
+            // when
+            service.getCallDetailForAdmin(callId);
+            service.getCallDetailForCounselor(counselorId, callId);
+            CallDetailResponse guardianView = service.getCallDetailForGuardian(guardianId, callId);
+
+            // then
+            verify(callRecordRepository, times(1)).findById(callId);
+            verify(llmModelRepository, times(1)).findByCallIdOrderByCreatedAtAsc(callId);
+            verify(elderlyResponseRepository, times(1)).findByCallRecordIdOrderByRespondedAtAsc(callId);
+            verify(dailyStatusRepository, times(1)).findByCallRecordId(callId);
+            verify(assignmentRepository).existsByCounselorIdAndElderlyIdAndStatusActive(counselorId, elderlyId);
+            verify(guardianElderlyRepository).existsByGuardianIdAndElderlyId(guardianId, elderlyId);
+
+            // 권한 없는 보호자에게는 캐시된 응답에서 민감 정보를 제외하고 반환
+            assertThat(guardianView.isAccessGranted()).isFalse();
+            assertThat(guardianView.getConversations()).isEmpty();
+            assertThat(guardianView.getDailyStatus()).isNull();
+        }
+
+        @Test
+        @DisplayName("캐시된 통화라도 담당하지 않는 상담사는 조회할 수 없다")
+        void cachedViewStillChecksAssignment() {
+            // given
+            Long elderlyId = 100L;
+            Long callId = 1001L;
+
+            Elderly elderly = createMockElderly(elderlyId);
+            CallRecord callRecord = createMockCallRecord(callId, elderly);
+            CallDetailService service = cachingService();
+
+            given(callRecordRepository.findById(callId)).willReturn(Optional.of(callRecord));
+            given(assignmentRepository.existsByCounselorIdAndElderlyIdAndStatusActive(2L, elderlyId))
+                    .willReturn(false);
+            service.getCallDetailForAdmin(callId);
+
+            // when & then
+            assertThatThrownBy(() -> service.getCallDetailForCounselor(2L, callId))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("진행 중인 통화는 캐시하지 않는다")
+        void inProgressCallIsNotCached() {
+            // given
+            Long callId = 1001L;
+
+            Elderly elderly = createMockElderly(100L);
+            CallRecord callRecord = createMockCallRecord(callId, elderly);
+            lenient().doReturn(CallState.ANSWERED).when(callRecord).getState();
+            CallDetailService service = cachingService();
+
+            given(callRecordRepository.findById(callId)).willReturn(Optional.of(callRecord));
+
+            // when
+            service.getCallDetailForAdmin(callId);
+            service.getCallDetailForAdmin(callId);
+
+            // then
+            verify(llmModelRepository, times(2)).findByCallIdOrderByCreatedAtAsc(callId);
+        }
+    }
+
     @Nested
     @DisplayName("대화 내용 조회")
     class GetConversations {
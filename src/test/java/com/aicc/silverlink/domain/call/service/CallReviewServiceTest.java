@@ -9,6 +9,8 @@ import com.aicc.silverlink.domain.counselor.repository.CounselorRepository;
 import com.aicc.silverlink.domain.elderly.entity.Elderly;
 import com.aicc.silverlink.domain.guardian.repository.GuardianElderlyRepository;
 import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
 import com.aicc.silverlink.global.exception.BusinessException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +35,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -67,6 +71,10 @@ class CallReviewServiceTest {
     private com.aicc.silverlink.domain.file.service.FileService fileService;
     @Mock
     private com.aicc.silverlink.domain.notification.service.NotificationService notificationService;
+    @Mock
+    private CounselorCallCountCache counselorCallCountCache;
+    @Mock
+    private CallDetailCache callDetailCache;
 
     // ===== Helper Methods =====
 
@@ -147,14 +155,13 @@ class CallReviewServiceTest {
             Pageable pageable = PageRequest.of(0, 20);
 
             Counselor counselor = createMockCounselor(counselorId);
-            Elderly elderly = createMockElderly(elderlyId);
-            CallRecord callRecord = createMockCallRecord(callId, elderly);
-
-            Page<CallRecord> callRecordPage = new PageImpl<>(List.of(callRecord));
+            CounselorCallRow row = new CounselorCallRow(callId, elderlyId, "박어르신", LocalDateTime.now().minusHours(1),
+                    180, CallState.COMPLETED, true, EmotionLevel.GOOD, false, "오늘 컨디션이 좋으심",
+                    10L, true, CallDailyStatus.StatusLevel.GOOD, null, null, null);
 
             given(counselorRepository.findById(counselorId)).willReturn(Optional.of(counselor));
-            given(callRecordRepository.findCallRecordsForCounselor(counselorId, pageable)).willReturn(callRecordPage);
-            given(reviewRepository.existsByCallRecordIdAndCounselorId(callId, counselorId)).willReturn(true);
+            given(callRecordRepository.findCallRowsForCounselor(counselorId, pageable))
+                    .willReturn(new PageImpl<>(List.of(row), pageable, 1));
 
             // when
             Page<CallRecordSummaryResponse> result = callReviewService.getCallRecordsForCounselor(counselorId,
@@ -162,8 +169,40 @@ class CallReviewServiceTest {
 
             // then
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).getCallId()).isEqualTo(callId);
-            assertThat(result.getContent().get(0).isReviewed()).isTrue();
+            CallRecordSummaryResponse response = result.getContent().get(0);
+            assertThat(response.getCallId()).isEqualTo(callId);
+            assertThat(response.isReviewed()).isTrue();
+            assertThat(response.getDuration()).isEqualTo("3분");
+            assertThat(response.getEmotionLevelKorean()).isEqualTo("좋음");
+            assertThat(response.getDailyStatus().getMeal().getStatus()).isEqualTo("식사함");
+            assertThat(response.getDailyStatus().getSleep().getLevelKorean()).isEqualTo("미확인");
+            // 행마다 리뷰 여부를 따로 조회하지 않음
+            verify(reviewRepository, never()).existsByCallRecordIdAndCounselorId(any(), any());
+        }
+
+        @Test
+        @DisplayName("요약은 100자까지만 미리보기로 내려준다")
+        void summaryPreviewIsTruncated() {
+            // given
+            Long counselorId = 1L;
+            Pageable pageable = PageRequest.of(0, 20);
+            CounselorCallRow row = new CounselorCallRow(1000L, 100L, "박어르신", LocalDateTime.now(),
+                    null, CallState.COMPLETED, false, null, true, "가".repeat(101),
+                    null, null, null, null, null, null);
+
+            given(counselorRepository.findById(counselorId)).willReturn(Optional.of(createMockCounselor(counselorId)));
+            given(callRecordRepository.findCallRowsForCounselor(counselorId, pageable))
+                    .willReturn(new PageImpl<>(List.of(row), pageable, 1));
+
+            // when
+            CallRecordSummaryResponse response = callReviewService.getCallRecordsForCounselor(counselorId, pageable)
+                    .getContent().get(0);
+
+            // then
+            assertThat(response.getSummaryPreview()).isEqualTo("가".repeat(100) + "...");
+            assertThat(response.isHasDangerResponse()).isTrue();
+            assertThat(response.getEmotionLevel()).isNull();
+            assertThat(response.getDailyStatus().getMeal().getStatus()).isEqualTo("미확인");
         }
 
         @Test
@@ -180,6 +219,96 @@ class CallReviewServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("통화 타임라인 조회 (커서)")
+    class GetCallTimelineForCounselor {
+
+        private CounselorCallRow row(Long callId, LocalDateTime callAt) {
+            return new CounselorCallRow(callId, 100L, "박어르신", callAt, 60, CallState.COMPLETED, false,
+                    null, false, null, null, null, null, null, null, null);
+        }
+
+        @Test
+        @DisplayName("첫 페이지는 size + 1건을 조회해 다음 페이지 여부와 nextKey를 계산한다")
+        void firstPage() {
+            // given
+            Long counselorId = 1L;
+            LocalDateTime now = LocalDateTime.now();
+            given(counselorRepository.findById(counselorId)).willReturn(Optional.of(createMockCounselor(counselorId)));
+            given(callRecordRepository.findCallRowsForCounselorAfter(
+                    eq(counselorId), eq(CallCursor.first().callAt()), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                    .willReturn(List.of(row(30L, now), row(20L, now.minusHours(1)), row(10L, now.minusHours(2))));
+
+            // when
+            CursorResponse<CallRecordSummaryResponse> result = callReviewService.getCallTimelineForCounselor(
+                    counselorId, new CursorRequest(null, 2));
+
+            // then
+            assertThat(result.content()).extracting(CallRecordSummaryResponse::getCallId).containsExactly(30L, 20L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextKey()).isEqualTo(20L);
+            verify(callRecordRepository, never()).findCursorById(any());
+        }
+
+        @Test
+        @DisplayName("key가 있으면 해당 통화의 (callAt, id) 이후부터 조회한다")
+        void nextPage() {
+            // given
+            Long counselorId = 1L;
+            LocalDateTime cursorAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+            given(counselorRepository.findById(counselorId)).willReturn(Optional.of(createMockCounselor(counselorId)));
+            given(callRecordRepository.findCursorById(20L)).willReturn(Optional.of(new CallCursor(cursorAt, 20L)));
+            given(callRecordRepository.findCallRowsForCounselorAfter(
+                    eq(counselorId), eq(cursorAt), eq(20L), eq(Limit.of(3))))
+                    .willReturn(List.of(row(10L, cursorAt.minusHours(1))));
+
+            // when
+            CursorResponse<CallRecordSummaryResponse> result = callReviewService.getCallTimelineForCounselor(
+                    counselorId, new CursorRequest(20L, 2));
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextKey()).isNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 key로 조회 시 예외 발생")
+        void failWithUnknownKey() {
+            // given
+            Long counselorId = 1L;
+            given(counselorRepository.findById(counselorId)).willReturn(Optional.of(createMockCounselor(counselorId)));
+            given(callRecordRepository.findCursorById(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> callReviewService.getCallTimelineForCounselor(
+                    counselorId, new CursorRequest(999L, 20)))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("미확인 통화 건수 조회")
+    class GetUnreviewedCount {
+
+        @Test
+        @DisplayName("전체/미확인 건수를 집계 한 번으로 조회한다")
+        void success() {
+            // given
+            Long counselorId = 1L;
+            given(counselorRepository.findById(counselorId)).willReturn(Optional.of(createMockCounselor(counselorId)));
+            given(counselorCallCountCache.get(counselorId)).willReturn(new CounselorCallCounts(1200L, 7L));
+
+            // when
+            UnreviewedCountResponse result = callReviewService.getUnreviewedCount(counselorId);
+
+            // then
+            assertThat(result.getTotalCount()).isEqualTo(1200L);
+            assertThat(result.getUnreviewedCount()).isEqualTo(7L);
+            verify(callRecordRepository, never()).findCallRowsForCounselor(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("통화 리뷰 생성")
     class CreateReview {
@@ -363,6 +492,7 @@ class CallReviewServiceTest {
 
             // then
             verify(review).updateComment("수정된 코멘트입니다.", true);
+            verify(callDetailCache).evict(callId);
         }
 
         @Test
@@ -417,7 +547,7 @@ class CallReviewServiceTest {
 
             given(guardianElderlyRepository.existsByGuardianIdAndElderlyId(guardianId, elderlyId)).willReturn(true);
             given(callRecordRepository.findAllByElderlyId(elderlyId, pageable)).willReturn(callRecordPage);
-            given(reviewRepository.findByCallRecordIdOrderByReviewedAtDesc(callId)).willReturn(List.of(review));
+            given(reviewRepository.findWithCounselorByCallRecordIdIn(List.of(callId))).willReturn(List.of(review));
 
             // when
             Page<GuardianCallReviewResponse> result = callReviewService.getCallReviewsForGuardian(guardianId, elderlyId,
@@ -426,6 +556,9 @@ class CallReviewServiceTest {
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getCounselorName()).isEqualTo("김상담");
+            // 통화마다 리뷰/오늘의 상태를 따로 조회하지 않음
+            verify(reviewRepository, never()).findByCallRecordIdOrderByReviewedAtDesc(any());
+            verify(dailyStatusRepository, never()).findByCallRecordId(any());
         }
 
         @Test
@@ -0,0 +1,107 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.admin.entity.Admin;
+import com.aicc.silverlink.domain.assignment.entity.Assignment;
+import com.aicc.silverlink.domain.call.entity.*;
+import com.aicc.silverlink.domain.counselor.entity.Counselor;
+import com.aicc.silverlink.domain.elderly.entity.Elderly;
+import com.aicc.silverlink.domain.guardian.entity.Guardian;
+import com.aicc.silverlink.domain.guardian.entity.GuardianElderly;
+import com.aicc.silverlink.domain.guardian.entity.RelationType;
+import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통화 관련 쿼리 예산 테스트용 데이터 (H2, ci 프로필)
+ * 어르신 1명 + 보호자 + 상담사, 통화마다 리뷰/오늘의 상태/감정/요약/대화를 모두 채움
+ */
+public class CallTestFixtures {
+
+    private final EntityManager em;
+    private int seq;
+    private AdministrativeDivision division;
+
+    public Elderly elderly;
+    public Guardian guardian;
+    public Counselor counselor;
+    public Admin admin;
+
+    public CallTestFixtures(EntityManager em) {
+        this.em = em;
+    }
+
+    public CallTestFixtures setUp() {
+        division = AdministrativeDivision.builder()
+                .admCode(1111051500L)
+                .sidoCode("11").sigunguCode("110").dongCode("515")
+                .sidoName("서울특별시").sigunguName("종로구").dongName("청운효자동")
+                .level(AdministrativeDivision.DivisionLevel.DONG)
+                .build();
+        em.persist(division);
+
+        elderly = Elderly.create(user("elderly", Role.ELDERLY), division, LocalDate.of(1945, 3, 1), Elderly.Gender.F);
+        em.persist(elderly);
+
+        guardian = Guardian.create(user("guardian", Role.GUARDIAN), "서울시", "종로구", "03000", LocalDateTime.now());
+        em.persist(guardian);
+        em.persist(GuardianElderly.create(guardian, elderly, RelationType.CHILD, LocalDateTime.now()));
+
+        counselor = Counselor.create(user("counselor", Role.COUNSELOR), "C-001", "복지과", "0212345678",
+                LocalDate.now(), division);
+        em.persist(counselor);
+        return this;
+    }
+
+    /**
+     * 관리자를 만들고 상담사에게 어르신을 배정 (상담사 통화 목록 조회용)
+     */
+    public CallTestFixtures assignCounselor() {
+        admin = Admin.builder()
+                .user(user("admin", Role.ADMIN))
+                .administrativeDivision(division)
+                .build();
+        em.persist(admin);
+        em.persist(Assignment.create(counselor, elderly, admin));
+        return this;
+    }
+
+    /**
+     * 리뷰·오늘의 상태·감정·요약·대화가 모두 있는 완료 통화
+     */
+    public CallRecord completedCall(LocalDateTime callAt) {
+        CallRecord call = CallRecord.builder()
+                .elderly(elderly)
+                .callAt(callAt)
+                .callTimeSec(180)
+                .state(CallState.COMPLETED)
+                .build();
+        em.persist(call);
+
+        LlmModel prompt = LlmModel.builder().callRecord(call).prompt("오늘 식사는 하셨어요?").build();
+        em.persist(prompt);
+        em.persist(ElderlyResponse.builder().llmModel(prompt).callRecord(call).content("네 먹었어요").build());
+        em.persist(CallSummary.builder().callRecord(call).content("식사 양호").build());
+        em.persist(CallEmotion.builder().callRecord(call).emotionLevel(EmotionLevel.GOOD).build());
+        em.persist(CallDailyStatus.builder()
+                .callRecord(call)
+                .mealTaken(true)
+                .healthStatus(CallDailyStatus.StatusLevel.GOOD)
+                .sleepStatus(CallDailyStatus.StatusLevel.NORMAL)
+                .build());
+        em.persist(CounselorCallReview.create(call, counselor, "특이사항 없음", false));
+        return call;
+    }
+
+    private User user(String prefix, Role role) {
+        seq++;
+        User user = User.createLocal(prefix + seq + "_" + System.nanoTime(), "{noop}pw", prefix + seq,
+                String.format("010%08d", System.nanoTime() % 100_000_000L), null, role, null);
+        em.persist(user);
+        return user;
+    }
+}
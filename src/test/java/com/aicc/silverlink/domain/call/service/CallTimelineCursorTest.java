@@ -0,0 +1,118 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.call.dto.CallReviewDto.CallRecordSummaryResponse;
+import com.aicc.silverlink.domain.call.dto.CallReviewDto.GuardianCallReviewResponse;
+import com.aicc.silverlink.domain.call.entity.CallRecord;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통화 타임라인 키셋 페이지 이동 - 같은 callAt이 여러 건이어도 (callAt, id) 순서로 빠짐/중복 없이 이어짐
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("ci")
+class CallTimelineCursorTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private CallReviewService callReviewService;
+
+    @Autowired
+    private CallDetailService callDetailService;
+
+    @Autowired
+    private EntityManager em;
+
+    private CallTestFixtures fixtures;
+    private List<Long> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CallTestFixtures(em).setUp().assignCounselor();
+
+        // 같은 시각 통화 5건 + 그 이전 통화 2건 (페이지 경계가 같은 시각 통화 사이에 걸리도록)
+        LocalDateTime sameAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        List<CallRecord> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(fixtures.completedCall(sameAt));
+        }
+        calls.add(fixtures.completedCall(sameAt.minusHours(1)));
+        calls.add(fixtures.completedCall(sameAt.minusHours(2)));
+        em.flush();
+        em.clear();
+
+        expectedOrder = calls.stream()
+                .sorted(Comparator.comparing(CallRecord::getCallAt).thenComparing(CallRecord::getId).reversed())
+                .map(CallRecord::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("보호자 타임라인 - 같은 callAt은 id 역순으로 이어서 조회")
+    void guardianTimeline_TieBreaksById() {
+        // when
+        List<Long> visited = walk(key -> callReviewService.getCallTimelineForGuardian(
+                fixtures.guardian.getId(), fixtures.elderly.getId(), new CursorRequest(key, PAGE_SIZE)),
+                GuardianCallReviewResponse::getCallId);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    @DisplayName("관리자 타임라인 - 같은 callAt은 id 역순으로 이어서 조회")
+    void adminTimeline_TieBreaksById() {
+        // when
+        List<Long> visited = walk(key -> callDetailService.getCallTimelineForAdmin(
+                fixtures.elderly.getId(), new CursorRequest(key, PAGE_SIZE)),
+                CallRecordSummaryResponse::getCallId);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    @DisplayName("상담사 타임라인 - 같은 callAt은 id 역순으로 이어서 조회")
+    void counselorTimeline_TieBreaksById() {
+        // when
+        List<Long> visited = walk(key -> callReviewService.getCallTimelineForCounselor(
+                fixtures.counselor.getId(), new CursorRequest(key, PAGE_SIZE)),
+                CallRecordSummaryResponse::getCallId);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    /**
+     * nextKey를 따라 마지막 페이지까지 조회한 통화 ID 순서
+     */
+    private <T> List<Long> walk(Function<Long, CursorResponse<T>> fetch, Function<T, Long> callId) {
+        List<Long> visited = new ArrayList<>();
+        Long key = null;
+        do {
+            CursorResponse<T> page = fetch.apply(key);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            page.content().forEach(item -> visited.add(callId.apply(item)));
+            key = page.nextKey();
+        } while (key != null);
+        return visited;
+    }
+}
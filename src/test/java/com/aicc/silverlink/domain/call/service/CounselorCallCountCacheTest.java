@@ -0,0 +1,115 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.assignment.repository.AssignmentRepository;
+import com.aicc.silverlink.domain.call.repository.CallRecordRepository;
+import com.aicc.silverlink.domain.call.repository.CounselorCallCounts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CounselorCallCountCache 단위 테스트")
+class CounselorCallCountCacheTest {
+
+    @InjectMocks
+    private CounselorCallCountCache cache;
+
+    @Mock
+    private CallRecordRepository callRecordRepository;
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 집계 쿼리를 다시 실행하지 않는다")
+    void get_CachesCounts() {
+        // given
+        given(callRecordRepository.countCallsForCounselor(1L)).willReturn(new CounselorCallCounts(10L, 2L));
+
+        // when
+        cache.get(1L);
+        CounselorCallCounts counts = cache.get(1L);
+
+        // then
+        assertThat(counts.unreviewed()).isEqualTo(2L);
+        verify(callRecordRepository, times(1)).countCallsForCounselor(1L);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 후에는 다시 집계한다")
+    void evict_ReloadsCounts() {
+        // given
+        given(callRecordRepository.countCallsForCounselor(1L))
+                .willReturn(new CounselorCallCounts(10L, 2L), new CounselorCallCounts(10L, 1L));
+        cache.get(1L);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L).unreviewed()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("통화 종료 시 담당 상담사 항목은 커밋 후에 비운다")
+    void evictForElderly_AfterCommit() {
+        // given
+        given(callRecordRepository.countCallsForCounselor(1L))
+                .willReturn(new CounselorCallCounts(10L, 2L), new CounselorCallCounts(11L, 3L));
+        given(assignmentRepository.findActiveCounselorIdsByElderlyId(100L)).willReturn(List.of(1L));
+        cache.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evictForElderly(100L);
+
+        // then - 커밋 전에는 이전 값
+        assertThat(cache.get(1L).total()).isEqualTo(10L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(1L).total()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 시작된 집계는 커밋 후 무효화 뒤에 이전 값을 보관하지 않는다")
+    void get_EvictedWhileLoading_DoesNotStoreStaleCounts() {
+        // given - 집계 도중 다른 요청의 커밋 후 무효화가 실행됨
+        given(callRecordRepository.countCallsForCounselor(1L))
+                .willAnswer(invocation -> {
+                    cache.evict(1L);
+                    return new CounselorCallCounts(10L, 2L);
+                })
+                .willReturn(new CounselorCallCounts(10L, 1L));
+
+        // when
+        CounselorCallCounts stale = cache.get(1L);
+        CounselorCallCounts reloaded = cache.get(1L);
+
+        // then
+        assertThat(stale.unreviewed()).isEqualTo(2L);
+        assertThat(reloaded.unreviewed()).isEqualTo(1L);
+        verify(callRecordRepository, times(2)).countCallsForCounselor(1L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aicc.silverlink.domain.call.service;
+
+import com.aicc.silverlink.domain.call.dto.CallReviewDto.GuardianCallReviewResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보호자 통화 목록 쿼리 예산 - 페이지 크기와 무관하게 고정된 쿼리 수
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("ci")
+class GuardianCallHistoryQueryBudgetTest {
+
+    /**
+     * 보호 관계 확인 1 + 통화(+오늘의 상태) 1 + 건수 1 + 리뷰 IN 1 + 대화/응답/요약/감정 배치 4
+     */
+    private static final int MAX_QUERIES = 8;
+
+    @Autowired
+    private CallReviewService callReviewService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("보호자 통화 목록 - 통화마다 리뷰/오늘의 상태를 따로 조회하지 않음")
+    void guardianCallList_RunsConstantQueries() {
+        // given
+        CallTestFixtures fixtures = new CallTestFixtures(em).setUp();
+        for (int i = 0; i < 15; i++) {
+            fixtures.completedCall(LocalDateTime.now().minusDays(i));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // when
+        Page<GuardianCallReviewResponse> page = callReviewService.getCallReviewsForGuardian(
+                fixtures.guardian.getId(), fixtures.elderly.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(page.getContent()).allSatisfy(r -> {
+            assertThat(r.getCounselorComment()).isEqualTo("특이사항 없음");
+            assertThat(r.getDailyStatus().getMeal().getStatus()).isEqualTo("식사함");
+            assertThat(r.getEmotionLevel()).isEqualTo("GOOD");
+            assertThat(r.getResponses()).hasSize(1);
+        });
+        assertThat(stats.getPrepareStatementCount())
+                .as("보호자 통화 목록 쿼리 수")
+                .isLessThanOrEqualTo(MAX_QUERIES);
+    }
+}
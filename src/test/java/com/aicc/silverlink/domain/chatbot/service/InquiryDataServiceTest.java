@@ -0,0 +1,72 @@
+package com.aicc.silverlink.domain.chatbot.service;
+
+import com.aicc.silverlink.domain.chatbot.dto.SyncCursor;
+import com.aicc.silverlink.domain.inquiry.repository.InquiryDataRow;
+import com.aicc.silverlink.domain.inquiry.repository.InquiryRepository;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
+import com.aicc.silverlink.global.config.web.JacksonConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class InquiryDataServiceTest {
+
+    @InjectMocks
+    private InquiryDataService inquiryDataService;
+
+    @Mock
+    private InquiryRepository inquiryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Spy
+    private JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(objectMapper);
+
+    @Test
+    @DisplayName("성공: 변경된 문의를 NDJSON으로 한 줄씩 내보내고 삭제된 문의는 툼스톤만 보낸다")
+    void streamChangedInquiriesAsNdjson() throws Exception {
+        // given
+        LocalDateTime since = LocalDateTime.of(2024, 3, 1, 9, 0);
+        given(inquiryRepository.streamAnsweredDataRowsAfter(since, 5L)).willReturn(Stream.of(
+                new InquiryDataRow(6L, 10L, 20L, "약 복용 문의", "식후 30분입니다.", since, since, false),
+                new InquiryDataRow(7L, 10L, 20L, "개인 연락처 변경", "변경했습니다.", since, since, true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        inquiryDataService.streamChangedInquiries(new SyncCursor(since, 5L), out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode live = objectMapper.readTree(lines[0]);
+        assertThat(live.get("inquiryId").asLong()).isEqualTo(6L);
+        assertThat(live.get("answer").asText()).isEqualTo("식후 30분입니다.");
+        assertThat(live.get("deleted").asBoolean()).isFalse();
+
+        JsonNode tombstone = objectMapper.readTree(lines[1]);
+        assertThat(tombstone.get("inquiryId").asLong()).isEqualTo(7L);
+        assertThat(tombstone.get("deleted").asBoolean()).isTrue();
+        assertThat(tombstone.get("updatedAt").isNull()).isFalse();
+        assertThat(tombstone.get("question").isNull()).isTrue();
+        assertThat(tombstone.get("answer").isNull()).isTrue();
+        assertThat(tombstone.get("guardianUserId").isNull()).isTrue();
+        assertThat(tombstone.get("elderlyUserId").isNull()).isTrue();
+    }
+}
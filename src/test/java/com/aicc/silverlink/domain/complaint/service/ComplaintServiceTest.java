@@ -0,0 +1,104 @@
+package com.aicc.silverlink.domain.complaint.service;
+
+import com.aicc.silverlink.domain.complaint.entity.Complaint.ComplaintStatus;
+import com.aicc.silverlink.domain.complaint.repository.ComplaintRepository;
+import com.aicc.silverlink.domain.notification.service.AdminRecipientCache;
+import com.aicc.silverlink.domain.notification.service.NotificationService;
+import com.aicc.silverlink.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ComplaintService 단위 테스트")
+class ComplaintServiceTest {
+
+    @InjectMocks
+    private ComplaintService complaintService;
+
+    @Mock
+    private ComplaintRepository complaintRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private AdminRecipientCache adminRecipientCache;
+
+    @Nested
+    @DisplayName("내 민원 통계")
+    class GetMyComplaintStats {
+
+        @Test
+        @DisplayName("상태별 건수를 집계 한 번으로 조회하고, 반려 건도 전체 건수에 포함한다")
+        void countsEachStatusAndIncludesRejectedInTotal() {
+            // given
+            given(complaintRepository.countByStatusForWriter(1L)).willReturn(List.<Object[]>of(
+                    new Object[]{ComplaintStatus.WAITING, 3L},
+                    new Object[]{ComplaintStatus.PROCESSING, 2L},
+                    new Object[]{ComplaintStatus.RESOLVED, 4L},
+                    new Object[]{ComplaintStatus.REJECTED, 1L}));
+
+            // when
+            Map<String, Long> stats = complaintService.getMyComplaintStats(1L);
+
+            // then
+            assertThat(stats)
+                    .containsEntry("pending", 3L)
+                    .containsEntry("processing", 2L)
+                    .containsEntry("resolved", 4L)
+                    .containsEntry("total", 10L);
+            verify(complaintRepository, times(1)).countByStatusForWriter(1L);
+        }
+
+        @Test
+        @DisplayName("없는 상태는 0건으로 채운다")
+        void missingStatusesAreZero() {
+            // given
+            given(complaintRepository.countByStatusForWriter(1L)).willReturn(List.<Object[]>of(
+                    new Object[]{ComplaintStatus.REJECTED, 2L}));
+
+            // when
+            Map<String, Long> stats = complaintService.getMyComplaintStats(1L);
+
+            // then
+            assertThat(stats)
+                    .containsEntry("pending", 0L)
+                    .containsEntry("processing", 0L)
+                    .containsEntry("resolved", 0L)
+                    .containsEntry("total", 2L);
+        }
+
+        @Test
+        @DisplayName("민원이 없으면 모두 0건")
+        void noComplaints() {
+            // given
+            given(complaintRepository.countByStatusForWriter(1L)).willReturn(List.of());
+
+            // when
+            Map<String, Long> stats = complaintService.getMyComplaintStats(1L);
+
+            // then
+            assertThat(stats).containsOnly(
+                    Map.entry("pending", 0L),
+                    Map.entry("processing", 0L),
+                    Map.entry("resolved", 0L),
+                    Map.entry("total", 0L));
+        }
+    }
+}
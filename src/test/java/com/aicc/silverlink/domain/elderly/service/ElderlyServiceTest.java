@@ -15,6 +15,7 @@ import com.aicc.silverlink.domain.elderly.dto.response.ElderlySummaryResponse;
 import com.aicc.silverlink.domain.elderly.dto.response.HealthInfoResponse;
 import com.aicc.silverlink.domain.elderly.entity.Elderly;
 import com.aicc.silverlink.domain.elderly.entity.ElderlyHealthInfo;
+import com.aicc.silverlink.domain.elderly.repository.ElderlyDirectoryRow;
 import com.aicc.silverlink.domain.elderly.repository.ElderlyRepository;
 import com.aicc.silverlink.domain.elderly.repository.HealthInfoRepository;
 import com.aicc.silverlink.domain.guardian.repository.GuardianElderlyRepository;
@@ -24,19 +25,29 @@ import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.user.entity.User;
 import com.aicc.silverlink.domain.user.entity.UserStatus;
 import com.aicc.silverlink.domain.user.repository.UserRepository;
+import com.aicc.silverlink.global.common.dto.CursorRequest;
+import com.aicc.silverlink.global.common.response.CursorResponse;
+import com.aicc.silverlink.global.common.response.JsonStreamWriter;
+import com.aicc.silverlink.global.config.web.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -66,6 +77,11 @@ class ElderlyServiceTest {
     private CounselorService counselorService;
     @Mock
     private AccessRequestRepository accessRequestRepo; // 누락된 Mock 추가
+    @Spy
+    private ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Spy
+    private JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(objectMapper);
 
     private AdministrativeDivision division;
     private User elderlyUser;
@@ -100,12 +116,16 @@ class ElderlyServiceTest {
         verify(elderlyRepo, times(1)).save(any());
     }
 
+    private ElderlyDirectoryRow directoryRow(Long userId, String name) {
+        return new ElderlyDirectoryRow(userId, name, "01011112222", 11110L, "서울시", "종로구", null,
+                LocalDate.of(1950, 1, 1), Elderly.Gender.M, null, null, null, "김보호", "박상담");
+    }
+
     @Test
     @DisplayName("성공: 관리자가 전체 어르신 목록을 조회한다")
     void getAllElderlyForAdmin() {
         // given
-        Elderly elderly = Elderly.create(elderlyUser, division, LocalDate.of(1950, 1, 1), Elderly.Gender.M);
-        given(elderlyRepo.findAllWithUserAndDivision()).willReturn(List.of(elderly));
+        given(elderlyRepo.findDirectoryRows()).willReturn(List.of(directoryRow(10L, "이노인")));
 
         // when
         List<ElderlySummaryResponse> result = elderlyService.getAllElderlyForAdmin();
@@ -113,6 +133,62 @@ class ElderlyServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).name()).isEqualTo("이노인");
+        assertThat(result.get(0).fullAddress()).isEqualTo("서울시 종로구");
+        assertThat(result.get(0).guardianName()).isEqualTo("김보호");
+        assertThat(result.get(0).counselorName()).isEqualTo("박상담");
+        // 보호자/배정 전체 목록을 따로 읽지 않음
+        verifyNoInteractions(guardianElderlyRepo, assignmentRepo);
+    }
+
+    @Test
+    @DisplayName("성공: 관리자 어르신 목록을 커서로 나눠 조회한다")
+    void getElderlyDirectoryForAdmin() {
+        // given
+        given(elderlyRepo.findDirectoryRowsAfter(10L, Limit.of(3)))
+                .willReturn(List.of(directoryRow(11L, "가"), directoryRow(12L, "나"), directoryRow(13L, "다")));
+
+        // when
+        CursorResponse<ElderlySummaryResponse> result = elderlyService.getElderlyDirectoryForAdmin(
+                new CursorRequest(10L, 2));
+
+        // then
+        assertThat(result.content()).extracting(ElderlySummaryResponse::userId).containsExactly(11L, 12L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextKey()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("성공: 어르신 목록을 NDJSON으로 한 줄씩 내보낸다")
+    void exportElderlyDirectoryAsNdjson() throws Exception {
+        // given
+        given(elderlyRepo.streamDirectoryRows())
+                .willReturn(Stream.of(directoryRow(10L, "이노인"), directoryRow(11L, "김노인")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        elderlyService.exportElderlyDirectory(out, JsonStreamWriter.Format.NDJSON);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("name").asText()).isEqualTo("이노인");
+        assertThat(objectMapper.readTree(lines[1]).get("birthDate").asText()).isEqualTo("1950-01-01");
+    }
+
+    @Test
+    @DisplayName("성공: 어르신 목록을 JSON 배열로 내보낸다")
+    void exportElderlyDirectoryAsJsonArray() throws Exception {
+        // given
+        given(elderlyRepo.streamDirectoryRows()).willReturn(Stream.of(directoryRow(10L, "이노인")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        elderlyService.exportElderlyDirectory(out, JsonStreamWriter.Format.JSON);
+
+        // then
+        var json = objectMapper.readTree(out.toString(StandardCharsets.UTF_8));
+        assertThat(json.isArray()).isTrue();
+        assertThat(json.get(0).get("guardianName").asText()).isEqualTo("김보호");
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.aicc.silverlink.domain.emergency.scheduler;
+
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.service.SmsOutboxService;
+import com.aicc.silverlink.domain.notification.service.NotificationSmsService;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.infra.external.sms.SmsRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SmsOutboxWorker 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SmsOutboxWorkerTest {
+
+    @Mock
+    private SmsOutboxService outboxService;
+
+    @Mock
+    private NotificationSmsService notificationSmsService;
+
+    @Mock
+    private SmsRateLimiter rateLimiter;
+
+    private final List<Runnable> emergencyTasks = new ArrayList<>();
+    private final List<Runnable> outboxTasks = new ArrayList<>();
+
+    private SmsOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new SmsOutboxWorker(outboxService, notificationSmsService, rateLimiter,
+                emergencyTasks::add, outboxTasks::add);
+
+        given(rateLimiter.tryAcquire(anyInt(), any(Duration.class))).willReturn(true);
+        given(outboxService.claim(any())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("점유한 뒤 긴급 건은 긴급 발송 풀, 일반 건은 아웃박스 풀에 제출")
+    void drain_ClaimsBeforeSubmitAndRoutesByType() {
+        // given
+        SmsLog emergency = emergencyLog(1L);
+        SmsLog routine = routineLog(2L);
+        given(outboxService.findDue()).willReturn(List.of(emergency, routine));
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboxService).claim(emergency);
+        verify(outboxService).claim(routine);
+        assertThat(emergencyTasks).hasSize(1);
+        assertThat(outboxTasks).hasSize(1);
+
+        emergencyTasks.get(0).run();
+        verify(outboxService).deliverClaimed(emergency);
+        verify(outboxService, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 먼저 점유하면 토큰을 돌려주고 제출하지 않음")
+    void drain_ClaimLost_RefundsTokens() {
+        // given
+        SmsLog emergency = emergencyLog(1L);
+        given(outboxService.findDue()).willReturn(List.of(emergency));
+        given(outboxService.claim(emergency)).willReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(rateLimiter).release(2);
+        assertThat(emergencyTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발송 풀이 거절하면 토큰과 점유를 되돌리고 이번 회차 중단")
+    void drain_Rejected_RefundsTokensAndReleasesClaim() {
+        // given
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        worker = new SmsOutboxWorker(outboxService, notificationSmsService, rateLimiter,
+                emergencyTasks::add, rejecting);
+
+        SmsLog first = routineLog(2L);
+        SmsLog second = routineLog(3L);
+        given(outboxService.findDue()).willReturn(List.of(first, second));
+
+        // when
+        worker.drain();
+
+        // then
+        verify(rateLimiter).release(1);
+        verify(outboxService).release(first);
+        verify(outboxService, never()).claim(second);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 점유하지 않고 다음 회차로 넘김")
+    void drain_RateLimited_StopsWithoutClaim() {
+        // given
+        given(outboxService.findDue()).willReturn(List.of(routineLog(2L)));
+        given(rateLimiter.tryAcquire(anyInt(), any(Duration.class))).willReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboxService, never()).claim(any());
+        assertThat(outboxTasks).isEmpty();
+    }
+
+    private SmsLog emergencyLog(Long id) {
+        SmsLog smsLog = SmsLog.createForEmergencyAlert(receiver(), "+821033334444",
+                EmergencyAlert.Severity.CRITICAL, 1L, "[긴급] 본문", "상세 확인:\nhttps://x/guardian/alerts",
+                "https://x/guardian/alerts");
+        ReflectionTestUtils.setField(smsLog, "id", id);
+        return smsLog;
+    }
+
+    private SmsLog routineLog(Long id) {
+        SmsLog smsLog = SmsLog.createForInquiryReply(receiver(), "+821033334444", 10L,
+                "[실버링크]\n문의에 답변이 등록되었습니다.", "https://x/guardian/inquiry");
+        ReflectionTestUtils.setField(smsLog, "id", id);
+        return smsLog;
+    }
+
+    private User receiver() {
+        return User.createLocal("guardian01", "pw", "김보호", "01033334444", null, Role.GUARDIAN, null);
+    }
+}
@@ -16,6 +16,7 @@ import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.Severity;
 import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
 import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
 import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import com.aicc.silverlink.domain.emergency.scheduler.EmergencyEscalationScheduler;
 import com.aicc.silverlink.domain.guardian.entity.Guardian;
 import com.aicc.silverlink.domain.guardian.entity.GuardianElderly;
 import com.aicc.silverlink.domain.guardian.entity.RelationType;
@@ -42,6 +43,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,6 +86,9 @@ class EmergencyAlertServiceTest {
     @Mock
     private SmsService smsService;
 
+    @Mock
+    private EmergencyEscalationScheduler escalationScheduler;
+
     // 테스트 픽스처
     private User elderlyUser;
     private User counselorUser;
@@ -215,14 +220,65 @@ class EmergencyAlertServiceTest {
             Page<EmergencyAlert> page = new PageImpl<>(List.of(emergencyAlert), pageable, 1);
 
             given(alertRepository.findByCounselorId(2L, pageable)).willReturn(page);
-            given(guardianElderlyRepository.findByElderlyId(anyLong()))
-                    .willReturn(Optional.of(guardianElderly));
+            given(guardianElderlyRepository.findAllByElderlyIdIn(anyCollection()))
+                    .willReturn(List.of(guardianElderly));
 
             // when
             Page<SummaryResponse> result = emergencyAlertService.getAlertsForCounselor(2L, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getGuardianName()).isEqualTo("김보호");
+        }
+
+        @Test
+        @DisplayName("성공 - 목록 크기와 무관하게 보호자 조회는 IN 쿼리 1회")
+        void getAlertsForCounselor_BatchedGuardianLookup() {
+            // given
+            Pageable pageable = PageRequest.of(0, 20);
+            List<EmergencyAlert> alerts = new ArrayList<>();
+            for (long i = 0; i < 20; i++) {
+                EmergencyAlert alert = EmergencyAlert.builder()
+                        .elderly(elderly)
+                        .severity(Severity.WARNING)
+                        .alertType(AlertType.HEALTH)
+                        .title("알림 " + i)
+                        .description("설명")
+                        .status(AlertStatus.PENDING)
+                        .build();
+                setAlertId(alert, 200L + i);
+                alerts.add(alert);
+            }
+            Page<EmergencyAlert> page = new PageImpl<>(alerts, pageable, alerts.size());
+
+            given(alertRepository.findByCounselorId(2L, pageable)).willReturn(page);
+            given(guardianElderlyRepository.findAllByElderlyIdIn(anyCollection()))
+                    .willReturn(List.of(guardianElderly));
+
+            // when
+            Page<SummaryResponse> result = emergencyAlertService.getAlertsForCounselor(2L, pageable);
+
+            // then
+            assertThat(result.getContent()).hasSize(20)
+                    .allSatisfy(r -> assertThat(r.getGuardianPhone()).isEqualTo("01012345678"));
+            verify(guardianElderlyRepository, times(1)).findAllByElderlyIdIn(anyCollection());
+            verify(guardianElderlyRepository, never()).findByElderlyId(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공 - 상담사용 미처리 알림 목록 조회 (보호자 없음)")
+        void getPendingAlertsForCounselor_WithoutGuardian() {
+            // given
+            given(alertRepository.findPendingByCounselorId(2L)).willReturn(List.of(emergencyAlert));
+            given(guardianElderlyRepository.findAllByElderlyIdIn(anyCollection())).willReturn(List.of());
+
+            // when
+            List<SummaryResponse> result = emergencyAlertService.getPendingAlertsForCounselor(2L);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getGuardianName()).isNull();
+            verify(guardianElderlyRepository, times(1)).findAllByElderlyIdIn(anyCollection());
         }
 
         @Test
@@ -233,8 +289,8 @@ class EmergencyAlertServiceTest {
             Page<EmergencyAlert> page = new PageImpl<>(List.of(emergencyAlert), pageable, 1);
 
             given(alertRepository.findAllWithDetails(pageable)).willReturn(page);
-            given(guardianElderlyRepository.findByElderlyId(anyLong()))
-                    .willReturn(Optional.of(guardianElderly));
+            given(guardianElderlyRepository.findAllByElderlyIdIn(anyCollection()))
+                    .willReturn(List.of(guardianElderly));
 
             // when
             Page<SummaryResponse> result = emergencyAlertService.getAlertsForAdmin(pageable);
@@ -243,6 +299,39 @@ class EmergencyAlertServiceTest {
             assertThat(result.getContent()).hasSize(1);
         }
 
+        @Test
+        @DisplayName("성공 - 시/군/구 관리자는 지역 코드 인덱스로 관할 알림 조회")
+        void getAlertsForAdminJurisdiction_City() {
+            // given
+            AdministrativeDivision gangnamGu = AdministrativeDivision.builder()
+                    .admCode(1168000000L)
+                    .sidoCode("11")
+                    .sigunguCode("680")
+                    .sidoName("서울특별시")
+                    .sigunguName("강남구")
+                    .level(DivisionLevel.SIGUNGU)
+                    .build();
+            Admin cityAdmin = Admin.builder()
+                    .user(adminUser)
+                    .administrativeDivision(gangnamGu)
+                    .build();
+
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<EmergencyAlert> page = new PageImpl<>(List.of(emergencyAlert), pageable, 1);
+
+            given(adminRepository.findByIdWithUser(4L)).willReturn(Optional.of(cityAdmin));
+            given(alertRepository.findBySigungu("11", "680", pageable)).willReturn(page);
+            given(guardianElderlyRepository.findAllByElderlyIdIn(anyCollection())).willReturn(List.of());
+
+            // when
+            Page<SummaryResponse> result = emergencyAlertService.getAlertsForAdminJurisdiction(4L, pageable);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            verify(alertRepository).findBySigungu("11", "680", pageable);
+            verify(alertRepository, never()).findAllWithDetails(any(Pageable.class));
+        }
+
         @Test
         @DisplayName("성공 - 알림 상세 조회")
         void getAlertDetail_Success() {
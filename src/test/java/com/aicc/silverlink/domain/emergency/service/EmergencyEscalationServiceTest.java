@@ -0,0 +1,190 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.admin.entity.Admin;
+import com.aicc.silverlink.domain.admin.entity.Admin.AdminLevel;
+import com.aicc.silverlink.domain.admin.repository.AdminRepository;
+import com.aicc.silverlink.domain.elderly.entity.Elderly;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.AlertStatus;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.AlertType;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert.Severity;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient.ReceiverRole;
+import com.aicc.silverlink.domain.emergency.event.EmergencyAlertCreatedEvent;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRepository;
+import com.aicc.silverlink.domain.system.entity.AdministrativeDivision;
+import com.aicc.silverlink.domain.system.entity.AdministrativeDivision.DivisionLevel;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.domain.user.entity.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("EmergencyEscalationService 테스트")
+class EmergencyEscalationServiceTest {
+
+    @InjectMocks
+    private EmergencyEscalationService escalationService;
+
+    @Mock
+    private EmergencyAlertRepository alertRepository;
+
+    @Mock
+    private EmergencyAlertRecipientRepository recipientRepository;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AdministrativeDivision yeoksamDong;
+    private EmergencyAlert alert;
+    private User districtAdminUser;
+
+    @BeforeEach
+    void setUp() {
+        yeoksamDong = AdministrativeDivision.builder()
+                .admCode(1168010100L)
+                .sidoCode("11")
+                .sigunguCode("680")
+                .dongCode("101")
+                .sidoName("서울특별시")
+                .sigunguName("강남구")
+                .dongName("역삼1동")
+                .level(DivisionLevel.DONG)
+                .build();
+
+        User elderlyUser = user(1L, "elderly1", Role.ELDERLY);
+        Elderly elderly = Elderly.builder()
+                .user(elderlyUser)
+                .administrativeDivision(yeoksamDong)
+                .birthDate(LocalDate.of(1940, 5, 15))
+                .gender(Elderly.Gender.F)
+                .build();
+
+        alert = EmergencyAlert.builder()
+                .elderly(elderly)
+                .severity(Severity.CRITICAL)
+                .alertType(AlertType.HEALTH)
+                .title("긴급: 낙상 감지")
+                .description("설명")
+                .status(AlertStatus.PENDING)
+                .build();
+        setField(EmergencyAlert.class, alert, "id", 100L);
+
+        districtAdminUser = user(10L, "district", Role.ADMIN);
+        EmergencyAlertRecipient initial = EmergencyAlertRecipient.create(alert, districtAdminUser, ReceiverRole.ADMIN, true);
+        given(recipientRepository.findByEmergencyAlertId(100L)).willReturn(List.of(initial));
+        given(alertRepository.findByIdWithDetails(100L)).willReturn(Optional.of(alert));
+    }
+
+    @Test
+    @DisplayName("성공 - 시/군/구 관리자에게 에스컬레이션하고 SMS/이벤트 발행")
+    void escalate_ToCityTier() {
+        // given
+        Admin cityAdmin = admin(20L, "city", AdminLevel.CITY);
+        Admin provincialAdmin = admin(30L, "province", AdminLevel.PROVINCIAL);
+        given(adminRepository.findSupervisors(1168010100L)).willReturn(List.of(cityAdmin, provincialAdmin));
+
+        // when
+        boolean escalated = escalationService.escalate(100L);
+
+        // then
+        assertThat(escalated).isTrue();
+        assertThat(alert.getEscalationLevel()).isEqualTo(1);
+        assertThat(alert.getStatus()).isEqualTo(AlertStatus.PENDING);
+        ArgumentCaptor<EmergencyAlertCreatedEvent> captor = ArgumentCaptor.forClass(EmergencyAlertCreatedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getRecipientUserIds()).containsExactly(20L);
+        assertThat(captor.getValue().getSmsRecipientIds()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 신규 수신자가 없는 단계는 건너뛰고 다음 단계로 에스컬레이션")
+    void escalate_SkipsTierWithoutNewRecipients() {
+        // given
+        Admin nationalAdmin = admin(40L, "national", AdminLevel.NATIONAL);
+        given(adminRepository.findSupervisors(1168010100L)).willReturn(List.of());
+        given(adminRepository.findByAdminLevel(AdminLevel.NATIONAL)).willReturn(List.of(nationalAdmin));
+
+        // when
+        boolean escalated = escalationService.escalate(100L);
+
+        // then
+        assertThat(escalated).isTrue();
+        assertThat(alert.getEscalationLevel()).isEqualTo(EmergencyEscalationService.MAX_ESCALATION_LEVEL);
+        verify(recipientRepository).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("생략 - 이미 처리된 알림은 에스컬레이션하지 않음")
+    void escalate_SkipsProcessedAlert() {
+        // given
+        alert.resolve(districtAdminUser, "처리 완료");
+
+        // when
+        boolean escalated = escalationService.escalate(100L);
+
+        // then
+        assertThat(escalated).isFalse();
+        verify(adminRepository, never()).findSupervisors(anyLong());
+        verify(recipientRepository, never()).saveAll(anyIterable());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    // ========== Helper Methods ==========
+
+    private User user(Long id, String loginId, Role role) {
+        User user = User.builder()
+                .loginId(loginId)
+                .passwordHash("encoded")
+                .name(loginId)
+                .phone("01000000000")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+        setField(User.class, user, "id", id);
+        return user;
+    }
+
+    private Admin admin(Long userId, String loginId, AdminLevel level) {
+        Admin admin = Admin.builder()
+                .user(user(userId, loginId, Role.ADMIN))
+                .administrativeDivision(yeoksamDong)
+                .adminLevel(level)
+                .build();
+        setField(Admin.class, admin, "userId", userId);
+        return admin;
+    }
+
+    private <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            var field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * EmergencySmsFanOutService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmergencySmsFanOutServiceTest {
+
+    @Mock
+    private EmergencyAlertRecipientRepository recipientRepository;
+
+    @Mock
+    private SmsLogRepository smsLogRepository;
+
+    @Mock
+    private SmsService smsService;
+
+    @Mock
+    private SmsOutboxService smsOutboxService;
+
+    private EmergencySmsFanOutService fanOutService;
+
+    @BeforeEach
+    void setUp() {
+        // 호출 스레드에서 바로 실행하는 실행기로 병렬 발송 경로 검증
+        fanOutService = new EmergencySmsFanOutService(recipientRepository, smsLogRepository, smsService,
+                smsOutboxService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("수신자 일괄 조회 → 로그 일괄 저장 후 저장된 로그 ID 반환")
+    void enqueue_BatchLoadsAndSaves() {
+        // given
+        EmergencyAlert alert = mock(EmergencyAlert.class);
+        List<EmergencyAlertRecipient> recipients = List.of(
+                mock(EmergencyAlertRecipient.class),
+                mock(EmergencyAlertRecipient.class),
+                mock(EmergencyAlertRecipient.class));
+        recipients.forEach(r -> given(r.getEmergencyAlert()).willReturn(alert));
+        given(recipientRepository.findAllByIdInWithAlertDetails(List.of(10L, 11L, 12L))).willReturn(recipients);
+
+        List<SmsLog> logs = List.of(smsLog(100L, "+821011110001"), smsLog(101L, "+821011110002"),
+                smsLog(102L, "+821011110003"));
+        given(smsService.prepareEmergencyAlertLogs(alert, recipients)).willReturn(logs);
+
+        // when
+        List<Long> smsLogIds = fanOutService.enqueue(1L, List.of(10L, 11L, 12L));
+
+        // then
+        assertThat(smsLogIds).containsExactly(100L, 101L, 102L);
+        verify(recipientRepository, times(1)).findAllByIdInWithAlertDetails(anyCollection());
+        verify(smsLogRepository, times(1)).saveAll(logs);
+        verifyNoInteractions(smsOutboxService);
+    }
+
+    @Test
+    @DisplayName("저장된 로그를 한 번에 조회해 수신자별 발송 후 지표 기록")
+    void fanOut_DispatchesAndRecordsStats() {
+        // given
+        EmergencyAlert alert = alert();
+        List<SmsLog> logs = List.of(smsLog(100L, "+821011110001"), smsLog(101L, "+821011110002"),
+                smsLog(102L, "+821011110003"));
+        given(smsLogRepository.findAllById(List.of(100L, 101L, 102L))).willReturn(logs);
+
+        // when
+        fanOutService.fanOut(alert, List.of(100L, 101L, 102L));
+
+        // then
+        logs.forEach(l -> verify(smsOutboxService).dispatch(l));
+        verifyNoInteractions(recipientRepository);
+
+        assertThat(fanOutService.getStats().fanOutCount()).isEqualTo(1);
+        assertThat(fanOutService.getStats().lastRecipientCount()).isEqualTo(3);
+        assertThat(fanOutService.getStats().lastTimeToLastSmsMillis()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("발송 풀이 가득 차 거절되면 호출 스레드에서 발송하지 않고 PENDING으로 남김")
+    void fanOut_SendPoolRejected_LeavesPending() {
+        // given
+        fanOutService = new EmergencySmsFanOutService(recipientRepository, smsLogRepository, smsService,
+                smsOutboxService, task -> {
+                    throw new RejectedExecutionException("full");
+                });
+        EmergencyAlert alert = alert();
+        List<SmsLog> logs = List.of(smsLog(100L, "+821011110001"), smsLog(101L, "+821011110002"));
+        given(smsLogRepository.findAllById(List.of(100L, 101L))).willReturn(logs);
+
+        // when
+        fanOutService.fanOut(alert, List.of(100L, 101L));
+
+        // then
+        verify(smsOutboxService, never()).dispatch(any());
+        assertThat(logs).allMatch(l -> l.getStatus() == SmsLog.SmsStatus.PENDING);
+        assertThat(fanOutService.getStats().lastDeferredCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대상 수신자가 없으면 아무것도 하지 않음")
+    void fanOut_EmptyRecipients() {
+        // when
+        List<Long> smsLogIds = fanOutService.enqueue(1L, List.of());
+        fanOutService.fanOut(alert(), smsLogIds);
+
+        // then
+        verifyNoInteractions(recipientRepository, smsLogRepository, smsOutboxService);
+    }
+
+    private EmergencyAlert alert() {
+        EmergencyAlert alert = mock(EmergencyAlert.class);
+        given(alert.getId()).willReturn(1L);
+        given(alert.getSeverity()).willReturn(EmergencyAlert.Severity.CRITICAL);
+        given(alert.getEscalationBaseTime()).willReturn(LocalDateTime.now().minusSeconds(1));
+        return alert;
+    }
+
+    private SmsLog smsLog(Long id, String phone) {
+        User receiver = User.createLocal("u" + phone, "pw", "수신자", phone, null, Role.ADMIN, null);
+        SmsLog smsLog = SmsLog.createForEmergencyAlert(receiver, phone, EmergencyAlert.Severity.CRITICAL, 1L,
+                "[긴급] 본문", "상세 확인:\nhttps://x/admin", "https://x/admin");
+        ReflectionTestUtils.setField(smsLog, "id", id);
+        return smsLog;
+    }
+}
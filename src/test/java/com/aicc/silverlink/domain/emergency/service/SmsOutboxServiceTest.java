@@ -0,0 +1,213 @@
+package com.aicc.silverlink.domain.emergency.service;
+
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
+import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.entity.SmsLog.SmsStatus;
+import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
+import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import com.aicc.silverlink.global.config.sms.SmsProperties;
+import com.aicc.silverlink.infra.external.sms.SmsRateLimiter;
+import com.aicc.silverlink.infra.external.sms.SmsSendException;
+import com.aicc.silverlink.infra.external.sms.SmsSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SmsOutboxService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SmsOutboxServiceTest {
+
+    @Mock
+    private SmsLogRepository smsLogRepository;
+
+    @Mock
+    private EmergencyAlertRecipientRepository recipientRepository;
+
+    @Mock
+    private SmsSender smsSender;
+
+    @Mock
+    private SmsRateLimiter rateLimiter;
+
+    private SmsProperties properties;
+    private SmsOutboxService outboxService;
+    private User guardianUser;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SmsProperties();
+        properties.getOutbox().setMaxAttempts(3);
+        properties.getOutbox().setInitialBackoffSeconds(10);
+        properties.getOutbox().setMaxBackoffSeconds(60);
+        outboxService = new SmsOutboxService(smsLogRepository, recipientRepository, smsSender, rateLimiter,
+                properties);
+
+        guardianUser = User.createLocal("guardian01", "pw", "김보호", "01033334444", null, Role.GUARDIAN, null);
+        ReflectionTestUtils.setField(guardianUser, "id", 2L);
+
+        given(rateLimiter.tryAcquire(anyInt(), any(Duration.class))).willReturn(true);
+        given(smsLogRepository.claimForDelivery(anyLong(), anyInt(), any(LocalDateTime.class))).willReturn(1);
+    }
+
+    private SmsLog emergencyLog() {
+        SmsLog smsLog = SmsLog.createForEmergencyAlert(guardianUser, "+821033334444",
+                EmergencyAlert.Severity.CRITICAL, 1L, "[긴급] 본문", "상세 확인:\nhttps://x/guardian/alerts",
+                "https://x/guardian/alerts");
+        ReflectionTestUtils.setField(smsLog, "id", 100L);
+        return smsLog;
+    }
+
+    @Test
+    @DisplayName("분할 메시지를 순서대로 발송하고 수신자 상태를 발송 완료로 갱신")
+    void dispatch_SendsAllSegments() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        EmergencyAlertRecipient recipient = mock(EmergencyAlertRecipient.class);
+        given(recipientRepository.findByEmergencyAlertIdAndReceiverId(1L, 2L)).willReturn(Optional.of(recipient));
+        given(smsSender.send(anyString(), anyString())).willReturn("SM1", "SM2");
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        verify(smsSender).send("+821033334444", "[긴급] 본문");
+        verify(smsSender).send("+821033334444", "상세 확인:\nhttps://x/guardian/alerts");
+        assertThat(smsLog.getStatus()).isEqualTo(SmsStatus.SENT);
+        assertThat(smsLog.getExternalMsgId()).isEqualTo("SM2");
+        assertThat(smsLog.getAttemptCount()).isEqualTo(1);
+        verify(recipient).markSmsSent();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 발송하지 않고 아웃박스에 남김")
+    void dispatch_RateLimited() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        given(rateLimiter.tryAcquire(anyInt(), any(Duration.class))).willReturn(false);
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        verifyNoInteractions(smsSender);
+        verify(smsLogRepository, never()).claimForDelivery(anyLong(), anyInt(), any());
+        assertThat(smsLog.getStatus()).isEqualTo(SmsStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("다른 워커가 먼저 점유하면 발송하지 않고 획득한 토큰을 반환")
+    void dispatch_ClaimLost_RefundsTokens() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        given(smsLogRepository.claimForDelivery(anyLong(), anyInt(), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        verifyNoInteractions(smsSender);
+        verify(smsLogRepository, never()).save(any());
+        verify(rateLimiter).release(2);
+    }
+
+    @Test
+    @DisplayName("점유 반환 시 점유한 시도 횟수 기준으로 되돌림")
+    void release_RevertsClaimedAttempt() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        assertThat(outboxService.claim(smsLog)).isTrue();
+
+        // when
+        outboxService.release(smsLog);
+
+        // then
+        verify(smsLogRepository).claimForDelivery(eq(100L), eq(0), any(LocalDateTime.class));
+        verify(smsLogRepository).releaseClaim(eq(100L), eq(1), any(LocalDateTime.class));
+        verifyNoInteractions(smsSender);
+    }
+
+    @Test
+    @DisplayName("일시적 실패 시 보낸 세그먼트는 유지한 채 백오프 후 재시도 예약")
+    void dispatch_RetryableFailure_SchedulesRetry() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        given(smsSender.send(anyString(), anyString()))
+                .willReturn("SM1")
+                .willThrow(new SmsSendException("Too Many Requests", true));
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        assertThat(smsLog.getStatus()).isEqualTo(SmsStatus.PENDING);
+        assertThat(smsLog.getSentSegments()).isEqualTo(1);
+        assertThat(smsLog.remainingSegments()).isEqualTo(1);
+        assertThat(smsLog.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(4));
+        verify(smsLogRepository).save(smsLog);
+        verifyNoInteractions(recipientRepository);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 DEAD 처리하고 수신자 상태를 실패로 갱신")
+    void dispatch_MaxAttempts_DeadLetter() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        ReflectionTestUtils.setField(smsLog, "attemptCount", 2);
+        EmergencyAlertRecipient recipient = mock(EmergencyAlertRecipient.class);
+        given(recipientRepository.findByEmergencyAlertIdAndReceiverId(1L, 2L)).willReturn(Optional.of(recipient));
+        given(smsSender.send(anyString(), anyString())).willThrow(new SmsSendException("timeout", true));
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        assertThat(smsLog.getStatus()).isEqualTo(SmsStatus.DEAD);
+        assertThat(smsLog.getAttemptCount()).isEqualTo(3);
+        verify(recipient).markSmsFailed();
+        assertThat(outboxService.getStats().deadLetteredTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류는 즉시 FAILED 처리")
+    void dispatch_NonRetryableFailure() {
+        // given
+        SmsLog smsLog = emergencyLog();
+        given(smsSender.send(anyString(), anyString())).willThrow(new SmsSendException("invalid number", false));
+
+        // when
+        outboxService.dispatch(smsLog);
+
+        // then
+        assertThat(smsLog.getStatus()).isEqualTo(SmsStatus.FAILED);
+        assertThat(smsLog.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 늘어나고 상한을 넘지 않음")
+    void backoff_GrowsAndCaps() {
+        assertThat(outboxService.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(outboxService.backoff(2)).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(20));
+        assertThat(outboxService.backoff(10)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+    }
+}
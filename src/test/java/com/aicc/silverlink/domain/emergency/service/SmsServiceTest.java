@@ -5,11 +5,9 @@ import com.aicc.silverlink.domain.emergency.entity.EmergencyAlert;
 import com.aicc.silverlink.domain.emergency.entity.EmergencyAlertRecipient;
 import com.aicc.silverlink.domain.emergency.entity.SmsLog;
 import com.aicc.silverlink.domain.emergency.entity.SmsLog.MessageType;
-import com.aicc.silverlink.domain.emergency.repository.EmergencyAlertRecipientRepository;
 import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
 import com.aicc.silverlink.domain.user.entity.Role;
 import com.aicc.silverlink.domain.user.entity.User;
-import com.aicc.silverlink.global.config.twilio.TwilioProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,7 +22,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,14 +39,11 @@ class SmsServiceTest {
     @InjectMocks
     private SmsService smsService;
 
-    @Mock
-    private TwilioProperties twilioProperties;
-
     @Mock
     private SmsLogRepository smsLogRepository;
 
     @Mock
-    private EmergencyAlertRecipientRepository recipientRepository;
+    private SmsOutboxService smsOutboxService;
 
     private User elderlyUser;
     private User guardianUser;
@@ -68,9 +63,6 @@ class SmsServiceTest {
         // 상담사 유저
         counselorUser = User.createLocal("counselor01", "pw", "박상담", "01055556666", null, Role.COUNSELOR, null);
         ReflectionTestUtils.setField(counselorUser, "id", 3L);
-
-        // Messaging Service SID 설정
-        ReflectionTestUtils.setField(smsService, "messagingServiceSid", "MG1234567890abcdef");
     }
 
     // ========== 전화번호 형식 변환 테스트 ==========
@@ -300,6 +292,56 @@ class SmsServiceTest {
         }
     }
 
+    // ========== 긴급 알림 SMS 발송 테스트 ==========
+
+    @Nested
+    @DisplayName("긴급 알림 SMS 아웃박스 적재 테스트")
+    class SendEmergencyAlertSmsTest {
+
+        @Test
+        @DisplayName("팬아웃용 로그 일괄 생성 - 역할별 메시지는 한 번만 생성")
+        void prepareEmergencyAlertLogs_RendersOncePerRole() {
+            // given
+            EmergencyAlert alert = mock(EmergencyAlert.class);
+            Elderly mockElderly = mock(Elderly.class);
+            given(alert.getId()).willReturn(1L);
+            given(alert.getSeverity()).willReturn(EmergencyAlert.Severity.CRITICAL);
+            given(alert.getTitle()).willReturn("건강 위험 감지");
+            given(alert.isCritical()).willReturn(true);
+            given(alert.getElderly()).willReturn(mockElderly);
+            given(mockElderly.getUser()).willReturn(elderlyUser);
+            given(mockElderly.age()).willReturn(78);
+
+            User counselor2 = User.createLocal("counselor02", "pw", "이상담", "01077778888", null, Role.COUNSELOR, null);
+            ReflectionTestUtils.setField(counselor2, "id", 4L);
+
+            List<EmergencyAlertRecipient> recipients = List.of(
+                    recipientOf(guardianUser, EmergencyAlertRecipient.ReceiverRole.GUARDIAN),
+                    recipientOf(counselorUser, EmergencyAlertRecipient.ReceiverRole.COUNSELOR),
+                    recipientOf(counselor2, EmergencyAlertRecipient.ReceiverRole.COUNSELOR));
+
+            // when
+            List<SmsLog> logs = smsService.prepareEmergencyAlertLogs(alert, recipients);
+
+            // then
+            assertThat(logs).hasSize(3);
+            assertThat(logs).extracting(SmsLog::getReceiverPhone)
+                    .containsExactly("+821033334444", "+821055556666", "+821077778888");
+            assertThat(logs).extracting(SmsLog::getMessageType).containsOnly(MessageType.EMERGENCY_CRITICAL);
+            assertThat(logs.get(0).segments()).hasSize(2);
+            assertThat(logs.get(0).segments().get(1)).contains("/guardian/alerts");
+            assertThat(logs.get(1).getMessageContent()).isEqualTo(logs.get(2).getMessageContent());
+            verify(mockElderly, times(2)).age(); // 보호자/상담사 역할별 1회
+        }
+
+        private EmergencyAlertRecipient recipientOf(User receiver, EmergencyAlertRecipient.ReceiverRole role) {
+            EmergencyAlertRecipient recipient = mock(EmergencyAlertRecipient.class);
+            given(recipient.getReceiver()).willReturn(receiver);
+            given(recipient.getReceiverRole()).willReturn(role);
+            return recipient;
+        }
+    }
+
     // ========== 긴급 알림 메시지 생성 테스트 ==========
 
     @Nested
@@ -0,0 +1,166 @@
+package com.aicc.silverlink.domain.inquiry.repository;
+
+import com.aicc.silverlink.domain.call.service.CallTestFixtures;
+import com.aicc.silverlink.domain.inquiry.entity.Inquiry;
+import com.aicc.silverlink.domain.inquiry.entity.InquiryAnswer;
+import com.aicc.silverlink.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 챗봇 동기화 프로젝션/증분 피드 쿼리 (H2, ci 프로필)
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("ci")
+class InquiryRepositoryTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime SAME_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private CallTestFixtures fixtures;
+
+    /** 같은 updatedAt 3건 (b는 최신 답변이 삭제됨, c는 삭제된 문의) + 이후 1건 */
+    private Inquiry a;
+    private Inquiry b;
+    private Inquiry c;
+    private Inquiry d;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CallTestFixtures(em).setUp();
+        User guardianUser = fixtures.guardian.getUser();
+        User counselorUser = fixtures.counselor.getUser();
+
+        a = answered(guardianUser, "약 복용 문의", "식후 30분에 드시면 됩니다.");
+        b = answered(guardianUser, "방문 일정 문의", "다음 주 화요일입니다.");
+        InquiryAnswer revised = new InquiryAnswer(b, counselorUser, "수정 중인 답변");
+        em.persist(revised);
+        c = answered(guardianUser, "개인 연락처 변경 문의", "변경해 드렸습니다.");
+        d = answered(guardianUser, "통화 시간 문의", "오전 10시로 조정했습니다.");
+
+        // 다른 작성자의 문의, 답변 전 문의 (관계 조회/피드 대상 아님)
+        answered(counselorUser, "상담사 작성 문의", "확인했습니다.");
+        em.persist(new Inquiry(fixtures.elderly, guardianUser, "대기", "아직 답변 전"));
+        em.flush();
+
+        // 벌크 UPDATE는 @PreUpdate를 거치지 않으므로 시각/삭제 여부를 그대로 고정
+        em.createQuery("UPDATE Inquiry i SET i.updatedAt = :at WHERE i.elderly.id = :elderlyId")
+                .setParameter("at", SAME_AT)
+                .setParameter("elderlyId", fixtures.elderly.getId())
+                .executeUpdate();
+        em.createQuery("UPDATE Inquiry i SET i.updatedAt = :at WHERE i.id = :id")
+                .setParameter("at", SAME_AT.plusMinutes(1))
+                .setParameter("id", d.getId())
+                .executeUpdate();
+        em.createQuery("UPDATE Inquiry i SET i.isDeleted = true WHERE i.id = :id")
+                .setParameter("id", c.getId())
+                .executeUpdate();
+        em.createQuery("UPDATE InquiryAnswer a SET a.isDeleted = true WHERE a.id = :id")
+                .setParameter("id", revised.getId())
+                .executeUpdate();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("증분 피드 - 같은 updatedAt은 id로 이어받고, 삭제된 문의는 툼스톤으로 포함")
+    void streamAnsweredDataRowsAfter_TieBreaksByIdAndEmitsTombstones() {
+        // when
+        List<InquiryDataRow> all = stream(EPOCH, 0L);
+        List<InquiryDataRow> resumed = stream(SAME_AT, b.getId());
+
+        // then
+        // (updatedAt, id) 오름차순: 같은 시각의 a, b, c 다음에 d
+        List<Long> ids = List.of(a.getId(), b.getId(), c.getId(), d.getId());
+        assertThat(all).extracting(InquiryDataRow::inquiryId)
+                .filteredOn(ids::contains)
+                .containsExactlyElementsOf(ids);
+
+        // (SAME_AT, b) 이후: 같은 시각의 b보다 큰 id부터 (a, b는 다시 받지 않음)
+        assertThat(resumed).extracting(InquiryDataRow::inquiryId)
+                .doesNotContain(a.getId(), b.getId())
+                .contains(c.getId(), d.getId());
+
+        InquiryDataRow tombstone = resumed.stream()
+                .filter(row -> row.inquiryId().equals(c.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(tombstone.deleted()).isTrue();
+        assertThat(tombstone.updatedAt()).isEqualTo(SAME_AT);
+        assertThat(tombstone.question()).isNull();
+        assertThat(tombstone.answer()).isNull();
+        assertThat(tombstone.elderlyUserId()).isNull();
+        assertThat(tombstone.guardianUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 동기화 - 삭제되지 않은 최신 답변을 함께 조회하고 삭제된 문의는 제외")
+    void findAnsweredDataRows_UsesLatestLiveAnswer() {
+        // when
+        List<InquiryDataRow> rows = inquiryRepository.findAnsweredDataRows();
+
+        // then
+        assertThat(rows).extracting(InquiryDataRow::inquiryId)
+                .contains(a.getId(), b.getId(), d.getId())
+                .doesNotContain(c.getId());
+        assertThat(answerOf(rows, b)).isEqualTo("다음 주 화요일입니다.");
+        assertThat(answerOf(rows, a)).isEqualTo("식후 30분에 드시면 됩니다.");
+    }
+
+    @Test
+    @DisplayName("관계별 동기화 - 해당 보호자-어르신의 답변 완료 문의만 최신 답변과 함께 조회")
+    void findAnsweredDataRowsByRelation_FiltersByGuardianAndElderly() {
+        // when
+        List<InquiryDataRow> rows = inquiryRepository.findAnsweredDataRowsByRelation(
+                fixtures.guardian.getUser().getId(), fixtures.elderly.getId());
+
+        // then
+        assertThat(rows).extracting(InquiryDataRow::inquiryId)
+                .containsExactlyInAnyOrder(a.getId(), b.getId(), d.getId());
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.guardianUserId()).isEqualTo(fixtures.guardian.getUser().getId());
+            assertThat(row.deleted()).isFalse();
+        });
+        assertThat(answerOf(rows, b)).isEqualTo("다음 주 화요일입니다.");
+    }
+
+    private Inquiry answered(User createdBy, String title, String answerText) {
+        Inquiry inquiry = new Inquiry(fixtures.elderly, createdBy, title, title + " 내용");
+        inquiry.updateStatus(Inquiry.InquiryStatus.ANSWERED);
+        em.persist(inquiry);
+        em.persist(new InquiryAnswer(inquiry, fixtures.counselor.getUser(), answerText));
+        return inquiry;
+    }
+
+    private List<InquiryDataRow> stream(LocalDateTime since, Long afterId) {
+        try (Stream<InquiryDataRow> rows = inquiryRepository.streamAnsweredDataRowsAfter(since, afterId)) {
+            return rows.toList();
+        }
+    }
+
+    private String answerOf(List<InquiryDataRow> rows, Inquiry inquiry) {
+        return rows.stream()
+                .filter(row -> row.inquiryId().equals(inquiry.getId()))
+                .map(InquiryDataRow::answer)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -176,9 +176,9 @@ class NoticeServiceTest {
 
         // 검색 키워드 파라미터 추가
         given(noticeRepository.findAllForUser(Role.ELDERLY, keyword, pageable)).willReturn(noticePage);
-        given(noticeReadLogRepository.existsByNoticeIdAndUserId(1L, 100L)).willReturn(false);
-        given(noticeTargetRoleRepository.findAllByNoticeId(anyLong())).willReturn(Collections.emptyList());
-        given(noticeAttachmentRepository.findAllByNoticeId(anyLong())).willReturn(Collections.emptyList());
+        given(noticeReadLogRepository.findReadNoticeIds(100L, List.of(1L))).willReturn(Collections.emptyList());
+        given(noticeTargetRoleRepository.findAllByNoticeIdIn(List.of(1L))).willReturn(Collections.emptyList());
+        given(noticeAttachmentRepository.findAllByNoticeIdIn(List.of(1L))).willReturn(Collections.emptyList());
 
         // when
         Page<NoticeResponse> result = noticeService.getNoticesForUser(user, keyword, pageable);
@@ -187,6 +187,9 @@ class NoticeServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertFalse(result.getContent().get(0).isRead());
+        verify(noticeTargetRoleRepository, never()).findAllByNoticeId(anyLong());
+        verify(noticeAttachmentRepository, never()).findAllByNoticeId(anyLong());
+        verify(noticeReadLogRepository, never()).existsByNoticeIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
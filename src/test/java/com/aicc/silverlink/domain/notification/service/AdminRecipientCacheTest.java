@@ -0,0 +1,109 @@
+package com.aicc.silverlink.domain.notification.service;
+
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AdminRecipientCache 단위 테스트")
+class AdminRecipientCacheTest {
+
+    @InjectMocks
+    private AdminRecipientCache cache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 관리자 ID를 다시 조회하지 않는다")
+    void getAdminUserIds_CachedWithinTtl() {
+        // given
+        given(userRepository.findIdsByRole(Role.ADMIN)).willReturn(List.of(1L, 2L));
+
+        // when
+        cache.getAdminUserIds();
+        List<Long> ids = cache.getAdminUserIds();
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L);
+        verify(userRepository, times(1)).findIdsByRole(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("TTL(5분)이 지나면 관리자 ID를 다시 조회한다")
+    void getAdminUserIds_ReloadsAfterTtl() {
+        // given
+        given(userRepository.findIdsByRole(Role.ADMIN)).willReturn(List.of(1L, 2L, 3L));
+        long expiredAt = System.currentTimeMillis() - AdminRecipientCache.TTL_MILLIS - 1;
+        ReflectionTestUtils.setField(cache, "cached", new AdminRecipientCache.CachedIds(List.of(1L, 2L), expiredAt));
+
+        // when
+        List<Long> ids = cache.getAdminUserIds();
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+        verify(userRepository, times(1)).findIdsByRole(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("관리자 등록/삭제 시 커밋 후에 비운다")
+    void evict_AfterCommit() {
+        // given
+        given(userRepository.findIdsByRole(Role.ADMIN)).willReturn(List.of(1L), List.of(1L, 2L));
+        cache.getAdminUserIds();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evict();
+
+        // then - 커밋 전에는 이전 목록
+        assertThat(cache.getAdminUserIds()).containsExactly(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.getAdminUserIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 비우지 않는다")
+    void evict_RolledBack_KeepsCachedIds() {
+        // given
+        given(userRepository.findIdsByRole(Role.ADMIN)).willReturn(List.of(1L), List.of(1L, 2L));
+        cache.getAdminUserIds();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evict();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(cache.getAdminUserIds()).containsExactly(1L);
+        verify(userRepository, times(1)).findIdsByRole(Role.ADMIN);
+    }
+}
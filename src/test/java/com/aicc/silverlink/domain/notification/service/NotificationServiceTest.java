@@ -182,6 +182,43 @@ class NotificationServiceTest {
             assertThat(result.getContent()).contains("거절");
         }
 
+        @Test
+        @DisplayName("성공 - 새 민원 알림 관리자 전체 일괄 생성")
+        void createComplaintNewNotifications_Success() {
+            // given
+            given(userRepository.getReferenceById(2L)).willReturn(adminUser);
+            given(userRepository.getReferenceById(3L)).willReturn(adminUser);
+            given(notificationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            List<Notification> result = notificationService.createComplaintNewNotifications(
+                    List.of(2L, 3L), 500L, "김보호", "테스트 민원");
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result).allSatisfy(n -> {
+                assertThat(n.getNotificationType()).isEqualTo(NotificationType.COMPLAINT_NEW);
+                assertThat(n.getReferenceId()).isEqualTo(500L);
+            });
+            then(notificationRepository).should().saveAll(anyList());
+            then(notificationRepository).should(never()).save(any(Notification.class));
+            then(userRepository).should(never()).findById(anyLong());
+            then(unifiedSseService).should().sendNotification(eq(2L), any(Notification.class));
+            then(unifiedSseService).should().sendNotification(eq(3L), any(Notification.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 관리자가 없으면 저장하지 않음")
+        void createComplaintNewNotifications_NoAdmins() {
+            // when
+            List<Notification> result = notificationService.createComplaintNewNotifications(
+                    List.of(), 500L, "김보호", "테스트 민원");
+
+            // then
+            assertThat(result).isEmpty();
+            then(notificationRepository).should(never()).saveAll(anyList());
+        }
+
         @Test
         @DisplayName("실패 - 존재하지 않는 사용자")
         void createNotification_Fail_UserNotFound() {
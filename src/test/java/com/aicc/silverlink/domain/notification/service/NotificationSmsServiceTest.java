@@ -0,0 +1,113 @@
+package com.aicc.silverlink.domain.notification.service;
+
+import com.aicc.silverlink.domain.emergency.entity.SmsLog;
+import com.aicc.silverlink.domain.emergency.repository.SmsLogRepository;
+import com.aicc.silverlink.domain.emergency.service.SmsOutboxService;
+import com.aicc.silverlink.domain.notification.entity.Notification;
+import com.aicc.silverlink.domain.notification.repository.NotificationRepository;
+import com.aicc.silverlink.domain.user.entity.Role;
+import com.aicc.silverlink.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationSmsService 아웃박스 보정 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationSmsServiceTest {
+
+    @Mock
+    private SmsLogRepository smsLogRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SmsOutboxService smsOutboxService;
+
+    @InjectMocks
+    private NotificationSmsService notificationSmsService;
+
+    @Test
+    @DisplayName("보정 - SMS 이력을 한 번에 조회해 발송 완료는 표시, 이력 없음은 재적재, 대기 중은 그대로 둠")
+    void reconcile_LoadsSmsLogsOnceAndResolvesEachNotification() {
+        // given
+        User sentUser = user(1L, "01011110001");
+        User missingUser = user(2L, "01011110002");
+        User pendingUser = user(3L, "01011110003");
+
+        Notification sent = Notification.createInquiryReplyNotification(sentUser, 10L, "문의");
+        Notification missing = Notification.createInquiryReplyNotification(missingUser, 10L, "문의");
+        Notification pending = Notification.createComplaintReplyNotification(pendingUser, 20L, "민원");
+        given(notificationRepository.findPendingSmsNotifications(anyList(), any(LocalDateTime.class),
+                any(LocalDateTime.class))).willReturn(List.of(sent, missing, pending));
+
+        SmsLog sentLog = SmsLog.createForInquiryReply(sentUser, "+821011110001", 10L, "답변", "https://x");
+        sentLog.markSent("SM1");
+        // 최신순 조회 결과이므로 같은 (참조, 수신자)의 이전 실패 이력은 무시됨
+        SmsLog olderFailedLog = SmsLog.createForInquiryReply(sentUser, "+821011110001", 10L, "답변", "https://x");
+        olderFailedLog.markFailed("error");
+        SmsLog pendingLog = SmsLog.createForComplaintReply(pendingUser, "+821011110003", 20L, "답변", "https://x");
+        given(smsLogRepository.findByReferencesOrderByCreatedAtDesc(anyCollection(), anyCollection()))
+                .willReturn(List.of(sentLog, olderFailedLog, pendingLog));
+
+        // when
+        notificationSmsService.reconcilePendingNotifications();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> referenceIds = ArgumentCaptor.forClass(Collection.class);
+        verify(smsLogRepository, times(1)).findByReferencesOrderByCreatedAtDesc(anyCollection(),
+                referenceIds.capture());
+        assertThat(referenceIds.getValue()).containsExactlyInAnyOrder(10L, 20L);
+        verify(smsLogRepository, never()).findByReferenceTypeAndReferenceIdOrderByCreatedAtDesc(anyString(),
+                anyLong());
+
+        assertThat(sent.getSmsSent()).isTrue();
+        assertThat(pending.getSmsSent()).isFalse();
+        assertThat(missing.getSmsSent()).isFalse();
+
+        ArgumentCaptor<SmsLog> enqueued = ArgumentCaptor.forClass(SmsLog.class);
+        verify(smsLogRepository, times(1)).save(enqueued.capture());
+        assertThat(enqueued.getValue().getReceiver()).isSameAs(missingUser);
+        assertThat(enqueued.getValue().getReferenceId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("보정 - 대상 알림이 없으면 SMS 이력을 조회하지 않음")
+    void reconcile_NoPendingNotifications() {
+        // given
+        given(notificationRepository.findPendingSmsNotifications(anyList(), any(LocalDateTime.class),
+                any(LocalDateTime.class))).willReturn(List.of());
+
+        // when
+        notificationSmsService.reconcilePendingNotifications();
+
+        // then
+        verifyNoInteractions(smsLogRepository);
+    }
+
+    private User user(Long id, String phone) {
+        User user = User.createLocal("user" + id, "pw", "사용자" + id, phone, null, Role.GUARDIAN, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
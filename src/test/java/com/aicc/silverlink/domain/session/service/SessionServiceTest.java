@@ -6,15 +6,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -40,15 +44,21 @@ class SessionServiceTest {
     @Mock
     private HashOperations<String, Object, Object> hashOps;
 
-    @InjectMocks
+    private SessionNearCache nearCache;
     private SessionService sessionService;
 
     @BeforeEach
     void setUp() {
+        nearCache = new SessionNearCache(props);
+        sessionService = new SessionService(redis, props, nearCache);
+
         given(redis.opsForValue()).willReturn(valueOps);
         given(redis.opsForHash()).willReturn(hashOps);
         given(props.getIdleTtlSeconds()).willReturn(3600L);
         given(props.getConcurrentPolicy()).willReturn("KICK_OLD");
+        given(props.getTouchRenewRatio()).willReturn(0.1);
+        given(props.getSessionCacheStalenessSeconds()).willReturn(30L);
+        given(props.getSessionCacheMaxEntries()).willReturn(10_000);
     }
 
     // ========== 기존 세션 확인 테스트 ==========
@@ -362,4 +372,146 @@ class SessionServiceTest {
         // then
         assertThat(result).isFalse();
     }
+
+    // ========== 세션 검증 + idle 연장 (단일 왕복) 테스트 ==========
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 스크립트 1회 실행으로 처리")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_SingleRoundTrip() {
+        // given
+        String sid = "active-sid-123";
+        Long userId = 1L;
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), eq(List.of("sess:active-sid-123", "user:1:sid")),
+                eq(sid), anyString(), eq("3600"), anyString())).willReturn(now);
+
+        // when
+        boolean result = sessionService.validateAndTouch(sid, userId);
+
+        // then
+        assertThat(result).isTrue();
+        verify(redis, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        verify(redis, never()).hasKey(anyString());
+        verify(redis, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+        verifyNoInteractions(hashOps, valueOps);
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 만료되었거나 다른 세션으로 대체됨")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_Invalid() {
+        // given
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(0L);
+
+        // when
+        boolean result = sessionService.validateAndTouch("expired-sid-456", 1L);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 연장 주기 안의 반복 요청은 Redis를 거치지 않음")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_CoalescedWithinRenewInterval() {
+        // given (idle 3600초 x 0.1 = 360초 주기)
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(now);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            assertThat(sessionService.validateAndTouch("busy-sid", 1L)).isTrue();
+        }
+
+        // then
+        verify(redis, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        assertThat(nearCache.getStats().hits()).isEqualTo(19);
+        assertThat(nearCache.getStats().hitRatio()).isEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 강제 종료 시 로컬 즉시 반영 후 다른 인스턴스에 전파")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_InvalidatedSessionBroadcast() {
+        // given
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(now);
+        given(hashOps.get("sess:kicked-sid", "userId")).willReturn("1");
+        assertThat(sessionService.validateAndTouch("kicked-sid", 1L)).isTrue();
+
+        // when
+        sessionService.invalidateBySid("kicked-sid");
+        boolean result = sessionService.validateAndTouch("kicked-sid", 1L);
+
+        // then
+        assertThat(result).isFalse();
+        verify(redis).convertAndSend(SessionNearCache.INVALIDATION_CHANNEL, "kicked-sid");
+        verify(redis, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 다른 인스턴스의 무효화 메시지 수신 시 로컬에서 거부")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_RemoteInvalidation() {
+        // given
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(now);
+        assertThat(sessionService.validateAndTouch("remote-sid", 1L)).isTrue();
+
+        // when
+        nearCache.onMessage(new DefaultMessage(
+                SessionNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "remote-sid".getBytes(StandardCharsets.UTF_8)), null);
+        boolean result = sessionService.validateAndTouch("remote-sid", 1L);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(nearCache.getStats().invalidationsReceived()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 신뢰 시간이 지나면 Redis로 다시 확인")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_StalenessBound() {
+        // given (신뢰 시간 0 = near-cache 미사용)
+        given(props.getSessionCacheStalenessSeconds()).willReturn(0L);
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(now);
+
+        // when
+        sessionService.validateAndTouch("sid", 1L);
+        sessionService.validateAndTouch("sid", 1L);
+
+        // then
+        verify(redis, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        assertThat(nearCache.getStats().hits()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - 다른 사용자 ID로는 로컬 기록을 사용하지 않음")
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_LocalRecordBoundToUser() {
+        // given
+        long now = Instant.now().getEpochSecond();
+        given(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(now, 0L);
+        sessionService.validateAndTouch("shared-sid", 1L);
+
+        // when
+        boolean result = sessionService.validateAndTouch("shared-sid", 2L);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션 검증 + 연장 - sid 없으면 Redis 조회 없이 거부")
+    void validateAndTouch_NullSid() {
+        // when
+        boolean result = sessionService.validateAndTouch(null, 1L);
+
+        // then
+        assertThat(result).isFalse();
+        verifyNoInteractions(redis);
+    }
 }
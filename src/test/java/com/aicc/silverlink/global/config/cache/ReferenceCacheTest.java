@@ -0,0 +1,122 @@
+package com.aicc.silverlink.global.config.cache;
+
+import com.aicc.silverlink.domain.map.dto.WelfareFacilityRequest;
+import com.aicc.silverlink.domain.map.entity.WelfareFacility;
+import com.aicc.silverlink.domain.map.entity.WelfareFacilityType;
+import com.aicc.silverlink.domain.map.repository.WelfareFacilityRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조성 엔티티 2차 캐시 동작 검증 (조회마다 별도 세션)
+ */
+@SpringBootTest
+@ActiveProfiles("ci")
+class ReferenceCacheTest {
+
+    @Autowired
+    private WelfareFacilityRepository welfareFacilityRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics stats;
+    private Long facilityId;
+
+    @BeforeEach
+    void setUp() {
+        facilityId = welfareFacilityRepository.save(WelfareFacility.builder()
+                .name("행복노인복지관")
+                .address("서울시 중구")
+                .latitude(37.56)
+                .longitude(126.97)
+                .type(WelfareFacilityType.ELDERLY_WELFARE_CENTER)
+                .build()).getId();
+
+        emf.getCache().evictAll();
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        welfareFacilityRepository.deleteById(facilityId);
+    }
+
+    @Test
+    @DisplayName("두 번째 findById는 DB 대신 2차 캐시에서 조회")
+    void findById_SecondLookupHitsCache() {
+        // when
+        welfareFacilityRepository.findById(facilityId);
+        long statementsAfterFirst = stats.getPrepareStatementCount();
+        WelfareFacility cached = welfareFacilityRepository.findById(facilityId).orElseThrow();
+
+        // then
+        CacheRegionStatistics region = stats.getDomainDataRegionStatistics(CacheRegions.WELFARE_FACILITY);
+        assertThat(cached.getName()).isEqualTo("행복노인복지관");
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+    }
+
+    @Test
+    @DisplayName("관리자 수정 후에는 캐시가 갱신되어 변경된 값을 조회")
+    void update_InvalidatesCachedEntity() {
+        // given
+        welfareFacilityRepository.findById(facilityId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                welfareFacilityRepository.findById(facilityId).orElseThrow()
+                        .update(WelfareFacilityRequest.builder()
+                                .name("사랑노인복지관")
+                                .address("서울시 중구")
+                                .latitude(37.56)
+                                .longitude(126.97)
+                                .type(WelfareFacilityType.ELDERLY_WELFARE_CENTER)
+                                .build()));
+
+        // then
+        assertThat(welfareFacilityRepository.findById(facilityId).orElseThrow().getName())
+                .isEqualTo("사랑노인복지관");
+    }
+
+    @Test
+    @DisplayName("캐시 영역 통계 조회")
+    void regionStats_ReportsEveryRegion(@Autowired ReferenceCacheStats referenceCacheStats) {
+        // given (JCache 통계는 컨텍스트 동안 누적되므로 이전 값 기준으로 비교)
+        long hitsBefore = welfareFacilityStats(referenceCacheStats).hits();
+        welfareFacilityRepository.findById(facilityId);
+        welfareFacilityRepository.findById(facilityId);
+
+        // when & then
+        assertThat(referenceCacheStats.regionStats())
+                .extracting(ReferenceCacheStats.RegionStats::region)
+                .containsAll(CacheRegions.ENTITY_REGIONS)
+                .contains(CacheRegions.QUERY_RESULTS);
+        ReferenceCacheStats.RegionStats after = welfareFacilityStats(referenceCacheStats);
+        assertThat(after.hits() - hitsBefore).isEqualTo(1);
+        assertThat(after.entriesInMemory()).isPositive();
+    }
+
+    private ReferenceCacheStats.RegionStats welfareFacilityStats(ReferenceCacheStats referenceCacheStats) {
+        return referenceCacheStats.regionStats().stream()
+                .filter(r -> r.region().equals(CacheRegions.WELFARE_FACILITY))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,187 @@
+package com.aicc.silverlink.global.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인스턴스 2개(primary/replica)로 라우팅 규칙 검증
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private MutableClock clock;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        ds.setUser("sa");
+        JdbcTemplate init = new JdbcTemplate(ds);
+        init.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        init.execute("DELETE FROM node");
+        init.update("INSERT INTO node VALUES (?)", name);
+        return ds;
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        routing = new ReplicaRoutingDataSource(h2("primary"), h2("replica"), 2000, clock);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(txManager);
+        readTx = new TransactionTemplate(txManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String nodeIn(TransactionTemplate tx) {
+        return tx.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void routesByReadOnly() {
+        assertThat(nodeIn(readTx)).isEqualTo("replica");
+        assertThat(nodeIn(writeTx)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 스레드의 읽기는 primary (read-your-writes), 시간이 지나면 replica")
+    void readYourWrites_SameThread() {
+        // given
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+        // when & then
+        assertThat(nodeIn(readTx)).isEqualTo("primary");
+
+        clock.advance(Duration.ofSeconds(3));
+        assertThat(nodeIn(readTx)).isEqualTo("replica");
+        assertThat(routing.getStats().readYourWritesReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 사용자의 다른 스레드 읽기도 primary")
+    void readYourWrites_SameUser() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(10L, null, List.of()));
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+        // when
+        String sameUser = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(10L, null, List.of()));
+            try {
+                return nodeIn(readTx);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }).get();
+        String otherUser = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(20L, null, List.of()));
+            try {
+                return nodeIn(readTx);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }).get();
+
+        // then
+        assertThat(sameUser).isEqualTo("primary");
+        assertThat(otherUser).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 read-your-writes 대상이 아님")
+    void rollbackDoesNotPin() {
+        // given
+        writeTx.executeWithoutResult(status -> {
+            jdbc.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertThat(nodeIn(readTx)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 장애/지연 초과 시 읽기를 primary로 보내고, 회복되면 replica로 복귀")
+    void fallbackWhenReplicaUnavailable() {
+        // when
+        routing.updateReplicaStatus(false, 0);
+
+        // then
+        assertThat(nodeIn(readTx)).isEqualTo("primary");
+
+        routing.updateReplicaStatus(true, 0);
+        assertThat(nodeIn(readTx)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("측정된 복제 지연이 기본 창보다 길면 read-your-writes 창도 늘어남")
+    void readYourWritesWindowFollowsLag() {
+        // given
+        routing.updateReplicaStatus(true, 4000);
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+        // when
+        clock.advance(Duration.ofSeconds(3));
+
+        // then
+        assertThat(nodeIn(readTx)).isEqualTo("primary");
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(nodeIn(readTx)).isEqualTo("replica");
+    }
+}
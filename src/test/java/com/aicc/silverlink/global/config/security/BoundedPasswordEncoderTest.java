@@ -0,0 +1,119 @@
+package com.aicc.silverlink.global.config.security;
+
+import com.aicc.silverlink.global.exception.AuthOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private ThreadPoolTaskExecutor executor(int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 해시 계산이 latch가 열릴 때까지 멈춰 있는 인코더 (풀 포화 재현용)
+     */
+    private static PasswordEncoder blockingEncoder(CountDownLatch entered, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("해시/검증 - 전용 풀에서 BCrypt 결과를 그대로 반환")
+    void encodeAndMatches() {
+        // given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor(10), 2000);
+
+        // when
+        String hash = encoder.encode("1234");
+
+        // then
+        assertThat(encoder.matches("1234", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.getStats().completed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기열 포화 - 즉시 429로 거절")
+    void rejectWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(entered, release), executor(0), 2000);
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        entered.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("b"))
+                .isInstanceOf(AuthOverloadedException.class)
+                .extracting("status").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(encoder.getStats().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - 계산하지 않고 503으로 거절")
+    void rejectWhenWaitedTooLong() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(entered, release), executor(10), 50);
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(AuthOverloadedException.class);
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(encoder.getStats().timedOut()).isEqualTo(1);
+        assertThat(encoder.getStats().completed()).isEqualTo(1);
+    }
+}
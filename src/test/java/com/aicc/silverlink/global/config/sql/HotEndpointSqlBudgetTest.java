@@ -0,0 +1,136 @@
+package com.aicc.silverlink.global.config.sql;
+
+import com.aicc.silverlink.domain.call.service.CallTestFixtures;
+import com.aicc.silverlink.domain.notice.entity.Notice;
+import com.aicc.silverlink.domain.notice.entity.Notice.NoticeStatus;
+import com.aicc.silverlink.domain.notice.entity.Notice.TargetMode;
+import com.aicc.silverlink.domain.notice.entity.NoticeAttachment;
+import com.aicc.silverlink.domain.notice.entity.NoticeCategory;
+import com.aicc.silverlink.domain.notice.entity.NoticeReadLog;
+import com.aicc.silverlink.domain.notice.entity.NoticeTargetRole;
+import com.aicc.silverlink.domain.user.entity.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자주 호출되는 목록 API의 요청당 SQL 예산 (SqlBudgetInterceptor 요약 기반)
+ * 페이지 크기만큼 데이터를 채운 뒤 쿼리 수 상한과 같은 SQL 반복(N+1) 여부를 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Transactional
+@ActiveProfiles("ci")
+class HotEndpointSqlBudgetTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager em;
+
+    private CallTestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CallTestFixtures(em).setUp().assignCounselor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("상담사 통화 목록 - 상담사 확인 + 목록 + 건수, 통화마다 추가 조회 없음")
+    void counselorCallList_WithinBudget() throws Exception {
+        // given
+        for (int i = 0; i < PAGE_SIZE + 5; i++) {
+            fixtures.completedCall(LocalDateTime.now().minusHours(i));
+        }
+        em.flush();
+        em.clear();
+        mockAuthentication(fixtures.counselor.getId(), Role.COUNSELOR);
+
+        // when & then
+        mockMvc.perform(get("/api/call-reviews/counselor/calls").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(PAGE_SIZE))
+                .andExpect(SqlBudgetMatchers.queryCountAtMost(3))
+                .andExpect(SqlBudgetMatchers.noRepeatedStatements());
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 - 대상 권한/첨부파일/읽음 여부를 공지마다 조회하지 않음")
+    void noticeList_WithinBudget() throws Exception {
+        // given
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Notice notice = notice("공지 " + i, i % 2 == 0 ? TargetMode.ALL : TargetMode.ROLE_SET);
+            if (notice.getTargetMode() == TargetMode.ROLE_SET) {
+                em.persist(NoticeTargetRole.builder().notice(notice).targetRole(Role.ELDERLY).build());
+            }
+            em.persist(NoticeAttachment.builder()
+                    .notice(notice)
+                    .fileName("file-" + i + ".pdf")
+                    .originalFileName("안내문.pdf")
+                    .filePath("notices/file-" + i + ".pdf")
+                    .fileSize(1024L)
+                    .build());
+            if (i < 3) {
+                em.persist(new NoticeReadLog(notice, fixtures.elderly.getUser()));
+            }
+        }
+        em.flush();
+        em.clear();
+        mockAuthentication(fixtures.elderly.getId(), Role.ELDERLY);
+
+        // when & then
+        // 목록 + 건수 + 대상 권한 IN + 첨부파일 IN + 읽음 여부 IN
+        mockMvc.perform(get("/api/notices").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE))
+                .andExpect(SqlBudgetMatchers.queryCountAtMost(5))
+                .andExpect(SqlBudgetMatchers.noRepeatedStatements());
+    }
+
+    private Notice notice(String title, TargetMode targetMode) {
+        Notice notice = Notice.builder()
+                .createdBy(fixtures.admin)
+                .category(NoticeCategory.NOTICE)
+                .targetMode(targetMode)
+                .title(title)
+                .content("내용")
+                .status(NoticeStatus.PUBLISHED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        em.persist(notice);
+        return notice;
+    }
+
+    private void mockAuthentication(Long userId, Role role) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userId, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
@@ -0,0 +1,128 @@
+package com.aicc.silverlink.global.config.sql;
+
+import jakarta.servlet.DispatcherType;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlBudgetInterceptorTest {
+
+    private SqlBudgetProperties properties;
+    private SqlBudgetRegistry registry;
+    private SqlBudgetInterceptor interceptor;
+    private final SqlStatsListener listener = new SqlStatsListener();
+
+    static class SampleController {
+        public void list() {
+        }
+    }
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new SqlBudgetProperties();
+        properties.setDefaultMaxQueries(3);
+        properties.setDuplicateThreshold(3);
+        registry = new SqlBudgetRegistry();
+        interceptor = new SqlBudgetInterceptor(properties, registry);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(2);
+        listener.afterQuery(info, List.of(new QueryInfo(sql)));
+    }
+
+    @Test
+    @DisplayName("요청 SQL 집계 - 반복 SQL(N+1 의심)과 예산 초과를 기록")
+    void recordsDuplicatesAndOverBudget() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        execute("select * from call_records where counselor_id = ?");
+        for (int i = 0; i < 3; i++) {
+            execute("select * from elderly where elderly_id = ?");
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        SqlRequestSummary summary = (SqlRequestSummary) request.getAttribute(SqlBudgetInterceptor.SUMMARY_ATTRIBUTE);
+        assertThat(summary.endpoint()).isEqualTo("SampleController#list");
+        assertThat(summary.queryCount()).isEqualTo(4);
+        assertThat(summary.jdbcMillis()).isEqualTo(8);
+        assertThat(summary.duplicates()).containsEntry("select * from elderly where elderly_id = ?", 3);
+
+        SqlBudgetRegistry.EndpointSqlStats stats = registry.getStats().get(0);
+        assertThat(stats.requests()).isEqualTo(1);
+        assertThat(stats.overBudgetRequests()).isEqualTo(1);
+        assertThat(stats.duplicateRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러 등)에서 실행된 SQL은 집계하지 않음")
+    void ignoresQueriesOutsideRequest() {
+        // when
+        execute("select 1");
+
+        // then
+        assertThat(SqlRequestContext.end()).isNull();
+        assertThat(registry.getStats()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 예산 설정이 기본값보다 우선")
+    void endpointBudgetOverride() {
+        // given
+        properties.getEndpoints().put("SampleController#list", 10);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < 5; i++) {
+            execute("select * from notices where notice_id = " + i);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertThat(registry.getStats().get(0).overBudgetRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 응답 - 핸들러 종료 시 집계를 마치고 ASYNC 재디스패치는 다시 집계하지 않음")
+    void asyncHandling_EndsContextOnRequestThread() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        execute("select * from inquiries where updated_at > ?");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        boolean leaked = SqlRequestContext.end() != null;
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertThat(leaked).isFalse();
+        SqlRequestSummary summary = (SqlRequestSummary) request.getAttribute(SqlBudgetInterceptor.SUMMARY_ATTRIBUTE);
+        assertThat(summary.queryCount()).isEqualTo(1);
+        assertThat(registry.getStats().get(0).requests()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.aicc.silverlink.global.config.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통합 테스트용 SQL 예산 검증 (MockMvc + SqlBudgetInterceptor)
+ *
+ * 사용 예:
+ * mockMvc.perform(get("/api/notices"))
+ *         .andExpect(SqlBudgetMatchers.queryCountAtMost(3))
+ *         .andExpect(SqlBudgetMatchers.noRepeatedStatements());
+ */
+public final class SqlBudgetMatchers {
+
+    private SqlBudgetMatchers() {
+    }
+
+    public static ResultMatcher queryCountAtMost(int maxQueries) {
+        return result -> {
+            SqlRequestSummary summary = summaryOf(result.getRequest().getAttribute(SqlBudgetInterceptor.SUMMARY_ATTRIBUTE));
+            assertThat(summary.queryCount())
+                    .as("%s 쿼리 수 (반복 SQL: %s)", summary.endpoint(), summary.duplicates())
+                    .isLessThanOrEqualTo(maxQueries);
+        };
+    }
+
+    /**
+     * 같은 SQL이 기준 횟수(sql-budget.duplicate-threshold) 이상 반복되지 않아야 함 (N+1 방지)
+     */
+    public static ResultMatcher noRepeatedStatements() {
+        return result -> {
+            SqlRequestSummary summary = summaryOf(result.getRequest().getAttribute(SqlBudgetInterceptor.SUMMARY_ATTRIBUTE));
+            assertThat(summary.duplicates())
+                    .as("%s 반복 실행된 SQL", summary.endpoint())
+                    .isEmpty();
+        };
+    }
+
+    private static SqlRequestSummary summaryOf(Object attribute) {
+        assertThat(attribute)
+                .as("SQL 요약이 없습니다. SqlBudgetInterceptor가 등록된 MockMvc(@AutoConfigureMockMvc)인지 확인하세요.")
+                .isInstanceOf(SqlRequestSummary.class);
+        return (SqlRequestSummary) attribute;
+    }
+}
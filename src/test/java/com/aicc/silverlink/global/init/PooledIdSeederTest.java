@@ -0,0 +1,64 @@
+package com.aicc.silverlink.global.init;
+
+import com.aicc.silverlink.global.common.entity.PooledIds;
+import com.aicc.silverlink.global.init.PooledIdSeeder.Segment;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled ID 생성기 세그먼트가 엔티티 매핑과 일치하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("ci")
+class PooledIdSeederTest {
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("세그먼트 목록을 @TableGenerator 매핑에서 읽어 테이블/ID 컬럼과 함께 반환")
+    void segments_DerivedFromEntityMappings() {
+        // when
+        Map<String, Segment> segments = PooledIdSeeder.segments(emf.getMetamodel());
+
+        // then
+        assertThat(segments)
+                .containsEntry("emergency_alert_recipients", new Segment("emergency_alert_recipients", "recipient_id"))
+                .containsEntry("sms_logs", new Segment("sms_logs", "sms_log_id"))
+                .containsEntry("audit_logs", new Segment("audit_logs", "audit_log_id"))
+                .containsEntry("notifications", new Segment("notifications", "notification_id"))
+                .containsEntry("llm_models", new Segment("llm_models", "model_id"))
+                .containsEntry("elderly_responses", new Segment("elderly_responses", "response_id"));
+    }
+
+    @Test
+    @DisplayName("시작 시 모든 세그먼트의 생성기 값이 기존 최대 ID보다 크게 초기화됨")
+    void seed_InitializesEverySegment() {
+        // given
+        Map<String, Segment> segments = PooledIdSeeder.segments(emf.getMetamodel());
+
+        // then
+        segments.forEach((name, segment) -> {
+            List<Long> nextVal = jdbc.queryForList("SELECT " + PooledIds.VALUE_COLUMN + " FROM " + PooledIds.TABLE
+                    + " WHERE " + PooledIds.PK_COLUMN + " = ?", Long.class, name);
+            Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(" + segment.idColumn() + "), 0) FROM "
+                    + segment.table(), Long.class);
+
+            assertThat(nextVal).as("세그먼트 %s", name).hasSize(1);
+            assertThat(nextVal.get(0)).as("세그먼트 %s", name).isGreaterThan(maxId);
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.aicc.silverlink.global.security.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatbotSecretAuthenticationFilterTest {
+
+    private static final String HEADER = "X-SilverLink-Secret";
+    private static final String KEY = "test-chatbot-key";
+
+    private final ChatbotSecretAuthenticationFilter filter = new ChatbotSecretAuthenticationFilter(HEADER, KEY);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 일치하면 ROLE_CHATBOT으로 인증")
+    void matchingSecret_AuthenticatesAsChatbot() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/data/inquiries/feed");
+        request.addHeader(HEADER, KEY);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_CHATBOT");
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 다르거나 없으면 인증하지 않고 다음 필터로 넘김")
+    void wrongOrMissingSecret_LeavesContextEmpty() throws Exception {
+        // given
+        MockHttpServletRequest wrong = new MockHttpServletRequest("GET", "/api/data/faqs/feed");
+        wrong.addHeader(HEADER, KEY + "x");
+        MockHttpServletRequest missing = new MockHttpServletRequest("GET", "/api/data/faqs/feed");
+        MockFilterChain wrongChain = new MockFilterChain();
+        MockFilterChain missingChain = new MockFilterChain();
+
+        // when
+        filter.doFilter(wrong, new MockHttpServletResponse(), wrongChain);
+        Authentication afterWrong = SecurityContextHolder.getContext().getAuthentication();
+        filter.doFilter(missing, new MockHttpServletResponse(), missingChain);
+
+        // then
+        assertThat(afterWrong).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(wrongChain.getRequest()).isSameAs(wrong);
+        assertThat(missingChain.getRequest()).isSameAs(missing);
+    }
+}
@@ -0,0 +1,103 @@
+package com.aicc.silverlink.global.security.jwt;
+
+import com.aicc.silverlink.domain.user.entity.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-0123456789";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setVerifiedCacheMaxEntries(100);
+        provider = new JwtTokenProvider(props);
+        provider.init();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 검증 - 처음은 파싱, 두 번째부터 캐시 적중")
+    void verifyAccessToken_CachesClaims() {
+        // given
+        String token = provider.createAccessToken(1L, Role.ADMIN, "sid-1", 900);
+
+        // when
+        AccessTokenClaims first = provider.verifyAccessToken(token);
+        AccessTokenClaims second = provider.verifyAccessToken(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.role()).isEqualTo(Role.ADMIN);
+        assertThat(first.sid()).isEqualTo("sid-1");
+        assertThat(second).isSameAs(first);
+
+        VerifiedTokenCache.Stats stats = provider.getVerifiedCacheStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 검증 - 위조된 서명은 캐시되지 않고 예외")
+    void verifyAccessToken_TamperedSignature() {
+        // given
+        String token = provider.createAccessToken(1L, Role.ADMIN, "sid-1", 900);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> provider.verifyAccessToken(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> provider.verifyAccessToken(tampered)).isInstanceOf(JwtException.class);
+        assertThat(provider.getVerifiedCacheStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 검증 - 만료된 토큰은 ExpiredJwtException")
+    void verifyAccessToken_Expired() {
+        // given
+        String token = provider.createAccessToken(1L, Role.ADMIN, "sid-1", -10);
+
+        // when & then
+        assertThatThrownBy(() -> provider.verifyAccessToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - exp가 지난 항목은 적중하지 않음")
+    void cache_ExpiredEntryMisses() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        AccessTokenClaims claims = new AccessTokenClaims(1L, Role.ADMIN, "sid-1", 1_000L);
+        cache.put("d", claims, 900L);
+
+        // when & then
+        assertThat(cache.get("d", 999L)).isSameAs(claims);
+        assertThat(cache.get("d", 1_000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 최대 항목 수 초과 시 만료 항목부터 정리")
+    void cache_BoundedSize() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", new AccessTokenClaims(1L, Role.ADMIN, "a", 100L), 50L);
+        cache.put("b", new AccessTokenClaims(2L, Role.ADMIN, "b", 500L), 50L);
+
+        // when
+        cache.put("c", new AccessTokenClaims(3L, Role.ADMIN, "c", 500L), 200L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", 200L)).isNotNull();
+        assertThat(cache.get("c", 200L)).isNotNull();
+    }
+}
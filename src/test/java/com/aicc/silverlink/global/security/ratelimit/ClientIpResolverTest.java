@@ -0,0 +1,49 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import com.aicc.silverlink.global.config.auth.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private static ClientIpResolver resolver(int trustedProxies) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTrustedProxies(trustedProxies);
+        return new ClientIpResolver(properties);
+    }
+
+    private static MockHttpServletRequest request(String xff, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (xff != null) {
+            request.addHeader("X-Forwarded-For", xff);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시 1개 - 클라이언트가 넣은 앞쪽 hop은 무시하고 프록시가 추가한 hop 사용")
+    void oneTrustedProxy_UsesProxyAddedHop() {
+        // given
+        MockHttpServletRequest spoofed = request("1.1.1.1, 203.0.113.7", "10.0.0.2");
+
+        // when & then
+        assertThat(resolver(1).resolve(spoofed)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시 0개 - 헤더를 무시하고 직접 접속한 주소 사용")
+    void noTrustedProxy_IgnoresHeader() {
+        assertThat(resolver(0).resolve(request("1.1.1.1", "203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("hop이 신뢰 프록시 수보다 적으면 가장 앞의 주소 사용")
+    void fewerHopsThanProxies_UsesFirstHop() {
+        assertThat(resolver(2).resolve(request("203.0.113.7", "10.0.0.2"))).isEqualTo("203.0.113.7");
+        assertThat(resolver(1).resolve(request(null, "203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+}
@@ -0,0 +1,158 @@
+package com.aicc.silverlink.global.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryRateLimiterTest {
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우 - 한도까지 허용 후 거절, 윈도우가 지나면 다시 허용")
+    void window_LimitAndSlide() {
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(clock);
+        Duration window = Duration.ofMinutes(15);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquireWindow("k", 3, window).allowed()).isTrue();
+        }
+        RateLimitDecision denied = limiter.tryAcquireWindow("k", 3, window);
+
+        // then
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterMillis()).isEqualTo(window.toMillis());
+
+        clock.advance(window);
+        assertThat(limiter.tryAcquireWindow("k", 3, window).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우 - reset 후 즉시 허용")
+    void window_Reset() {
+        // given
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(new MutableClock());
+        limiter.tryAcquireWindow("k", 1, Duration.ofMinutes(1));
+
+        // when
+        limiter.reset("k");
+
+        // then
+        assertThat(limiter.tryAcquireWindow("k", 1, Duration.ofMinutes(1)).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 - 용량 1이면 충전 간격 동안 쿨다운")
+    void bucket_Cooldown() {
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(clock);
+        Duration cooldown = Duration.ofSeconds(60);
+
+        // when & then
+        assertThat(limiter.tryAcquireBucket("c", 1, cooldown).allowed()).isTrue();
+
+        clock.advance(Duration.ofSeconds(30));
+        RateLimitDecision denied = limiter.tryAcquireBucket("c", 1, cooldown);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterMillis()).isEqualTo(30_000L);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(limiter.tryAcquireBucket("c", 1, cooldown).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 - 반환한 토큰은 바로 다시 사용 가능하고 용량을 넘지 않음")
+    void bucket_Refund() {
+        // given
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(new MutableClock());
+        Duration cooldown = Duration.ofSeconds(60);
+        limiter.tryAcquireBucket("c", 1, cooldown);
+
+        // when
+        limiter.refundBucket("c", 1);
+        limiter.refundBucket("c", 1);
+
+        // then
+        assertThat(limiter.tryAcquireBucket("c", 1, cooldown).allowed()).isTrue();
+        assertThat(limiter.tryAcquireBucket("c", 1, cooldown).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우 - limit이 0 이하이면 거부")
+    void window_NonPositiveLimit() {
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(new MutableClock());
+
+        assertThatThrownBy(() -> limiter.tryAcquireWindow("k", 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("동시 요청 - 한도를 초과해 허용되지 않음")
+    void window_Concurrent() throws Exception {
+        // given
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(new MutableClock());
+        int threads = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads * 4; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                if (limiter.tryAcquireWindow("login", 10, Duration.ofMinutes(15)).allowed()) {
+                    allowed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+}